@@ -0,0 +1,72 @@
+package fr.custommobs.benchmarks;
+
+import fr.custommobs.managers.BossStatsManager;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enregistrement des dégâts d'un combat de boss (travail de BossStatsManager.recordDamageToBoss une fois
+ * le combat trouvé) et lecture du top, avec des coups répartis au hasard entre les participants
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BossDamageBenchmark {
+
+    private static final int HIT_SEQUENCE = 4096; // Puissance de 2
+
+    @Param({"50"})
+    public int players;
+
+    private BossStatsManager.BossFightStats fight;
+    private Player[] hitters;
+    private double[] damages;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        BukkitFakes.installServer();
+        World world = BukkitFakes.world("boss-" + players);
+        Player[] participants = new Player[players];
+        for (int i = 0; i < players; i++) {
+            participants[i] = BukkitFakes.player(world, i, 64, 0);
+        }
+
+        Random random = new Random(42);
+        hitters = new Player[HIT_SEQUENCE];
+        damages = new double[HIT_SEQUENCE];
+        for (int i = 0; i < HIT_SEQUENCE; i++) {
+            hitters[i] = participants[random.nextInt(players)];
+            damages[i] = 2.0 + random.nextDouble() * 18.0;
+        }
+
+        fight = new BossStatsManager.BossFightStats("ravager_boss", "Benchmark");
+        for (Player participant : participants) {
+            fight.addDamageToBoss(participant, 1.0);
+        }
+    }
+
+    @Benchmark
+    public void recordDamage() {
+        int i = cursor++ & (HIT_SEQUENCE - 1);
+        fight.addDamageToBoss(hitters[i], damages[i]);
+    }
+
+    /**
+     * Lecture faite par /boss top et la sidebar
+     */
+    @Benchmark
+    public List<Map.Entry<UUID, Double>> topTen() {
+        return fight.getTopDamageDealers(10);
+    }
+}
@@ -0,0 +1,160 @@
+package fr.custommobs.benchmarks;
+
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Faux objets Bukkit pour exécuter les benchmarks sans serveur.
+ * Server, World et Player sont des proxys dynamiques qui ne répondent qu'aux méthodes utilisées par le code mesuré ;
+ * les autres renvoient la valeur par défaut de leur type (null, 0, false).
+ * Un seul serveur par JVM : les benchmarks créent chacun leur propre monde.
+ */
+public final class BukkitFakes {
+
+    private static final Object UNHANDLED = new Object();
+    private static final Logger LOGGER = Logger.getLogger("BenchmarkServer");
+    private static final List<Player> ONLINE_PLAYERS = new ArrayList<>();
+    private static final Collection<Player> ONLINE_VIEW = Collections.unmodifiableList(ONLINE_PLAYERS);
+
+    private static int currentTick;
+    private static boolean installed;
+
+    private BukkitFakes() {
+    }
+
+    /**
+     * Installe le faux serveur derrière Bukkit.getServer(). Sans effet s'il est déjà installé.
+     * Le champ est écrit directement : Bukkit.setServer() affiche les informations de build, absentes hors serveur.
+     */
+    public static synchronized void installServer() {
+        if (installed) return;
+
+        Server server = proxy(Server.class, "BenchmarkServer", (method, args) -> switch (method) {
+            case "getCurrentTick" -> currentTick;
+            case "getOnlinePlayers" -> ONLINE_VIEW;
+            case "getLogger" -> LOGGER;
+            case "getName", "getVersion", "getBukkitVersion" -> "benchmark";
+            default -> UNHANDLED;
+        });
+        try {
+            Field field = Bukkit.class.getDeclaredField("server");
+            field.setAccessible(true);
+            field.set(null, server);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Impossible d'installer le faux serveur", e);
+        }
+        installed = true;
+    }
+
+    /**
+     * Passe au tick suivant (invalide les caches reconstruits une fois par tick)
+     */
+    public static void nextTick() {
+        currentTick++;
+    }
+
+    /**
+     * Monde vide de hauteur standard (-64 à 320)
+     */
+    public static World world(String name) {
+        UUID worldId = UUID.nameUUIDFromBytes(name.getBytes());
+        World[] self = new World[1];
+        self[0] = proxy(World.class, name, (method, args) -> switch (method) {
+            case "getUID" -> worldId;
+            case "getName" -> name;
+            case "getMinHeight" -> -64;
+            case "getMaxHeight" -> 320;
+            case "getPlayers" -> {
+                List<Player> players = new ArrayList<>();
+                for (Player player : ONLINE_PLAYERS) {
+                    if (player.getWorld() == self[0]) players.add(player);
+                }
+                yield players;
+            }
+            default -> UNHANDLED;
+        });
+        return self[0];
+    }
+
+    /**
+     * Joueur en survie, immobile à la position donnée, ajouté aux joueurs en ligne
+     */
+    public static Player player(World world, double x, double y, double z) {
+        UUID playerId = UUID.randomUUID();
+        String name = "Player" + ONLINE_PLAYERS.size();
+        Player player = proxy(Player.class, name, (method, args) -> switch (method) {
+            case "getUniqueId" -> playerId;
+            case "getName" -> name;
+            case "getWorld" -> world;
+            case "getLocation" -> new Location(world, x, y, z); // Copie, comme le vrai serveur
+            case "getGameMode" -> GameMode.SURVIVAL;
+            case "isOnline", "isValid" -> true;
+            default -> UNHANDLED;
+        });
+        ONLINE_PLAYERS.add(player);
+        return player;
+    }
+
+    /**
+     * Gabarit de loot : jamais modifié par le code mesuré, clone() le renvoie tel quel
+     */
+    public static ItemStack item() {
+        return new TemplateItem();
+    }
+
+    private static final class TemplateItem extends ItemStack {
+        @Override
+        public ItemStack clone() {
+            return this;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Answer {
+        Object answer(String method, Object[] args);
+    }
+
+    private static <T> T proxy(Class<T> type, String name, Answer answer) {
+        InvocationHandler handler = (self, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> self == args[0];
+                    case "hashCode" -> System.identityHashCode(self);
+                    default -> name;
+                };
+            }
+            Object result = answer.answer(method.getName(), args);
+            return result != UNHANDLED ? result : defaultValue(method);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object defaultValue(Method method) {
+        Class<?> type = method.getReturnType();
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0f;
+        return 0d;
+    }
+}
@@ -0,0 +1,43 @@
+package fr.custommobs.benchmarks;
+
+import fr.custommobs.events.EventConfigManager;
+import fr.custommobs.events.EventConfigManager.EventLocationConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tirage pondéré d'une zone d'événement (EventConfigManager.getWeightedRandomLocation)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventLocationBenchmark {
+
+    @Param({"5", "50"})
+    public int locations;
+
+    private List<EventLocationConfig> configs;
+    private SplittableRandom random;
+
+    @Setup
+    public void setup() {
+        configs = new ArrayList<>(locations);
+        for (int i = 0; i < locations; i++) {
+            configs.add(new EventLocationConfig("zone_" + i, "world", i * 100, 64, 0, 30, 40, 90,
+                    1 + i % 7, null, null));
+        }
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public EventLocationConfig pickWeighted() {
+        return EventConfigManager.pickWeighted(configs, random);
+    }
+}
@@ -0,0 +1,56 @@
+package fr.custommobs.benchmarks;
+
+import fr.custommobs.managers.LootManager;
+import fr.custommobs.managers.LootTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tirage des loots d'une mort (partie calcul de LootManager.dropLoots) : entrées garanties, bonus et pondérées
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LootTableBenchmark {
+
+    @Param({"4", "16", "64"})
+    public int entries;
+
+    @Param({"1", "3"})
+    public int rolls;
+
+    private LootTable table;
+    private SplittableRandom random;
+
+    @Setup
+    public void setup() {
+        BukkitFakes.installServer();
+
+        // Un quart d'entrées pondérées, une garantie, le reste en chances de 1 à 50 %
+        List<LootManager.LootEntry> lootEntries = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            if (i % 4 == 3) {
+                lootEntries.add(new LootManager.LootEntry(BukkitFakes.item(), 0.0, 1 + i));
+            } else if (i == 0) {
+                lootEntries.add(new LootManager.LootEntry(BukkitFakes.item(), 1.0));
+            } else {
+                lootEntries.add(new LootManager.LootEntry(BukkitFakes.item(), 0.01 + (i % 50) / 100.0));
+            }
+        }
+        table = LootTable.compile(lootEntries, rolls, 1.0);
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public int roll(Blackhole blackhole) {
+        return table.roll(random, blackhole::consume);
+    }
+}
@@ -0,0 +1,66 @@
+package fr.custommobs.benchmarks;
+
+import fr.custommobs.managers.PlayerSpatialIndex;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recherche du joueur le plus proche pour chaque monstre : 200 monstres, 150 joueurs sur 512x512 blocs.
+ * Une opération = une requête ; "tickWithRebuild" inclut la reconstruction de l'index au changement de tick.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NearestPlayerBenchmark {
+
+    private static final int MOBS = 200;
+    private static final int PLAYERS = 150;
+    private static final int AREA = 512;
+    private static final double SEARCH_RADIUS = 24.0;
+
+    private PlayerSpatialIndex index;
+    private Location[] mobs;
+
+    @Setup
+    public void setup() {
+        BukkitFakes.installServer();
+        World world = BukkitFakes.world("nearest");
+        Random random = new Random(42);
+        for (int i = 0; i < PLAYERS; i++) {
+            BukkitFakes.player(world, random.nextDouble() * AREA, 64, random.nextDouble() * AREA);
+        }
+        mobs = new Location[MOBS];
+        for (int i = 0; i < MOBS; i++) {
+            mobs[i] = new Location(world, random.nextDouble() * AREA, 64, random.nextDouble() * AREA);
+        }
+        index = new PlayerSpatialIndex();
+    }
+
+    /**
+     * Requêtes d'un même tick : l'index n'est construit qu'une fois
+     */
+    @Benchmark
+    @OperationsPerInvocation(MOBS)
+    public void sameTick(Blackhole blackhole) {
+        for (Location mob : mobs) {
+            blackhole.consume(index.getNearest(mob, SEARCH_RADIUS));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOBS)
+    public void tickWithRebuild(Blackhole blackhole) {
+        BukkitFakes.nextTick();
+        for (Location mob : mobs) {
+            blackhole.consume(index.getNearest(mob, SEARCH_RADIUS));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package fr.custommobs.benchmarks;
+
+import fr.custommobs.managers.SpawnSurfaceIndex;
+import fr.custommobs.managers.SpawnZoneSnapshot;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recherche d'emplacements de spawn : indexation d'un chunk et tirage d'une cellule loin des joueurs,
+ * sur un terrain synthétique (relief, piliers, sol dangereux) de 128x128 colonnes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpawnSurfaceBenchmark {
+
+    private static final int ZONE_SIZE = 128;
+    private static final int MIN_Y = 40, MAX_Y = 80;
+    private static final double MIN_PLAYER_DISTANCE_SQUARED = 12 * 12;
+
+    /**
+     * Sol entre y=60 et y=64, quelques blocs dangereux, un pilier de 3 blocs toutes les 11 colonnes
+     */
+    private static final SpawnSurfaceIndex.BlockView TERRAIN = (x, y, z) -> {
+        int ground = 60 + Math.floorMod(x * 7 + z * 13, 5);
+        if (y < ground) {
+            return Math.floorMod(x * 31 + z * 17, 23) == 0 ? SpawnSurfaceIndex.SOLID_UNSAFE : SpawnSurfaceIndex.SOLID_SAFE;
+        }
+        if (Math.floorMod(x, 11) == 0 && Math.floorMod(z, 11) == 0 && y < ground + 3) {
+            return SpawnSurfaceIndex.BLOCKING;
+        }
+        return SpawnSurfaceIndex.CLEAR;
+    };
+
+    @Param({"0", "20"})
+    public int players;
+
+    private SpawnSurfaceIndex index;
+    private SpawnZoneSnapshot snapshot;
+    private Random random;
+    private byte twoBlocksMask;
+
+    @Setup
+    public void setup() {
+        BukkitFakes.installServer();
+        World world = BukkitFakes.world("spawn-" + players);
+        Random placement = new Random(7);
+        for (int i = 0; i < players; i++) {
+            BukkitFakes.player(world, placement.nextInt(ZONE_SIZE), 64, placement.nextInt(ZONE_SIZE));
+        }
+
+        index = new SpawnSurfaceIndex(0, MIN_Y, 0, ZONE_SIZE - 1, MAX_Y, ZONE_SIZE - 1);
+        index.updateRegion(TERRAIN, 0, 0, ZONE_SIZE - 1, ZONE_SIZE - 1);
+        snapshot = SpawnZoneSnapshot.capture("bench", index, world);
+        random = new Random(42);
+        twoBlocksMask = SpawnSurfaceIndex.maskFor(2);
+    }
+
+    @Benchmark
+    public int findCell() {
+        return snapshot.findCell(twoBlocksMask, 10, MIN_PLAYER_DISTANCE_SQUARED, random);
+    }
+
+    /**
+     * Réindexation d'un chunk complet, comme au chargement d'un chunk de la zone
+     */
+    @Benchmark
+    public int indexChunk() {
+        index.updateRegion(TERRAIN, 32, 32, 47, 47);
+        return index.size();
+    }
+}
@@ -1,31 +1,52 @@
 package fr.custommobs;
 
 import fr.custommobs.api.PrisonTycoonHook;
+import fr.custommobs.commands.BossCommand;
 import fr.custommobs.commands.EventAdminCommand;
 import fr.custommobs.commands.EventCommand;
 import fr.custommobs.commands.LootConfigCommand;
+import fr.custommobs.commands.ProfileCommand;
 import fr.custommobs.commands.SpawnMobCommand;
 import fr.custommobs.events.EventConfigManager;
 import fr.custommobs.events.EventListener;
 import fr.custommobs.events.EventScheduler;
+import fr.custommobs.listeners.BossBarListener;
 import fr.custommobs.listeners.BossStatsListener;
+import fr.custommobs.listeners.EntityDeathDispatcher;
+import fr.custommobs.listeners.MobCensusListener;
 import fr.custommobs.listeners.MobControlListener;
+import fr.custommobs.listeners.MobRegistryListener;
 import fr.custommobs.listeners.MobSpawnListener;
 import fr.custommobs.listeners.MonsterDamageListener;
+import fr.custommobs.listeners.SpawnZoneListener;
+import fr.custommobs.listeners.ZoneActivityListener;
 import fr.custommobs.managers.*;
+import fr.custommobs.managers.MobDescriptor.Persistence;
+import fr.custommobs.managers.MobDescriptor.Tier;
 import fr.custommobs.mobs.advanced.*;
 import fr.custommobs.mobs.simple.*;
 import fr.custommobs.mobs.boss.*;
+import org.bukkit.boss.BarColor;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public final class CustomMobsPlugin extends JavaPlugin {
 
     private static CustomMobsPlugin instance;
     private CustomMobManager mobManager;
+    private MobCensusManager mobCensusManager;
+    private EntityCapManager entityCapManager;
+    private MobRegistry mobRegistry;
+    private ConfigPersistence configPersistence;
+    private TickProfiler profiler;
+    private LoadGovernor loadGovernor;
+    private MobBehaviorScheduler behaviorScheduler;
+    private PlayerSpatialIndex playerIndex;
+    private ZoneSpatialIndex zoneIndex;
     private LootManager lootManager;
     private SpawnManager spawnManager;
     private BossBarManager bossBarManager;
     private BossStatsManager bossStatsManager;
+    private BossScoreboardManager bossScoreboardManager;
     private PrisonTycoonHook prisonTycoonHook;
     private EventScheduler eventScheduler;
     private EventConfigManager eventconfigManager;
@@ -44,6 +65,7 @@ public final class CustomMobsPlugin extends JavaPlugin {
 
         // Enregistre les monstres
         registerMobs();
+        mobManager.restoreLoadedMobs();
 
         // Enregistre les commandes
         registerCommands();
@@ -68,41 +90,83 @@ public final class CustomMobsPlugin extends JavaPlugin {
         if (bossBarManager != null) {
             bossBarManager.cleanup();
         }
+        if (bossScoreboardManager != null) {
+            bossScoreboardManager.shutdown();
+        }
+        if (bossStatsManager != null) {
+            bossStatsManager.shutdown();
+        }
+        if (behaviorScheduler != null) {
+            behaviorScheduler.shutdown();
+        }
+        if (loadGovernor != null) {
+            loadGovernor.shutdown();
+        }
+        if (profiler != null) {
+            profiler.shutdown();
+        }
+        if (configPersistence != null) {
+            configPersistence.shutdown(); // En dernier : termine les sauvegardes demandées ci-dessus
+        }
 
         getLogger().info("CustomMobs plugin désactivé!");
     }
 
     private void initializeManagers() {
+        configPersistence = new ConfigPersistence(this);
+        profiler = new TickProfiler(this);
+        zoneIndex = new ZoneSpatialIndex();
         eventconfigManager = new EventConfigManager(this);
+        mobCensusManager = new MobCensusManager(this);
+        entityCapManager = new EntityCapManager();
+        mobRegistry = new MobRegistry();
+        behaviorScheduler = new MobBehaviorScheduler(this);
+        loadGovernor = new LoadGovernor(this);
+        playerIndex = new PlayerSpatialIndex();
         mobManager = new CustomMobManager(this);
         lootManager = new LootManager(this);
         spawnManager = new SpawnManager(this);
         bossBarManager = new BossBarManager(this);
         bossStatsManager = new BossStatsManager(this);
+        bossScoreboardManager = new BossScoreboardManager(this);
         eventScheduler = new EventScheduler(this);
 
     }
 
     private void registerMobs() {
         // Monstres simples
-        mobManager.registerMob("zombie_warrior", ZombieWarrior.class);
-        mobManager.registerMob("skeleton_archer", SkeletonArcher.class);
-        mobManager.registerMob("spider_venomous", SpiderVenomous.class);
-        mobManager.registerMob("creeper_explosive", CreeperExplosive.class);
-        mobManager.registerMob("enderman_shadow", EndermanShadow.class);
-        mobManager.registerMob("witch_cursed", WitchCursed.class);
-        mobManager.registerMob("golem_stone", GolemStone.class);
-        mobManager.registerMob("lutin_treasure", LutinTreasure.class);
+        mobManager.registerMob("zombie_warrior", ZombieWarrior::new,
+                new MobDescriptor(Tier.SIMPLE, "§c§lGuerrier Zombie", 15, 25, BarColor.WHITE, Persistence.DEFAULT));
+        mobManager.registerMob("skeleton_archer", SkeletonArcher::new,
+                new MobDescriptor(Tier.SIMPLE, "§c§lArcher Infernal", 15, 25, BarColor.WHITE, Persistence.DEFAULT));
+        mobManager.registerMob("spider_venomous", SpiderVenomous::new,
+                new MobDescriptor(Tier.SIMPLE, "§2§lTisseuse Malsaine", 15, 25, BarColor.WHITE, Persistence.DEFAULT));
+        mobManager.registerMob("creeper_explosive", CreeperExplosive::new,
+                new MobDescriptor(Tier.SIMPLE, "§4§lDétonateur Ambulant", 15, 25, BarColor.WHITE, Persistence.DEFAULT));
+        mobManager.registerMob("enderman_shadow", EndermanShadow::new,
+                new MobDescriptor(Tier.SIMPLE, "§5§lSpectre des Ténèbres", 15, 25, BarColor.WHITE, Persistence.DEFAULT));
+        mobManager.registerMob("witch_cursed", WitchCursed::new,
+                new MobDescriptor(Tier.SIMPLE, "§5§lSorcière Néfaste", 15, 25, BarColor.WHITE, Persistence.DEFAULT));
+        mobManager.registerMob("golem_stone", GolemStone::new,
+                new MobDescriptor(Tier.SIMPLE, "§8§lGardien Tellurique", 15, 25, BarColor.WHITE, Persistence.DEFAULT));
+        mobManager.registerMob("lutin_treasure", LutinTreasure::new,
+                new MobDescriptor(Tier.SIMPLE, "§6§lLutin Trésorier", 10, 10, BarColor.YELLOW, Persistence.DEFAULT));
 
         // Monstres avancés
-        mobManager.registerMob("dragon_fire", DragonFire.class);
-        mobManager.registerMob("necromancer_dark", NecromancerDark.class);
-        mobManager.registerMob("geode_aberration", GeodeAberration.class);
+        mobManager.registerMob("dragon_fire", DragonFire::new,
+                new MobDescriptor(Tier.ADVANCED, "§4§lDrake Cendré", 50, 80, BarColor.RED, Persistence.PERSISTENT));
+        mobManager.registerMob("necromancer_dark", NecromancerDark::new,
+                new MobDescriptor(Tier.ADVANCED, "§5§lArchiliche", 50, 80, BarColor.PURPLE, Persistence.PERSISTENT));
+        mobManager.registerMob("geode_aberration", GeodeAberration::new,
+                new MobDescriptor(Tier.ADVANCED, "§d§lAberration Géodique", 10, 10, BarColor.PINK, Persistence.DEFAULT));
 
         // Boss
-        mobManager.registerMob("wither_boss", WitherBoss.class);
-        mobManager.registerMob("warden_boss", WardenBoss.class);
-        mobManager.registerMob("ravager_boss", RavagerBoss.class);
+        mobManager.registerMob("wither_boss", WitherBoss::new,
+                new MobDescriptor(Tier.BOSS, "§5§lArchliche Nécrosis", 10, 10, BarColor.PURPLE, Persistence.PERSISTENT));
+        mobManager.registerMob("warden_boss", WardenBoss::new,
+                new MobDescriptor(Tier.BOSS, "§0§lGardien des Abysses", 10, 10, BarColor.BLUE, Persistence.PERSISTENT));
+        mobManager.registerMob("ravager_boss", RavagerBoss::new,
+                new MobDescriptor(Tier.BOSS, "§c§lDévastateur Primordial", 10, 10, BarColor.RED, Persistence.PERSISTENT));
     }
 
     private void registerCommands() {
@@ -110,15 +174,28 @@ public final class CustomMobsPlugin extends JavaPlugin {
         getCommand("spawnmob").setExecutor(new SpawnMobCommand(this));
         getCommand("eventadmin").setExecutor(new EventAdminCommand(this));
         getCommand("event").setExecutor(new EventCommand(this));
+        getCommand("boss").setExecutor(new BossCommand(this));
+        getCommand("cmprofile").setExecutor(new ProfileCommand(this));
 
     }
 
     private void registerListeners() {
-        getServer().getPluginManager().registerEvents(new MobSpawnListener(this), this);
-        getServer().getPluginManager().registerEvents(new MobControlListener(this), this);
-        getServer().getPluginManager().registerEvents(new MonsterDamageListener(), this);
-        getServer().getPluginManager().registerEvents(new BossStatsListener(this), this);
-        getServer().getPluginManager().registerEvents(new EventListener(this, eventScheduler), this);
+        // Chaque handler est mesuré par le profileur (voir TickProfiler)
+        // Morts d'entités : un seul listener, les autres y enregistrent leurs handlers par rôle
+        EntityDeathDispatcher deathDispatcher = new EntityDeathDispatcher();
+
+        profiler.registerEvents(new MobCensusListener(this));
+        profiler.registerEvents(new MobSpawnListener(this, deathDispatcher));
+        profiler.registerEvents(new MobControlListener(this));
+        profiler.registerEvents(new SpawnZoneListener(this));
+        profiler.registerEvents(new ZoneActivityListener(this));
+        profiler.registerEvents(new MonsterDamageListener());
+        profiler.registerEvents(new BossStatsListener(this, deathDispatcher));
+        profiler.registerEvents(new BossBarListener(this));
+        profiler.registerEvents(new EventListener(this, eventScheduler, deathDispatcher));
+        profiler.registerEvents(deathDispatcher);
+        // En dernier : les autres handlers de mort doivent encore voir la fiche du monstre
+        profiler.registerEvents(new MobRegistryListener(this));
 
     }
 
@@ -131,6 +208,42 @@ public final class CustomMobsPlugin extends JavaPlugin {
         return mobManager;
     }
 
+    public MobCensusManager getMobCensusManager() {
+        return mobCensusManager;
+    }
+
+    public EntityCapManager getEntityCapManager() {
+        return entityCapManager;
+    }
+
+    public MobRegistry getMobRegistry() {
+        return mobRegistry;
+    }
+
+    public MobBehaviorScheduler getBehaviorScheduler() {
+        return behaviorScheduler;
+    }
+
+    public LoadGovernor getLoadGovernor() {
+        return loadGovernor;
+    }
+
+    public PlayerSpatialIndex getPlayerIndex() {
+        return playerIndex;
+    }
+
+    public ZoneSpatialIndex getZoneIndex() {
+        return zoneIndex;
+    }
+
+    public ConfigPersistence getConfigPersistence() {
+        return configPersistence;
+    }
+
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
     public LootManager getLootManager() {
         return lootManager;
     }
@@ -147,6 +260,10 @@ public final class CustomMobsPlugin extends JavaPlugin {
         return bossStatsManager;
     }
 
+    public BossScoreboardManager getBossScoreboardManager() {
+        return bossScoreboardManager;
+    }
+
     public PrisonTycoonHook getPrisonTycoonHook() {
         return prisonTycoonHook;
     }
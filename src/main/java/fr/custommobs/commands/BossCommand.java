@@ -0,0 +1,120 @@
+package fr.custommobs.commands;
+
+import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.BossStatsManager;
+import org.bukkit.Bukkit;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Commande /boss pour les joueurs
+ * Classement en direct des dégâts infligés aux boss en cours de combat
+ */
+public class BossCommand implements CommandExecutor, TabCompleter {
+
+    private static final int TOP_SIZE = 10;
+    private static final int SUMMARY_SIZE = 3;
+
+    private final CustomMobsPlugin plugin;
+
+    public BossCommand(CustomMobsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage("§6§l[BOSS] §cCette commande ne peut être utilisée que par un joueur!");
+            return true;
+        }
+
+        String subCommand = args.length > 0 ? args[0].toLowerCase() : "top";
+        switch (subCommand) {
+            case "top" -> showTop(player);
+            case "sidebar" -> {
+                boolean shown = plugin.getBossScoreboardManager().toggle(player);
+                player.sendMessage(shown ? "§6§l[BOSS] §aClassement affiché sur le côté."
+                        : "§6§l[BOSS] §7Classement latéral masqué.");
+            }
+            default -> player.sendMessage("§6§l[BOSS] §cUsage: §e/boss <top|sidebar>");
+        }
+        return true;
+    }
+
+    /**
+     * Top du combat auquel participe le joueur, sinon un résumé de tous les combats en cours
+     */
+    private void showTop(Player player) {
+        BossStatsManager bossStatsManager = plugin.getBossStatsManager();
+        BossStatsManager.BossFightStats fight = bossStatsManager.getActiveFightOf(player.getUniqueId());
+
+        if (fight != null) {
+            player.sendMessage("");
+            player.sendMessage("§6§l🏆 TOP DÉGÂTS §7- " + fight.bossName);
+            sendRanking(player, fight, TOP_SIZE);
+
+            int rank = fight.getDamageRank(player.getUniqueId());
+            if (rank > TOP_SIZE) {
+                player.sendMessage(String.format("§7Votre rang: §e#%d §7(§c%.1f §7dégâts)",
+                        rank, fight.getDamageToBoss(player.getUniqueId())));
+            }
+            player.sendMessage("");
+            return;
+        }
+
+        Collection<BossStatsManager.BossFightStats> fights = bossStatsManager.getActiveFights();
+        if (fights.isEmpty()) {
+            player.sendMessage("§6§l[BOSS] §7Aucun combat de boss en cours.");
+            return;
+        }
+
+        player.sendMessage("");
+        for (BossStatsManager.BossFightStats activeFight : fights) {
+            player.sendMessage("§6§l» " + activeFight.bossName + " §7(" + activeFight.getParticipantCount() + " participants)");
+            sendRanking(player, activeFight, SUMMARY_SIZE);
+        }
+        player.sendMessage("");
+    }
+
+    private void sendRanking(Player player, BossStatsManager.BossFightStats fight, int size) {
+        List<Map.Entry<UUID, Double>> top = fight.getTopDamageDealers(size);
+        if (top.isEmpty()) {
+            player.sendMessage("§7  Personne n'a encore touché le boss");
+            return;
+        }
+
+        double seconds = Math.max(1.0, fight.getDuration() / 1000.0);
+        for (int i = 0; i < top.size(); i++) {
+            Map.Entry<UUID, Double> entry = top.get(i);
+            Player dealer = Bukkit.getPlayer(entry.getKey());
+            String name = dealer != null ? dealer.getName() : "Joueur Déconnecté";
+            String color = entry.getKey().equals(player.getUniqueId()) ? "§a§l" : "§f";
+
+            player.sendMessage(String.format("§e  %d. %s%s §7- §c%.1f §7dégâts (§e%.1f DPS§7)",
+                    i + 1, color, name, entry.getValue(), entry.getValue() / seconds));
+        }
+    }
+
+    @Override
+    public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        List<String> completions = new ArrayList<>();
+
+        if (args.length == 1) {
+            completions = List.of("top", "sidebar").stream()
+                    .filter(s -> s.startsWith(args[0].toLowerCase()))
+                    .collect(Collectors.toList());
+        }
+
+        return completions;
+    }
+}
@@ -149,6 +149,7 @@ public class EventAdminCommand implements CommandExecutor, TabCompleter {
             // Recharger la config
             plugin.reloadConfig();
             plugin.getConfigManager().loadEventSchedules();
+            plugin.getLootManager().compileLootTables(); // Le multiplicateur de chance a pu changer
 
             sender.sendMessage("§a§l[ÉVÉNEMENTS] §aConfiguration rechargée avec succès!");
             plugin.getLogger().info("§6[ADMIN] " + sender.getName() + " a rechargé la configuration des événements");
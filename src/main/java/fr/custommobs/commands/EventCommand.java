@@ -4,15 +4,21 @@ import fr.custommobs.CustomMobsPlugin;
 import fr.custommobs.events.EventScheduler;
 import fr.custommobs.events.types.GangWarEvent;
 import fr.custommobs.events.types.ServerEvent;
+import fr.custommobs.managers.BossFightHistory;
+import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -21,6 +27,10 @@ import java.util.stream.Collectors;
  */
 public class EventCommand implements CommandExecutor, TabCompleter {
 
+    private static final int STATS_LIMIT = 5;
+    private static final DateTimeFormatter STATS_DATE_FORMAT =
+            DateTimeFormatter.ofPattern("dd/MM HH:mm").withZone(ZoneId.systemDefault());
+
     private final CustomMobsPlugin plugin;
     private final EventScheduler eventScheduler;
 
@@ -44,6 +54,7 @@ public class EventCommand implements CommandExecutor, TabCompleter {
         return switch (args[0].toLowerCase()) {
             case "gangwar" -> handleGangWar(player);
             case "list" -> showActiveEvents(player);
+            case "stats" -> handleStats(player, args);
             case "help" -> showHelp(player);
             default -> {
                 player.sendMessage("§c§l[ÉVÉNEMENT] §cCommande inconnue. Utilisez §e/event help §cpour l'aide.");
@@ -144,6 +155,68 @@ public class EventCommand implements CommandExecutor, TabCompleter {
         player.sendMessage("§4§l⚔═══════════════════════════════════⚔");
     }
 
+    /**
+     * /event stats [boss <mobId> | event <eventId>] : derniers combats de boss lus dans l'historique
+     */
+    private boolean handleStats(Player player, String[] args) {
+        BossFightHistory history = plugin.getBossStatsManager().getHistory();
+        CompletableFuture<List<BossFightHistory.FightRecord>> query;
+        String title;
+
+        if (args.length >= 3 && args[1].equalsIgnoreCase("boss")) {
+            query = history.findByMob(args[2].toLowerCase(), STATS_LIMIT);
+            title = "COMBATS CONTRE " + args[2].toUpperCase();
+        } else if (args.length >= 3 && args[1].equalsIgnoreCase("event")) {
+            query = history.findByEvent(args[2], STATS_LIMIT);
+            title = "COMBATS DE L'ÉVÉNEMENT " + args[2];
+        } else if (args.length == 1) {
+            query = history.findByPlayer(player.getUniqueId(), STATS_LIMIT);
+            title = "VOS DERNIERS COMBATS";
+        } else {
+            player.sendMessage("§c§l[ÉVÉNEMENT] §cUsage: §e/event stats [boss <id> | event <id>]");
+            return true;
+        }
+
+        // La lecture se fait hors du thread principal, l'affichage y revient
+        query.whenComplete((fights, error) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            if (!player.isOnline()) return;
+            if (error != null) {
+                plugin.getLogger().warning("Lecture de l'historique des boss impossible: " + error.getMessage());
+                player.sendMessage("§c§l[ÉVÉNEMENT] §cL'historique est indisponible pour le moment.");
+                return;
+            }
+            showFightHistory(player, title, fights);
+        }));
+        return true;
+    }
+
+    private void showFightHistory(Player player, String title, List<BossFightHistory.FightRecord> fights) {
+        player.sendMessage("");
+        player.sendMessage("§6§l═══════════════════════════════════");
+        player.sendMessage("§6§l   " + title);
+        player.sendMessage("§6§l═══════════════════════════════════");
+
+        if (fights.isEmpty()) {
+            player.sendMessage("§7Aucun combat enregistré.");
+            return;
+        }
+
+        for (BossFightHistory.FightRecord fight : fights) {
+            String date = STATS_DATE_FORMAT.format(Instant.ofEpochMilli(fight.endTime()));
+            player.sendMessage("§a§l» " + fight.bossName() + " §7(" + date + ")");
+            player.sendMessage("  §7Résultat: " + (fight.victory() ? "§2Victoire" : "§cDéfaite")
+                    + " §7| Durée: §f" + formatDuration((int) (fight.getDuration() / 1000))
+                    + " §7| Participants: §f" + fight.participants().size());
+
+            BossFightHistory.ParticipantRecord self = fight.getParticipant(player.getUniqueId());
+            if (self != null) {
+                player.sendMessage(String.format("  §7Vous: §c%.1f §7dégâts infligés, §c%.1f §7subis, §f%d §7mort(s)",
+                        self.damageToBoss(), self.damageFromBoss(), self.deaths()));
+            }
+        }
+        player.sendMessage("");
+    }
+
     private boolean showActiveEvents(Player player) {
         var activeEvents = eventScheduler.getActiveEvents();
 
@@ -185,6 +258,7 @@ public class EventCommand implements CommandExecutor, TabCompleter {
         player.sendMessage("§e§l/event §7- Affiche les événements actifs");
         player.sendMessage("§e§l/event list §7- Liste tous les événements actifs");
         player.sendMessage("§e§l/event gangwar §7- Scores de la guerre des gangs");
+        player.sendMessage("§e§l/event stats [boss <id> | event <id>] §7- Historique des combats de boss");
         player.sendMessage("§e§l/event help §7- Affiche cette aide");
         player.sendMessage("");
         player.sendMessage("§7§lÉVÉNEMENTS DISPONIBLES:");
@@ -244,10 +318,14 @@ public class EventCommand implements CommandExecutor, TabCompleter {
         List<String> completions = new ArrayList<>();
 
         if (args.length == 1) {
-            List<String> options = List.of("gangwar", "list", "help");
+            List<String> options = List.of("gangwar", "list", "stats", "help");
             completions = options.stream()
                     .filter(s -> s.toLowerCase().startsWith(args[0].toLowerCase()))
                     .collect(Collectors.toList());
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("stats")) {
+            completions = List.of("boss", "event").stream()
+                    .filter(s -> s.startsWith(args[1].toLowerCase()))
+                    .collect(Collectors.toList());
         }
 
         return completions;
@@ -33,7 +33,7 @@ public class LootConfigCommand implements CommandExecutor, TabCompleter, Listene
         this.lootManager = plugin.getLootManager();
 
         // Enregistre les événements
-        Bukkit.getPluginManager().registerEvents(this, plugin);
+        plugin.getProfiler().registerEvents(this);
     }
 
     @Override
@@ -50,9 +50,11 @@ public class LootConfigCommand implements CommandExecutor, TabCompleter, Listene
 
         return switch (args[0].toLowerCase()) {
             case "add" -> handleAdd(player, args);
+            case "pool" -> handlePool(player, args);
+            case "rolls" -> handleRolls(player, args);
             case "list" -> handleList(player, args);
             case "save" -> handleSave(player);
-            case "load" -> handleLoad(player);
+            case "load", "reload" -> handleLoad(player);
             default -> {
                 sendUsage(player);
                 yield true;
@@ -110,6 +112,67 @@ public class LootConfigCommand implements CommandExecutor, TabCompleter, Listene
         return true;
     }
 
+    private boolean handlePool(Player player, String[] args) {
+        if (args.length < 3) {
+            player.sendMessage(ChatColor.RED + "Usage: /lootconfig pool <monstre> <poids>");
+            return true;
+        }
+
+        String mobId = args[1].toLowerCase();
+        double weight;
+
+        try {
+            weight = Double.parseDouble(args[2]);
+            if (weight <= 0) {
+                player.sendMessage(ChatColor.RED + "Le poids doit être strictement positif");
+                return true;
+            }
+        } catch (NumberFormatException e) {
+            player.sendMessage(ChatColor.RED + "Poids invalide! Utilisez un nombre (ex: 10)");
+            return true;
+        }
+
+        if (!plugin.getMobManager().isMobRegistered(mobId)) {
+            player.sendMessage(ChatColor.RED + "Monstre '" + mobId + "' non trouvé!");
+            return true;
+        }
+
+        ItemStack item = player.getInventory().getItemInMainHand();
+        if (item.getType() == Material.AIR) {
+            player.sendMessage(ChatColor.RED + "Vous devez tenir un item en main!");
+            return true;
+        }
+
+        lootManager.addWeightedLoot(mobId, item, weight);
+        player.sendMessage(ChatColor.GREEN + "Loot ajouté au pool pondéré de " + mobId + " (poids: " + weight + ")");
+        player.sendMessage(ChatColor.GRAY + "Tirages par mort: " + ChatColor.WHITE + lootManager.getRolls(mobId));
+        return true;
+    }
+
+    private boolean handleRolls(Player player, String[] args) {
+        if (args.length < 3) {
+            player.sendMessage(ChatColor.RED + "Usage: /lootconfig rolls <monstre> <nombre>");
+            return true;
+        }
+
+        String mobId = args[1].toLowerCase();
+        int rolls;
+        try {
+            rolls = Integer.parseInt(args[2]);
+            if (rolls < 0) {
+                player.sendMessage(ChatColor.RED + "Le nombre de tirages doit être positif");
+                return true;
+            }
+        } catch (NumberFormatException e) {
+            player.sendMessage(ChatColor.RED + "Nombre de tirages invalide!");
+            return true;
+        }
+
+        lootManager.setRolls(mobId, rolls);
+        player.sendMessage(ChatColor.GREEN + "Tirages du pool pondéré de " + mobId + ": " + rolls);
+        return true;
+    }
+
     private boolean handleList(Player player, String[] args) {
         if (args.length < 2) {
             player.sendMessage(ChatColor.RED + "Usage: /lootconfig list <monstre>");
@@ -153,7 +216,11 @@ public class LootConfigCommand implements CommandExecutor, TabCompleter, Listene
             if (meta != null) {
                 List<String> lore = meta.hasLore() ? meta.getLore() : new ArrayList<>();
                 lore.add("");
-                lore.add(ChatColor.YELLOW + "Chance: " + ChatColor.WHITE + (loot.chance() * 100) + "%");
+                if (loot.isWeighted()) {
+                    lore.add(ChatColor.YELLOW + "Pool pondéré, poids: " + ChatColor.WHITE + loot.weight());
+                } else {
+                    lore.add(ChatColor.YELLOW + "Chance: " + ChatColor.WHITE + (loot.chance() * 100) + "%");
+                }
                 lore.add(ChatColor.RED + "SHIFT+clic pour supprimer");
                 meta.setLore(lore);
                 displayItem.setItemMeta(meta);
@@ -216,6 +283,8 @@ public class LootConfigCommand implements CommandExecutor, TabCompleter, Listene
     private void sendUsage(Player player) {
         player.sendMessage(ChatColor.GOLD + "=== LootConfig - Commandes ===");
         player.sendMessage(ChatColor.YELLOW + "/lootconfig add <monstre> <chance>" + ChatColor.GRAY + " - Ajoute l'item en main comme loot");
+        player.sendMessage(ChatColor.YELLOW + "/lootconfig pool <monstre> <poids>" + ChatColor.GRAY + " - Ajoute l'item en main au pool pondéré");
+        player.sendMessage(ChatColor.YELLOW + "/lootconfig rolls <monstre> <nombre>" + ChatColor.GRAY + " - Tirages du pool pondéré par mort");
         player.sendMessage(ChatColor.YELLOW + "/lootconfig list <monstre>" + ChatColor.GRAY + " - Ouvre l'interface des loots");
         player.sendMessage(ChatColor.YELLOW + "/lootconfig save" + ChatColor.GRAY + " - Sauvegarde la configuration");
         player.sendMessage(ChatColor.YELLOW + "/lootconfig load" + ChatColor.GRAY + " - Recharge la configuration");
@@ -228,8 +297,8 @@ public class LootConfigCommand implements CommandExecutor, TabCompleter, Listene
         List<String> completions = new ArrayList<>();
 
         if (args.length == 1) {
-            completions.addAll(Arrays.asList("add", "list", "save", "load"));
-        } else if (args.length == 2 && (args[0].equalsIgnoreCase("add") || args[0].equalsIgnoreCase("list"))) {
+            completions.addAll(Arrays.asList("add", "pool", "rolls", "list", "save", "load", "reload"));
+        } else if (args.length == 2 && List.of("add", "pool", "rolls", "list").contains(args[0].toLowerCase())) {
             completions.addAll(plugin.getMobManager().getRegisteredMobIds());
         } else if (args.length == 3 && args[0].equalsIgnoreCase("add")) {
             completions.addAll(Arrays.asList("0.1", "0.25", "0.5", "0.75", "1.0"));
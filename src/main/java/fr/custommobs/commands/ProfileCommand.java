@@ -0,0 +1,110 @@
+package fr.custommobs.commands;
+
+import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.TickProfiler;
+import fr.custommobs.managers.TimingHistogram;
+import org.bukkit.Bukkit;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Commande /cmprofile pour les administrateurs
+ * Temps passé dans les tâches et listeners du plugin, mesuré par le TickProfiler
+ */
+public class ProfileCommand implements CommandExecutor, TabCompleter {
+
+    private static final String PREFIX = "§b§l[PROFIL] ";
+    private static final int DEFAULT_TOP_SIZE = 10;
+
+    private final CustomMobsPlugin plugin;
+
+    public ProfileCommand(CustomMobsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (!sender.hasPermission("custommobs.admin")) {
+            sender.sendMessage(PREFIX + "§cVous n'avez pas la permission!");
+            return true;
+        }
+
+        TickProfiler profiler = plugin.getProfiler();
+        String subCommand = args.length > 0 ? args[0].toLowerCase() : "top";
+        switch (subCommand) {
+            case "top" -> showTop(sender, profiler, args);
+            case "on" -> {
+                profiler.setEnabled(true);
+                sender.sendMessage(PREFIX + "§aProfileur activé.");
+            }
+            case "off" -> {
+                profiler.setEnabled(false);
+                sender.sendMessage(PREFIX + "§7Profileur suspendu (mesures conservées).");
+            }
+            case "reset" -> {
+                profiler.reset();
+                sender.sendMessage(PREFIX + "§aMesures remises à zéro.");
+            }
+            case "dump" -> profiler.dump().whenComplete((ignored, error) -> Bukkit.getScheduler().runTask(plugin, () ->
+                    sender.sendMessage(error == null ? PREFIX + "§aRapport écrit dans §eprofiler-report.txt"
+                            : PREFIX + "§cÉchec de l'écriture du rapport: " + error.getMessage())));
+            default -> sender.sendMessage(PREFIX + "§cUsage: §e/cmprofile <top [n]|on|off|reset|dump>");
+        }
+        return true;
+    }
+
+    /**
+     * Les n entrées les plus coûteuses en temps total
+     */
+    private void showTop(CommandSender sender, TickProfiler profiler, String[] args) {
+        int size = DEFAULT_TOP_SIZE;
+        if (args.length > 1) {
+            try {
+                size = Math.max(1, Integer.parseInt(args[1]));
+            } catch (NumberFormatException e) {
+                sender.sendMessage(PREFIX + "§cNombre invalide: " + args[1]);
+                return;
+            }
+        }
+
+        List<TimingHistogram.Snapshot> snapshots = profiler.getSnapshots();
+        long elapsedSeconds = (System.currentTimeMillis() - profiler.getStartedAt()) / 1000;
+        sender.sendMessage("");
+        sender.sendMessage(PREFIX + "§7Depuis " + elapsedSeconds + "s "
+                + (profiler.isEnabled() ? "§a(actif)" : "§c(suspendu)"));
+
+        if (snapshots.isEmpty()) {
+            sender.sendMessage("§7  Aucune mesure. Activez le profileur avec §e/cmprofile on");
+            return;
+        }
+
+        for (int i = 0; i < Math.min(size, snapshots.size()); i++) {
+            TimingHistogram.Snapshot snapshot = snapshots.get(i);
+            sender.sendMessage(String.format("§e  %d. §f%s", i + 1, snapshot.name()));
+            sender.sendMessage(String.format("§7     %d appels §8| §ctotal %.1f ms §8| §7moy %.1f µs, p50 %.1f µs, p99 %.1f µs, max %.1f µs",
+                    snapshot.count(), snapshot.totalNanos() / 1_000_000.0, snapshot.getMeanNanos() / 1000.0,
+                    snapshot.getPercentileNanos(50) / 1000.0, snapshot.getPercentileNanos(99) / 1000.0,
+                    snapshot.maxNanos() / 1000.0));
+        }
+        sender.sendMessage("");
+    }
+
+    @Override
+    public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        List<String> completions = new ArrayList<>();
+
+        if (args.length == 1) {
+            completions = List.of("top", "on", "off", "reset", "dump").stream()
+                    .filter(s -> s.startsWith(args[0].toLowerCase()))
+                    .collect(Collectors.toList());
+        }
+
+        return completions;
+    }
+}
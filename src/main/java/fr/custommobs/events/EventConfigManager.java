@@ -9,11 +9,11 @@ import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
-import java.io.IOException;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Gestionnaire de configuration pour les événements
@@ -80,15 +80,13 @@ public class EventConfigManager {
     }
 
     /**
-     * Sauvegarde la configuration des événements
+     * Sauvegarde la configuration des événements (écriture asynchrone et atomique).
+     * Le texte est produit immédiatement : events.yml ne contient que des valeurs simples, rapides à sérialiser.
      */
     public void saveEventsConfig() {
-        try {
-            eventsConfig.save(eventsConfigFile);
-            plugin.getLogger().info("Configuration des événements sauvegardée!");
-        } catch (IOException e) {
-            plugin.getLogger().severe("Erreur lors de la sauvegarde de la config événements: " + e.getMessage());
-        }
+        String contents = eventsConfig.saveToString();
+        plugin.getConfigPersistence().save(eventsConfigFile, () -> contents)
+                .thenRun(() -> plugin.getLogger().info("Configuration des événements sauvegardée!"));
     }
 
     /**
@@ -297,15 +295,24 @@ public class EventConfigManager {
      * Récupère une localisation aléatoire pondérée d'une catégorie
      */
     public EventLocationConfig getWeightedRandomLocation(String category) {
-        List<EventLocationConfig> locations = getEventLocationConfigs(category);
+        return pickWeighted(getEventLocationConfigs(category), ThreadLocalRandom.current());
+    }
+
+    /**
+     * Tirage pondéré par "weight" ; uniforme si aucun poids n'est positif. Null pour une liste vide.
+     */
+    public static EventLocationConfig pickWeighted(List<EventLocationConfig> locations, RandomGenerator random) {
         if (locations.isEmpty()) return null;
 
-        int totalWeight = locations.stream().mapToInt(EventLocationConfig::weight).sum();
+        int totalWeight = 0;
+        for (EventLocationConfig location : locations) {
+            totalWeight += location.weight();
+        }
         if (totalWeight <= 0) {
-            return locations.get(ThreadLocalRandom.current().nextInt(locations.size()));
+            return locations.get(random.nextInt(locations.size()));
         }
 
-        int randomWeight = ThreadLocalRandom.current().nextInt(totalWeight);
+        int randomWeight = random.nextInt(totalWeight);
         int currentWeight = 0;
 
         for (EventLocationConfig location : locations) {
@@ -3,7 +3,8 @@ package fr.custommobs.events;
 import fr.custommobs.CustomMobsPlugin;
 import fr.custommobs.api.PrisonTycoonHook;
 import fr.custommobs.events.types.*;
-import fr.custommobs.mobs.CustomMob;
+import fr.custommobs.listeners.EntityDeathDispatcher;
+import fr.custommobs.mobs.EntityRole;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -24,9 +25,14 @@ public class EventListener implements Listener {
     private final CustomMobsPlugin plugin;
     private final EventScheduler scheduler;
 
-    public EventListener(CustomMobsPlugin plugin, EventScheduler scheduler) {
+    public EventListener(CustomMobsPlugin plugin, EventScheduler scheduler, EntityDeathDispatcher deathDispatcher) {
         this.plugin = plugin;
         this.scheduler = scheduler;
+
+        deathDispatcher.registerForAll(EntityDeathDispatcher.Phase.MONITOR, this::onMonsterDeath);
+        deathDispatcher.register(EntityDeathDispatcher.Phase.MONITOR, EntityRole.BREACH_MOB, this::onBreachMobDeath);
+        deathDispatcher.register(EntityDeathDispatcher.Phase.MONITOR, EntityRole.TREASURE_LUTIN, this::onTreasureLutinDeath);
+        deathDispatcher.register(EntityDeathDispatcher.Phase.MONITOR, EntityRole.DAILY_BOSS, this::onDailyBossDeath);
     }
 
     /**
@@ -63,49 +69,55 @@ public class EventListener implements Listener {
     }
 
     /**
-     * Gère la mort des entités pour les événements - MISE À JOUR
+     * Brèche - Mort d'un monstre de brèche
      */
-    @EventHandler(priority = EventPriority.MONITOR)
-    public void onEntityDeath(EntityDeathEvent event) {
-        LivingEntity entity = event.getEntity();
+    private void onBreachMobDeath(EntityDeathEvent event, LivingEntity entity, int roles) {
         Player killer = entity.getKiller();
-
         if (killer == null) return;
 
-        // Brèche - Mort d'un monstre de brèche
-        if (entity.hasMetadata("breach_mob") || entity.hasMetadata("breach_boss")) {
-            ServerEvent breachEvent = scheduler.getActiveEvent("breach_containment");
-            if (breachEvent instanceof BreachContainmentEvent) {
-                ((BreachContainmentEvent) breachEvent).onMobKilled(entity, killer);
-            }
+        ServerEvent breachEvent = scheduler.getActiveEvent("breach_containment");
+        if (breachEvent instanceof BreachContainmentEvent) {
+            ((BreachContainmentEvent) breachEvent).onMobKilled(entity, killer);
         }
+    }
 
-        // Chasseur de Trésor - Mort/Capture du Lutin Trésorier (NOUVEAU)
-        if (entity.hasMetadata("treasure_hunter_lutin")) {
-            ServerEvent treasureEvent = scheduler.getActiveEvent("treasure_hunter");
-            if (treasureEvent instanceof TreasureHunterEvent) {
-                ((TreasureHunterEvent) treasureEvent).onLutinCaptured(killer);
-            }
+    /**
+     * Chasseur de Trésor - Mort/Capture du Lutin Trésorier
+     */
+    private void onTreasureLutinDeath(EntityDeathEvent event, LivingEntity entity, int roles) {
+        Player killer = entity.getKiller();
+        if (killer == null) return;
+
+        ServerEvent treasureEvent = scheduler.getActiveEvent("treasure_hunter");
+        if (treasureEvent instanceof TreasureHunterEvent) {
+            ((TreasureHunterEvent) treasureEvent).onLutinCaptured(killer);
         }
+    }
 
-        // Boss Quotidien - Mort du boss
-        if (entity.hasMetadata("daily_boss")) {
-            ServerEvent bossEvent = scheduler.getActiveEvent("daily_boss");
-            if (bossEvent instanceof DailyBossEvent) {
-                ((DailyBossEvent) bossEvent).onBossKilled(killer);
-            }
+    /**
+     * Boss Quotidien - Mort du boss
+     */
+    private void onDailyBossDeath(EntityDeathEvent event, LivingEntity entity, int roles) {
+        Player killer = entity.getKiller();
+        if (killer == null) return;
+
+        ServerEvent bossEvent = scheduler.getActiveEvent("daily_boss");
+        if (bossEvent instanceof DailyBossEvent) {
+            ((DailyBossEvent) bossEvent).onBossKilled(killer);
         }
+    }
+
+    /**
+     * Guerre des Gangs - Tout monstre tué par un joueur rapporte des points
+     */
+    private void onMonsterDeath(EntityDeathEvent event, LivingEntity entity, int roles) {
+        Player killer = entity.getKiller();
+        if (killer == null) return;
 
-        // NOUVEAU: Guerre des Gangs - Mort d'un monstre
         ServerEvent gangWarEvent = scheduler.getActiveEvent("gang_war");
         if (gangWarEvent instanceof GangWarEvent) {
             ((GangWarEvent) gangWarEvent).onMonsterKilled(entity, killer);
         }
-
-        // Mise à jour du compteur global de monstres pour les défis communautaires
-        if (CustomMob.isCustomMob(entity)) {
-            // Ajouter à un compteur global si nécessaire
-        }
     }
 
     /**
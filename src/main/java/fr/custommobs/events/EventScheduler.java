@@ -4,8 +4,8 @@ import fr.custommobs.CustomMobsPlugin;
 import fr.custommobs.events.types.*;
 import fr.custommobs.api.PrisonTycoonHook;
 import fr.custommobs.managers.BossStatsManager;
+import fr.custommobs.managers.ProfiledRunnable;
 import org.bukkit.Bukkit;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.time.DayOfWeek;
@@ -101,9 +101,9 @@ public class EventScheduler {
      */
     private void startScheduler() {
         // Vérification toutes les minutes
-        BukkitTask mainTask = new BukkitRunnable() {
+        BukkitTask mainTask = new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 checkScheduledEvents();
                 manageActiveEvents();
                 checkTriggerEvents();
@@ -117,9 +117,9 @@ public class EventScheduler {
         if (spontaneousEnabled) {
             int intervalMinutes = configManager.getEventsConfig().getInt("advanced-settings.spontaneous-events.interval-minutes", 120);
 
-            BukkitTask spontaneousTask = new BukkitRunnable() {
+            BukkitTask spontaneousTask = new ProfiledRunnable() {
                 @Override
-                public void run() {
+                protected void tick() {
                     double chance = configManager.getEventsConfig().getDouble("advanced-settings.spontaneous-events.chance", 0.3);
                     if (Math.random() < chance) {
                         startSpontaneousEvent();
@@ -131,9 +131,9 @@ public class EventScheduler {
         }
 
         // Sauvegarde des statistiques - toutes les 10 minutes
-        BukkitTask saveTask = new BukkitRunnable() {
+        BukkitTask saveTask = new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 statisticsManager.saveStatistics();
             }
         }.runTaskTimer(plugin, 20L * 60 * 10, 20L * 60 * 10);
@@ -1,8 +1,13 @@
 package fr.custommobs.events;
 
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.BossStatsManager;
 
-// Classe pour gérer les statistiques (simplifiée pour l'exemple)
+/**
+ * Sauvegarde des statistiques d'événements.
+ * Les combats de boss terminés sont déjà journalisés au fil de l'eau par l'historique des boss :
+ * une sauvegarde se contente de forcer leur écriture sur disque.
+ */
 public class EventStatisticsManager {
     private final CustomMobsPlugin plugin;
 
@@ -11,6 +16,9 @@ public class EventStatisticsManager {
     }
 
     public void saveStatistics() {
-        // Sauvegarder les statistiques des événements
+        BossStatsManager bossStatsManager = plugin.getBossStatsManager();
+        if (bossStatsManager != null) {
+            bossStatsManager.getHistory().flush();
+        }
     }
 }
@@ -5,6 +5,8 @@ import fr.custommobs.api.PrisonTycoonHook;
 import fr.custommobs.events.EventConfigManager;
 import fr.custommobs.events.EventListener;
 import fr.custommobs.managers.BossStatsManager;
+import fr.custommobs.managers.ProfiledRunnable;
+import fr.custommobs.mobs.EntityRole;
 import fr.prisontycoon.reputation.ReputationTier;
 import org.bukkit.*;
 import org.bukkit.block.Block;
@@ -15,7 +17,6 @@ import org.bukkit.entity.Ravager;
 import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
@@ -62,6 +63,7 @@ public class BreachContainmentEvent extends ServerEvent {
     private final Set<UUID> playersInZone = new HashSet<>();
     private BukkitTask zoneMonitoringTask;
     private final double eventRadius = 25.0; // Rayon pour considérer qu'un joueur est dans la zone
+    private static final String ZONE_ID = "event:breach_containment"; // Zone active dans l'index spatial
 
     public BreachContainmentEvent(CustomMobsPlugin plugin, PrisonTycoonHook prisonHook,
                                   EventListener.EventRewardsManager rewardsManager, EventConfigManager configManager,
@@ -94,6 +96,7 @@ public class BreachContainmentEvent extends ServerEvent {
         }
 
         eventWorld = breachCenter.getWorld();
+        plugin.getZoneIndex().addSphere(ZONE_ID, breachCenter, eventRadius);
 
         // Appliquer les effets atmosphériques
         applyAtmosphericEffects();
@@ -111,9 +114,9 @@ public class BreachContainmentEvent extends ServerEvent {
         startZoneMonitoring();
 
         // Démarrer la première vague après 10 secondes
-        BukkitTask firstWaveTask = new BukkitRunnable() {
+        BukkitTask firstWaveTask = new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 startNextWave();
             }
         }.runTaskLater(plugin, 200L);
@@ -224,9 +227,9 @@ public class BreachContainmentEvent extends ServerEvent {
      * Démarre le monitoring des joueurs dans la zone
      */
     private void startZoneMonitoring() {
-        zoneMonitoringTask = new BukkitRunnable() {
+        zoneMonitoringTask = new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (!isActive()) {
                     cancel();
                     return;
@@ -247,8 +250,7 @@ public class BreachContainmentEvent extends ServerEvent {
         Set<UUID> currentPlayersInZone = new HashSet<>();
 
         for (Player player : eventWorld.getPlayers()) {
-            double distance = player.getLocation().distance(breachCenter);
-            if (distance <= eventRadius) {
+            if (plugin.getZoneIndex().isInside(ZONE_ID, player.getLocation())) {
                 currentPlayersInZone.add(player.getUniqueId());
 
                 // Nouveau joueur entrant dans la zone
@@ -396,9 +398,9 @@ public class BreachContainmentEvent extends ServerEvent {
         }
 
         // Spawner les monstres après 3 secondes
-        BukkitTask spawnTask = new BukkitRunnable() {
+        BukkitTask spawnTask = new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (currentWave < maxWaves) {
                     spawnWaveMobs(mobCount);
                 } else {
@@ -486,6 +488,8 @@ public class BreachContainmentEvent extends ServerEvent {
                     ", nom: " + mobConfig.getName() + ")");
         }
 
+        // Choix des monstres et de leurs emplacements, regroupés par type pour un spawn en lot
+        Map<String, List<Location>> spawnsByMob = new LinkedHashMap<>();
         for (int i = 0; i < mobCount; i++) {
             EventConfigManager.EventMobConfig selectedMob = selectRandomMob(possibleMobs);
             if (selectedMob == null) {
@@ -504,34 +508,31 @@ public class BreachContainmentEvent extends ServerEvent {
             totalAttempts += maxAttemptsPerMob;
 
             if (validSpawnLocation != null) {
-                try {
-                    // Utiliser le CustomMobManager pour spawner les monstres custom
-                    LivingEntity mob = plugin.getMobManager().spawnCustomMob(selectedMob.id(), validSpawnLocation);
-
-                    if (mob != null) {
-                        setupMob(mob);
-                        currentWaveMobs.add(mob);
-                        allSpawnedMobs.add(mob);
-                        successfulSpawns++;
-
-                        plugin.getLogger().info("§5[BRÈCHE] ✅ Monstre CUSTOM " + selectedMob.id() +
-                                " (" + mob.getClass().getSimpleName() + ") spawné à " +
-                                validSpawnLocation.getBlockX() + "," +
-                                validSpawnLocation.getBlockY() + "," +
-                                validSpawnLocation.getBlockZ());
-                    } else {
-                        plugin.getLogger().warning("§5[BRÈCHE] ❌ Échec spawn CustomMob: " + selectedMob.id() +
-                                " (getMobManager().spawnCustomMob retourné null)");
-                    }
-                } catch (Exception e) {
-                    plugin.getLogger().warning("§5[BRÈCHE] ❌ Erreur spawn monstre custom " + selectedMob.id() + ": " + e.getMessage());
-                    e.printStackTrace();
-                }
+                spawnsByMob.computeIfAbsent(selectedMob.id(), k -> new ArrayList<>()).add(validSpawnLocation);
             } else {
                 plugin.getLogger().warning("§5[BRÈCHE] ❌ Impossible de trouver un emplacement valide pour " + selectedMob.id());
             }
         }
 
+        for (Map.Entry<String, List<Location>> entry : spawnsByMob.entrySet()) {
+            try {
+                // Utiliser le CustomMobManager pour spawner les monstres custom
+                List<LivingEntity> mobs = plugin.getMobManager().spawnCustomMobs(entry.getKey(), entry.getValue());
+                for (LivingEntity mob : mobs) {
+                    setupMob(mob);
+                    currentWaveMobs.add(mob);
+                    allSpawnedMobs.add(mob);
+                }
+                successfulSpawns += mobs.size();
+
+                plugin.getLogger().info("§5[BRÈCHE] ✅ " + mobs.size() + "/" + entry.getValue().size() +
+                        " monstres CUSTOM " + entry.getKey() + " spawnés");
+            } catch (Exception e) {
+                plugin.getLogger().warning("§5[BRÈCHE] ❌ Erreur spawn monstre custom " + entry.getKey() + ": " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+
         plugin.getLogger().info("§5[BRÈCHE] Spawn vague " + currentWave + " terminé: " +
                 successfulSpawns + "/" + mobCount + " monstres custom spawnés avec succès");
 
@@ -674,6 +675,7 @@ public class BreachContainmentEvent extends ServerEvent {
         mob.setMetadata("breach_mob", new FixedMetadataValue(plugin, true));
         mob.setMetadata("breach_event_id", new FixedMetadataValue(plugin, getId()));
         mob.setMetadata("breach_wave", new FixedMetadataValue(plugin, currentWave));
+        EntityRole.tag(mob, EntityRole.BREACH_MOB);
 
         // Boss final
         if (currentWave >= maxWaves && mob instanceof Ravager) {
@@ -734,6 +736,7 @@ public class BreachContainmentEvent extends ServerEvent {
             finalBoss.setMetadata("breach_mob", new FixedMetadataValue(plugin, true));
             finalBoss.setMetadata("breach_event_id", new FixedMetadataValue(plugin, getId()));
             finalBoss.setMetadata("breach_wave", new FixedMetadataValue(plugin, currentWave));
+            EntityRole.tag(finalBoss, EntityRole.BREACH_MOB);
 
             // Effets spéciaux pour l'événement (en plus de ceux du RavagerBoss)
             finalBoss.addPotionEffect(new PotionEffect(PotionEffectType.GLOWING, Integer.MAX_VALUE, 0, false, false));
@@ -781,6 +784,7 @@ public class BreachContainmentEvent extends ServerEvent {
                 finalBoss.setHealth(400.0);
                 finalBoss.setMetadata("breach_boss", new FixedMetadataValue(plugin, true));
                 finalBoss.setMetadata("breach_mob", new FixedMetadataValue(plugin, true));
+                EntityRole.tag(finalBoss, EntityRole.BREACH_MOB);
 
                 currentWaveMobs.add(finalBoss);
                 allSpawnedMobs.add(finalBoss);
@@ -839,9 +843,9 @@ public class BreachContainmentEvent extends ServerEvent {
      * Démarre le système de vérification d'inactivité
      */
     private void startInactivityCheck() {
-        inactivityTask = new BukkitRunnable() {
+        inactivityTask = new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (!isActive()) {
                     cancel();
                     return;
@@ -983,9 +987,9 @@ public class BreachContainmentEvent extends ServerEvent {
         Bukkit.broadcastMessage("§7§lVague suivante dans 15 secondes...");
 
         // Démarrer la vague suivante après 15 secondes
-        BukkitTask nextWaveTask = new BukkitRunnable() {
+        BukkitTask nextWaveTask = new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 startNextWave();
             }
         }.runTaskLater(plugin, 300L);
@@ -1017,9 +1021,9 @@ public class BreachContainmentEvent extends ServerEvent {
         distributeRewards();
 
         // Terminer l'événement après 30 secondes
-        BukkitTask endTask = new BukkitRunnable() {
+        BukkitTask endTask = new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 forceEnd();
             }
         }.runTaskLater(plugin, 600L);
@@ -1227,6 +1231,7 @@ public class BreachContainmentEvent extends ServerEvent {
         currentWaveMobs.clear();
         allSpawnedMobs.clear();
         playersInZone.clear();
+        plugin.getZoneIndex().remove(ZONE_ID);
 
         // Annuler les tâches spécialisées
         if (inactivityTask != null && !inactivityTask.isCancelled()) {
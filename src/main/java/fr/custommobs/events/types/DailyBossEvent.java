@@ -5,12 +5,14 @@ import fr.custommobs.api.PrisonTycoonHook;
 import fr.custommobs.events.EventConfigManager;
 import fr.custommobs.events.EventListener;
 import fr.custommobs.managers.BossStatsManager;
+import fr.custommobs.managers.Leaderboard;
+import fr.custommobs.managers.ProfiledRunnable;
+import fr.custommobs.mobs.EntityRole;
 import org.bukkit.*;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
@@ -27,7 +29,7 @@ public class DailyBossEvent extends ServerEvent {
     private Location bossLocation;
     private EventConfigManager.EventLocationConfig selectedArena;
     private EventConfigManager.EventMobConfig selectedBossConfig;
-    private final Map<UUID, Double> damageDealt = new HashMap<>();
+    private final Leaderboard<UUID> damageDealt = new Leaderboard<>();
     private final Map<UUID, Integer> playerDeaths = new HashMap<>();
 
     private final int duration; // <-- SOLUTION PART 1: Add field to store duration
@@ -81,9 +83,9 @@ public class DailyBossEvent extends ServerEvent {
         spawnPreparationEffects();
 
         // Spawner le boss après 1 minute
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (isActive()) {
                     spawnBoss();
                 }
@@ -133,11 +135,11 @@ public class DailyBossEvent extends ServerEvent {
      * Effets de préparation dans l'arène
      */
     private void spawnPreparationEffects() {
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int countdown = 60;
 
             @Override
-            public void run() {
+            protected void tick() {
                 if (!isActive() || bossLocation == null || bossLocation.getWorld() == null) {
                     cancel();
                     return;
@@ -172,9 +174,9 @@ public class DailyBossEvent extends ServerEvent {
 
         // Alerte à 15 minutes restantes
         if (totalDuration > 900) {
-            new BukkitRunnable() {
+            new ProfiledRunnable() {
                 @Override
-                public void run() {
+                protected void tick() {
                     if (isActive() && !bossKilled) {
                         Bukkit.broadcastMessage("§e§l[BOSS] §715 minutes restantes pour vaincre le boss!");
                     }
@@ -184,9 +186,9 @@ public class DailyBossEvent extends ServerEvent {
 
         // Alerte à 5 minutes restantes
         if (totalDuration > 300) {
-            new BukkitRunnable() {
+            new ProfiledRunnable() {
                 @Override
-                public void run() {
+                protected void tick() {
                     if (isActive() && !bossKilled) {
                         Bukkit.broadcastMessage("§c§l[BOSS] §7§lDERNIÈRES 5 MINUTES ! Dépêchez-vous !");
 
@@ -212,6 +214,7 @@ public class DailyBossEvent extends ServerEvent {
                 // Métadonnées pour l'identification
                 boss.setMetadata("daily_boss", new FixedMetadataValue(plugin, true));
                 boss.setMetadata("boss_event_id", new FixedMetadataValue(plugin, getId()));
+                EntityRole.tag(boss, EntityRole.DAILY_BOSS);
 
 
                 // Nom customisé
@@ -261,7 +264,7 @@ public class DailyBossEvent extends ServerEvent {
         if (!bossSpawned || boss == null || boss.isDead() || bossKilled) return;
 
         addParticipant(attacker);
-        damageDealt.merge(attacker.getUniqueId(), damage, Double::sum);
+        double totalDamage = damageDealt.add(attacker.getUniqueId(), damage);
 
         // Intégration avec BossStatsManager
         if (bossStatsManager != null) {
@@ -270,8 +273,8 @@ public class DailyBossEvent extends ServerEvent {
 
         // Message de feedback occasionnel
         if (ThreadLocalRandom.current().nextDouble() < 0.1) {
-            double totalDamage = damageDealt.get(attacker.getUniqueId());
-            attacker.sendMessage("§0§l[BOSS] §7Dégâts total: §c" + String.format("%.1f", totalDamage));
+            attacker.sendMessage("§0§l[BOSS] §7Dégâts total: §c" + String.format("%.1f", totalDamage)
+                    + " §7(§e#" + damageDealt.getRank(attacker.getUniqueId()) + "§7)");
         }
 
         // Affichage de la barre de vie du boss
@@ -363,9 +366,9 @@ public class DailyBossEvent extends ServerEvent {
         distributeRewards();
 
         // Terminer l'événement après 30 secondes
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (isActive()) {
                     forceEnd();
                 }
@@ -400,7 +403,7 @@ public class DailyBossEvent extends ServerEvent {
                 double totalReward = participationReward;
 
                 // Bonus selon les dégâts
-                double damage = damageDealt.getOrDefault(participantId, 0.0);
+                double damage = damageDealt.getScore(participantId);
                 if (damage >= goldThreshold && goldThreshold > 0) {
                     totalReward += goldReward;
                     participant.sendMessage("§6§l[RÉCOMPENSE] §ePalier OR atteint !");
@@ -501,6 +504,6 @@ public class DailyBossEvent extends ServerEvent {
     }
 
     public Map<UUID, Double> getDamageDealt() {
-        return Collections.unmodifiableMap(damageDealt);
+        return Collections.unmodifiableMap(damageDealt.toMap());
     }
 }
\ No newline at end of file
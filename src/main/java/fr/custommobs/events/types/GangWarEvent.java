@@ -4,6 +4,8 @@ import fr.custommobs.CustomMobsPlugin;
 import fr.custommobs.api.PrisonTycoonHook;
 import fr.custommobs.events.EventConfigManager;
 import fr.custommobs.events.EventListener;
+import fr.custommobs.managers.Leaderboard;
+import fr.custommobs.managers.ProfiledRunnable;
 import org.bukkit.Bukkit;
 import org.bukkit.Sound;
 import org.bukkit.boss.BarColor;
@@ -11,12 +13,10 @@ import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * Guerre des Gangs - Weekend complet de combat entre gangs
@@ -25,7 +25,7 @@ import java.util.stream.Collectors;
 public class GangWarEvent extends ServerEvent {
 
     // Maps pour le tracking
-    private final Map<String, Integer> gangScores = new ConcurrentHashMap<>(); // Gang -> Score total
+    private final Leaderboard<String> gangScores = new Leaderboard<>(); // Gang -> Score total, toujours classé
     private final Map<UUID, String> playerGangs = new ConcurrentHashMap<>(); // Player -> Gang
     private final Map<UUID, Integer> playerScores = new ConcurrentHashMap<>(); // Player -> Score individuel
     private final Map<UUID, GangWarStats> playerStats = new ConcurrentHashMap<>(); // Statistiques détaillées
@@ -84,7 +84,7 @@ public class GangWarEvent extends ServerEvent {
                 String gangName = prisonHook.getGangName(player);
                 if (gangName != null) {
                     playerGangs.put(player.getUniqueId(), gangName);
-                    gangScores.putIfAbsent(gangName, 0);
+                    gangScores.putIfAbsent(gangName);
                     playerScores.putIfAbsent(player.getUniqueId(), 0);
                     playerStats.putIfAbsent(player.getUniqueId(), new GangWarStats());
 
@@ -121,9 +121,9 @@ public class GangWarEvent extends ServerEvent {
         int leaderboardInterval = configManager.getEventsConfig()
                 .getInt("advanced-settings.gang_war.notifications.leaderboard_interval", 1800) * 20;
 
-        leaderboardTask = new BukkitRunnable() {
+        leaderboardTask = new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (isActive()) {
                     broadcastLeaderboard();
                 }
@@ -132,9 +132,9 @@ public class GangWarEvent extends ServerEvent {
         tasks.add(leaderboardTask);
 
         // Mise à jour de la boss bar toutes les 5 secondes
-        BukkitTask bossBarTask = new BukkitRunnable() {
+        BukkitTask bossBarTask = new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (isActive() && gangWarBossBar != null) {
                     updateBossBar();
                 }
@@ -144,9 +144,9 @@ public class GangWarEvent extends ServerEvent {
 
         // Tâche pour les avant-postes (quand implémentés)
         if (configManager.getEventsConfig().getBoolean("advanced-settings.gang_war.outposts.enabled", true)) {
-            outpostTask = new BukkitRunnable() {
+            outpostTask = new ProfiledRunnable() {
                 @Override
-                public void run() {
+                protected void tick() {
                     if (isActive()) {
                         processOutpostControl();
                     }
@@ -225,7 +225,7 @@ public class GangWarEvent extends ServerEvent {
         int basePoints = configManager.getEventsConfig()
                 .getInt("advanced-settings.gang_war.scoring.player_kill_base", 50);
 
-        int victimGangScore = gangScores.getOrDefault(victimGang, 0);
+        int victimGangScore = (int) gangScores.getScore(victimGang);
         double multiplier = 1.0 + (victimGangScore * configManager.getEventsConfig()
                 .getDouble("advanced-settings.gang_war.scoring.gang_score_multiplier", 0.1));
 
@@ -267,7 +267,7 @@ public class GangWarEvent extends ServerEvent {
 
         // Ajouter aux scores
         playerScores.merge(player.getUniqueId(), points, Integer::sum);
-        gangScores.merge(gangName, points, Integer::sum);
+        gangScores.add(gangName, points);
 
         // Ajouter au système global de récompenses
         rewardsManager.addGlobalScore(player, points, "gang_war");
@@ -293,8 +293,8 @@ public class GangWarEvent extends ServerEvent {
             String controllingGang = entry.getValue();
 
             // Ajouter des points passifs au gang qui contrôle
-            if (gangScores.containsKey(controllingGang)) {
-                gangScores.merge(controllingGang, pointsPerMinute, Integer::sum);
+            if (gangScores.contains(controllingGang)) {
+                gangScores.add(controllingGang, pointsPerMinute);
 
                 if (debugEnabled) {
                     plugin.getLogger().info("§4[GANG_WAR] Avant-poste " + outpostId +
@@ -330,10 +330,7 @@ public class GangWarEvent extends ServerEvent {
         Bukkit.broadcastMessage("");
         Bukkit.broadcastMessage("§4§l⚔════ CLASSEMENT DES GANGS ════⚔");
 
-        List<Map.Entry<String, Integer>> sortedGangs = gangScores.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .limit(5)
-                .toList();
+        List<Map.Entry<String, Integer>> sortedGangs = getGangRankings(5);
 
         if (sortedGangs.isEmpty()) {
             Bukkit.broadcastMessage("§7Aucun gang n'a encore marqué de points");
@@ -358,9 +355,7 @@ public class GangWarEvent extends ServerEvent {
         Map<String, Object> data = new HashMap<>();
 
         // Classement des gangs
-        List<Map.Entry<String, Integer>> sortedGangs = gangScores.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .collect(Collectors.toList());
+        List<Map.Entry<String, Integer>> sortedGangs = getGangRankings(gangScores.size());
         data.put("gangRankings", sortedGangs);
 
         // Info du joueur
@@ -381,10 +376,18 @@ public class GangWarEvent extends ServerEvent {
     }
 
     private String getLeadingGang() {
-        return gangScores.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
+        return gangScores.getLeader();
+    }
+
+    /**
+     * Les "limit" premiers gangs, lus directement dans le classement maintenu à chaque point marqué
+     */
+    private List<Map.Entry<String, Integer>> getGangRankings(int limit) {
+        List<Map.Entry<String, Integer>> rankings = new ArrayList<>();
+        for (Map.Entry<String, Double> entry : gangScores.getTop(limit)) {
+            rankings.add(Map.entry(entry.getKey(), entry.getValue().intValue()));
+        }
+        return rankings;
     }
 
     private String getPositionDisplay(int position) {
@@ -411,9 +414,7 @@ public class GangWarEvent extends ServerEvent {
     @Override
     protected void onEnd() {
         // Calculer les résultats finaux
-        List<Map.Entry<String, Integer>> finalRankings = gangScores.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .collect(Collectors.toList());
+        List<Map.Entry<String, Integer>> finalRankings = getGangRankings(gangScores.size());
 
         // Annonces finales
         Bukkit.broadcastMessage("");
@@ -485,7 +486,7 @@ public class GangWarEvent extends ServerEvent {
             String gangName = prisonHook.getGangName(player);
             if (gangName != null) {
                 playerGangs.put(player.getUniqueId(), gangName);
-                gangScores.putIfAbsent(gangName, 0);
+                gangScores.putIfAbsent(gangName);
                 playerScores.putIfAbsent(player.getUniqueId(), 0);
                 playerStats.putIfAbsent(player.getUniqueId(), new GangWarStats());
 
@@ -3,8 +3,8 @@ package fr.custommobs.events.types;
 import fr.custommobs.CustomMobsPlugin;
 import fr.custommobs.api.PrisonTycoonHook;
 import fr.custommobs.events.EventListener;
+import fr.custommobs.managers.ProfiledRunnable;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.time.LocalDateTime;
@@ -72,9 +72,9 @@ public abstract class ServerEvent {
     }
 
     private void startTimer() {
-        BukkitTask timerTask = new BukkitRunnable() {
+        BukkitTask timerTask = new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (LocalDateTime.now().isAfter(endTime) || !active) {
                     forceEnd();
                     cancel();
@@ -3,10 +3,10 @@ package fr.custommobs.events.types;
 import fr.custommobs.CustomMobsPlugin;
 import fr.custommobs.api.PrisonTycoonHook;
 import fr.custommobs.events.EventListener;
+import fr.custommobs.managers.ProfiledRunnable;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.text.Normalizer;
 import java.util.Locale;
@@ -86,9 +86,9 @@ public class SpontaneousQuestionEvent extends ServerEvent {
         boolean match = Pattern.compile("\\b" + Pattern.quote(correctAnswer) + "\\b").matcher(normalized).find();
         if (!match) return;
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 // On revérifie la condition au cas où un autre joueur aurait répondu
                 // dans le même "tick" de serveur. C'est une double sécurité.
                 if (answered) {
@@ -117,9 +117,9 @@ public class SpontaneousQuestionEvent extends ServerEvent {
                 } catch (Throwable ignored) {}
 
                 // Terminer l'événement après un court délai
-                new BukkitRunnable() {
+                new ProfiledRunnable() {
                     @Override
-                    public void run() {
+                    protected void tick() {
                         forceEnd();
                     }
                 }.runTaskLater(plugin, 60L); // 3 secondes
@@ -3,13 +3,13 @@ package fr.custommobs.events.types;
 import fr.custommobs.CustomMobsPlugin;
 import fr.custommobs.api.PrisonTycoonHook;
 import fr.custommobs.events.EventListener;
+import fr.custommobs.managers.ProfiledRunnable;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.block.Chest;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,9 +30,9 @@ public class SupplyDropEvent extends ServerEvent {
         dropSupplies();
 
         // Auto-terminer après 10 minutes
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 forceEnd();
             }
         }.runTaskLater(plugin, 12000L);
@@ -5,6 +5,9 @@ import fr.custommobs.api.PrisonTycoonHook;
 import fr.custommobs.events.EventConfigManager;
 import fr.custommobs.events.EventListener;
 import fr.custommobs.managers.BossStatsManager;
+import fr.custommobs.managers.Leaderboard;
+import fr.custommobs.managers.ProfiledRunnable;
+import fr.custommobs.mobs.EntityRole;
 import fr.custommobs.mobs.simple.LutinTreasure;
 import fr.prisontycoon.reputation.ReputationTier;
 import org.bukkit.*;
@@ -13,7 +16,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
@@ -31,7 +33,7 @@ public class TreasureHunterEvent extends ServerEvent {
     private final BossStatsManager bossStatsManager;
 
     // Système de score - basé sur les dégâts infligés au lutin
-    private final Map<UUID, Double> playerDamageScores = new HashMap<>();
+    private final Leaderboard<UUID> playerDamageScores = new Leaderboard<>();
     private final Map<UUID, Integer> playerHitCount = new HashMap<>();
     private final Map<UUID, Boolean> playerCapturedLutin = new HashMap<>();
 
@@ -50,6 +52,7 @@ public class TreasureHunterEvent extends ServerEvent {
     private final Set<UUID> playersInZone = new HashSet<>();
     private BukkitTask zoneMonitoringTask;
     private final double eventRadius = 30.0; // Rayon plus large pour la mine
+    private static final String ZONE_ID = "event:treasure_hunter"; // Zone active dans l'index spatial
 
     // Système de téléportation automatique après inactivité
     private long lastLutinDamageTime;
@@ -99,6 +102,7 @@ public class TreasureHunterEvent extends ServerEvent {
             forceEnd();
             return;
         }
+        plugin.getZoneIndex().addSphere(ZONE_ID, mineCenter, eventRadius);
 
         // Déterminer le point de spawn du lutin (aléatoire dans la zone)
         lutinSpawnPoint = generateRandomLocationInMine();
@@ -133,9 +137,9 @@ public class TreasureHunterEvent extends ServerEvent {
         eventWorld.setThundering(false);
 
         // Effets atmosphériques dans la zone
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (!isActive()) {
                     cancel();
                     return;
@@ -175,6 +179,7 @@ public class TreasureHunterEvent extends ServerEvent {
             // Métadonnées pour identification
             lutinEntity.setMetadata("treasure_hunter_lutin", new FixedMetadataValue(plugin, true));
             lutinEntity.setMetadata("event_mob", new FixedMetadataValue(plugin, true));
+            EntityRole.tag(lutinEntity, EntityRole.TREASURE_LUTIN);
 
             // Nom spécial pour l'événement
             lutinEntity.setCustomName("§6§l✦ §e§lLutin Trésorier §6§l✦");
@@ -260,9 +265,9 @@ public class TreasureHunterEvent extends ServerEvent {
      * Démarre le monitoring de la zone
      */
     private void startZoneMonitoring() {
-        zoneMonitoringTask = new BukkitRunnable() {
+        zoneMonitoringTask = new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (!isActive()) {
                     cancel();
                     return;
@@ -283,8 +288,7 @@ public class TreasureHunterEvent extends ServerEvent {
         Set<UUID> currentPlayersInZone = new HashSet<>();
 
         for (Player player : eventWorld.getPlayers()) {
-            double distance = player.getLocation().distance(mineCenter);
-            if (distance <= eventRadius) {
+            if (plugin.getZoneIndex().isInside(ZONE_ID, player.getLocation())) {
                 currentPlayersInZone.add(player.getUniqueId());
 
                 // Nouveau joueur entrant dans la zone
@@ -393,9 +397,9 @@ public class TreasureHunterEvent extends ServerEvent {
      * Démarre le monitoring d'inactivité
      */
     private void startInactivityMonitoring() {
-        inactivityTask = new BukkitRunnable() {
+        inactivityTask = new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (!isActive() || lutinEntity == null || lutinEntity.isDead()) {
                     cancel();
                     return;
@@ -467,7 +471,7 @@ public class TreasureHunterEvent extends ServerEvent {
         UUID playerId = damager.getUniqueId();
 
         // Mettre à jour le score (basé sur les dégâts)
-        playerDamageScores.merge(playerId, damage, Double::sum);
+        double totalDamage = playerDamageScores.add(playerId, damage);
         playerHitCount.merge(playerId, 1, Integer::sum);
 
         // Mettre à jour le temps de dernière activité
@@ -475,7 +479,7 @@ public class TreasureHunterEvent extends ServerEvent {
 
         // Message de feedback au joueur
         damager.sendMessage("§6§l[CHASSEUR] §a+" + String.format("%.1f", damage) + " dégâts ! " +
-                "§7(Total: §e" + String.format("%.1f", playerDamageScores.get(playerId)) + "§7)");
+                "§7(Total: §e" + String.format("%.1f", totalDamage) + "§7)");
 
         damager.playSound(damager.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.5f, 1.5f);
 
@@ -567,10 +571,7 @@ public class TreasureHunterEvent extends ServerEvent {
             return;
         }
 
-        List<Map.Entry<UUID, Double>> sortedScores = playerDamageScores.entrySet().stream()
-                .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
-                .limit(5)
-                .toList();
+        List<Map.Entry<UUID, Double>> sortedScores = playerDamageScores.getTop(5);
 
         Bukkit.broadcastMessage("");
         Bukkit.broadcastMessage("§6§l════════ CLASSEMENT FINAL ════════");
@@ -597,11 +598,6 @@ public class TreasureHunterEvent extends ServerEvent {
     private void distributeRewards() {
         if (getParticipants().isEmpty()) return;
 
-        // Calculer le top 3 pour les récompenses spéciales
-        List<Map.Entry<UUID, Double>> sortedScores = playerDamageScores.entrySet().stream()
-                .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
-                .toList();
-
         for (UUID participantId : getParticipants()) {
             Player participant = Bukkit.getPlayer(participantId);
             if (participant == null) continue;
@@ -616,7 +612,7 @@ public class TreasureHunterEvent extends ServerEvent {
                     .withTokens(baseTokens)
                     .addItem(prisonHook.createKey("rare"));
 
-            double playerDamage = playerDamageScores.getOrDefault(participantId, 0.0);
+            double playerDamage = playerDamageScores.getScore(participantId);
             boolean capturedLutin = playerCapturedLutin.getOrDefault(participantId, false);
 
             // Bonus de capture (+100% récompenses de base, clé légendaire possible, +50 beacons)
@@ -630,14 +626,8 @@ public class TreasureHunterEvent extends ServerEvent {
                 }
             }
 
-            // Calculer la position du joueur
-            int position = -1;
-            for (int i = 0; i < sortedScores.size(); i++) {
-                if (sortedScores.get(i).getKey().equals(participantId)) {
-                    position = i;
-                    break;
-                }
-            }
+            // Position du joueur dans le classement (-1 s'il n'a pas infligé de dégâts)
+            int position = playerDamageScores.getRank(participantId) - 1;
 
             // Récompenses TOP 3
             if (position >= 0 && position < 3) {
@@ -698,6 +688,7 @@ public class TreasureHunterEvent extends ServerEvent {
         playerHitCount.clear();
         playerCapturedLutin.clear();
         playersInZone.clear();
+        plugin.getZoneIndex().remove(ZONE_ID);
 
         // Réinitialiser les variables
         lutinTreasure = null;
@@ -713,7 +704,7 @@ public class TreasureHunterEvent extends ServerEvent {
 
     // Getters pour les statistiques
     public Map<UUID, Double> getPlayerDamageScores() {
-        return new HashMap<>(playerDamageScores);
+        return playerDamageScores.toMap();
     }
 
     public boolean isLutinCaptured() {
@@ -3,6 +3,7 @@ package fr.custommobs.events.types;
 import fr.custommobs.CustomMobsPlugin;
 import fr.custommobs.api.PrisonTycoonHook;
 import fr.custommobs.events.EventListener;
+import fr.custommobs.managers.ProfiledRunnable;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.block.Chest;
@@ -10,7 +11,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom; /**
@@ -78,10 +78,10 @@ public class TreasureSearchEvent extends ServerEvent {
     }
 
     private void startHintSystem() {
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int hintCount = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (!active || hintCount >= 6) {
                     cancel();
                     return;
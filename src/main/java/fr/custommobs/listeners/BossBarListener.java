@@ -0,0 +1,86 @@
+package fr.custommobs.listeners;
+
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.BossBarManager;
+import org.bukkit.Location;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityRegainHealthEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+/**
+ * Tient à jour les barres de boss à partir des événements : spectateurs selon les déplacements des joueurs,
+ * vie selon les dégâts et soins reçus par le boss
+ */
+public class BossBarListener implements Listener {
+
+    private final BossBarManager bossBarManager;
+
+    public BossBarListener(CustomMobsPlugin plugin) {
+        this.bossBarManager = plugin.getBossBarManager();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        // Simple rotation ou déplacement dans le même bloc
+        if (from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY()
+                && from.getBlockZ() == to.getBlockZ() && from.getWorld() == to.getWorld()) {
+            return;
+        }
+        bossBarManager.updateViewer(event.getPlayer(), to);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        bossBarManager.updateViewer(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        bossBarManager.updateViewer(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        bossBarManager.updateViewer(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        bossBarManager.removeViewer(event.getPlayer());
+    }
+
+    /**
+     * Un boss revient dans le monde (chunk rechargé) : il retrouve sa barre
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityAddToWorld(EntityAddToWorldEvent event) {
+        if (event.getEntity() instanceof LivingEntity entity) {
+            bossBarManager.reattach(entity);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityDamage(EntityDamageEvent event) {
+        if (event.getEntity() instanceof LivingEntity entity) {
+            bossBarManager.onBossHealthChange(entity, Math.max(0.0, entity.getHealth() - event.getFinalDamage()));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityRegainHealth(EntityRegainHealthEvent event) {
+        if (event.getEntity() instanceof LivingEntity entity) {
+            bossBarManager.onBossHealthChange(entity, entity.getHealth() + event.getAmount());
+        }
+    }
+}
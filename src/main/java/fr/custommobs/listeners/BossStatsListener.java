@@ -2,6 +2,7 @@ package fr.custommobs.listeners;
 
 import fr.custommobs.CustomMobsPlugin;
 import fr.custommobs.mobs.CustomMob;
+import fr.custommobs.mobs.EntityRole;
 import org.bukkit.entity.*;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -14,8 +15,10 @@ public class BossStatsListener implements Listener {
 
     private final CustomMobsPlugin plugin;
 
-    public BossStatsListener(CustomMobsPlugin plugin) {
+    public BossStatsListener(CustomMobsPlugin plugin, EntityDeathDispatcher deathDispatcher) {
         this.plugin = plugin;
+        deathDispatcher.register(EntityDeathDispatcher.Phase.MONITOR, EntityRole.BOSS, this::onBossDeath);
+        deathDispatcher.register(EntityDeathDispatcher.Phase.MONITOR, EntityRole.BOSS_MINION, this::onMinionDeath);
     }
 
     /**
@@ -65,33 +68,27 @@ public class BossStatsListener implements Listener {
     }
 
     /**
-     * Gère la mort des entités
+     * Mort d'un boss : fin du combat
      */
-    @EventHandler(priority = EventPriority.MONITOR)
-    public void onEntityDeath(EntityDeathEvent event) {
-        LivingEntity entity = event.getEntity();
-
-        if (CustomMob.isCustomMob(entity)) {
-            String mobId = CustomMob.getCustomMobId(entity);
+    private void onBossDeath(EntityDeathEvent event, LivingEntity entity, int roles) {
+        plugin.getBossStatsManager().endBossFight(entity, true);
+        plugin.getBossBarManager().removeBossBar(entity);
 
-            // Si c'est un boss qui meurt
-            if (isBoss(mobId)) {
-                plugin.getBossStatsManager().endBossFight(entity, true);
-                plugin.getBossBarManager().removeBossBar(entity);
+        plugin.getLogger().info("Boss vaincu: " + CustomMob.getCustomMobId(entity));
+    }
 
-                plugin.getLogger().info("Boss vaincu: " + mobId);
-            }
+    /**
+     * Mort d'un sbire : comptée pour le joueur qui l'a tué dans le combat du boss voisin
+     */
+    private void onMinionDeath(EntityDeathEvent event, LivingEntity entity, int roles) {
+        Player killer = entity.getKiller();
+        if (killer == null) return;
 
-            // Si c'est un sbire qui meurt
-            else if (isMinionOfBoss(entity)) {
-                Player killer = entity.getKiller();
-                if (killer != null) {
-                    LivingEntity boss = findNearbyBoss(entity);
-                    if (boss != null) {
-                        plugin.getBossStatsManager().recordMinionKill(boss, killer, mobId);
-                    }
-                }
-            }
+        LivingEntity boss = findNearbyBoss(entity);
+        if (boss != null) {
+            String mobId = CustomMob.getCustomMobId(entity);
+            plugin.getBossStatsManager().recordMinionKill(boss, killer,
+                    mobId != null ? mobId : entity.getType().name().toLowerCase());
         }
     }
 
@@ -135,12 +132,8 @@ public class BossStatsListener implements Listener {
         return null;
     }
 
-    /**
-     * Vérifie si c'est un boss
-     */
     private boolean isBoss(String mobId) {
-        if (mobId == null) return false;
-        return mobId.contains("boss");
+        return plugin.getMobManager().isBoss(mobId);
     }
 
     /**
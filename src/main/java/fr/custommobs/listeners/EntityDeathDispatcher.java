@@ -0,0 +1,116 @@
+package fr.custommobs.listeners;
+
+import fr.custommobs.mobs.EntityRole;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+
+import java.util.Arrays;
+
+/**
+ * Point d'entrée unique des morts d'entités (hors joueurs, gérés par PlayerDeathEvent).
+ * Les rôles de l'entité (EntityRole) sont lus une seule fois dans le PDC, puis la mort est transmise aux handlers
+ * de chacun de ses rôles via une table indexée par rôle, construite à l'enregistrement.
+ * Une entité sans rôle ne passe que par les handlers communs à toutes les entités.
+ * Deux phases : DROPS (priorité HIGH, loots et XP modifiables) puis MONITOR (lecture seule, issue définitive).
+ * Doit être utilisé uniquement depuis le thread principal.
+ */
+public class EntityDeathDispatcher implements Listener {
+
+    public enum Phase {
+        DROPS,  // Priorité HIGH : peut modifier les drops et l'XP
+        MONITOR // Priorité MONITOR : observe la mort sans la modifier
+    }
+
+    @FunctionalInterface
+    public interface DeathHandler {
+        void onDeath(EntityDeathEvent event, LivingEntity entity, int roles);
+    }
+
+    private static final DeathHandler[] NONE = new DeathHandler[0];
+    private static final EntityRole[] ROLES = EntityRole.values();
+
+    private final HandlerTable drops = new HandlerTable();
+    private final HandlerTable monitors = new HandlerTable();
+
+    // Rôles résolus en phase DROPS, réutilisés par la phase MONITOR du même événement
+    private EntityDeathEvent resolvedEvent;
+    private int resolvedRoles;
+
+    /**
+     * Enregistre un handler appelé pour chaque mort d'entité portant ce rôle
+     */
+    public void register(Phase phase, EntityRole role, DeathHandler handler) {
+        HandlerTable table = table(phase);
+        int index = role.ordinal();
+        table.byRole[index] = append(table.byRole[index], handler);
+    }
+
+    /**
+     * Enregistre un handler appelé pour toutes les morts d'entités, avant les handlers par rôle
+     */
+    public void registerForAll(Phase phase, DeathHandler handler) {
+        HandlerTable table = table(phase);
+        table.always = append(table.always, handler);
+    }
+
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onEntityDeathDrops(EntityDeathEvent event) {
+        LivingEntity entity = event.getEntity();
+        if (entity instanceof Player) return;
+
+        int roles = EntityRole.getRoles(entity);
+        resolvedEvent = event;
+        resolvedRoles = roles;
+        dispatch(drops, event, entity, roles);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeathMonitor(EntityDeathEvent event) {
+        LivingEntity entity = event.getEntity();
+        if (entity instanceof Player) return;
+
+        int roles = event == resolvedEvent ? resolvedRoles : EntityRole.getRoles(entity);
+        resolvedEvent = null;
+        dispatch(monitors, event, entity, roles);
+    }
+
+    private void dispatch(HandlerTable table, EntityDeathEvent event, LivingEntity entity, int roles) {
+        for (DeathHandler handler : table.always) {
+            handler.onDeath(event, entity, roles);
+        }
+
+        // Un seul passage par rôle présent dans le masque, dans l'ordre des rôles
+        int remaining = roles;
+        while (remaining != 0) {
+            int index = Integer.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            if (index >= ROLES.length) break; // Bit d'une version plus récente
+            for (DeathHandler handler : table.byRole[index]) {
+                handler.onDeath(event, entity, roles);
+            }
+        }
+    }
+
+    private HandlerTable table(Phase phase) {
+        return phase == Phase.DROPS ? drops : monitors;
+    }
+
+    private static DeathHandler[] append(DeathHandler[] handlers, DeathHandler handler) {
+        DeathHandler[] copy = Arrays.copyOf(handlers, handlers.length + 1);
+        copy[handlers.length] = handler;
+        return copy;
+    }
+
+    private static final class HandlerTable {
+        private DeathHandler[] always = NONE;
+        private final DeathHandler[][] byRole = new DeathHandler[ROLES.length][];
+
+        private HandlerTable() {
+            Arrays.fill(byRole, NONE);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package fr.custommobs.listeners;
+
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.MobCensusManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+/**
+ * Tient à jour le recensement des monstres à partir des événements d'entités
+ */
+public class MobCensusListener implements Listener {
+
+    private final MobCensusManager census;
+
+    public MobCensusListener(CustomMobsPlugin plugin) {
+        this.census = plugin.getMobCensusManager();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityAddToWorld(EntityAddToWorldEvent event) {
+        census.track(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemoveFromWorld(EntityRemoveFromWorldEvent event) {
+        census.untrack(event.getEntity());
+    }
+
+    /**
+     * Une entité morte reste dans le monde le temps de son animation : on la retire du compte tout de suite
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityDeath(EntityDeathEvent event) {
+        census.untrack(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        census.forgetWorld(event.getWorld());
+    }
+}
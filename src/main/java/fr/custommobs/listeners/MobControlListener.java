@@ -1,5 +1,7 @@
 package fr.custommobs.listeners;
 
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
 import fr.custommobs.CustomMobsPlugin;
 import fr.custommobs.mobs.CustomMob;
 import org.bukkit.entity.*;
@@ -7,8 +9,10 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.entity.EntitySpawnEvent;
 import org.bukkit.event.entity.EntityTargetEvent;
 import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 
 public class MobControlListener implements Listener {
 
@@ -85,58 +89,65 @@ public class MobControlListener implements Listener {
      */
     @EventHandler(priority = EventPriority.HIGH)
     public void onChunkUnload(ChunkUnloadEvent event) {
+        // Aucun monstre custom recensé dans ce monde : rien à faire
+        if (plugin.getMobRegistry().getWorldCount(event.getWorld()) == 0) {
+            return;
+        }
+
         // Empêche le déchargement des chunks contenant des monstres custom importants
         for (Entity entity : event.getChunk().getEntities()) {
-            if (CustomMob.isCustomMob(entity)) {
-                String mobId = CustomMob.getCustomMobId(entity);
-
-                // Les boss et monstres avancés ne disparaissent pas
-                if (mobId != null && (mobId.contains("dragon") ||
-                        mobId.contains("necromancer") ||
-                        mobId.contains("titan"))) {
+            String mobId = plugin.getMobRegistry().getMobId(entity.getUniqueId());
 
-                    // Force la persistence
-                    if (entity instanceof LivingEntity) {
-                        ((LivingEntity) entity).setRemoveWhenFarAway(false);
-                    }
+            // Les boss et monstres avancés persistants ne disparaissent pas
+            if (mobId != null && plugin.getMobManager().getDescriptor(mobId).isPersistent()) {
+                // Force la persistence
+                if (entity instanceof LivingEntity) {
+                    ((LivingEntity) entity).setRemoveWhenFarAway(false);
                 }
             }
         }
     }
 
     /**
-     * Nettoie les entités inutiles pour l'optimisation
+     * Limite le nombre de projectiles et d'items au sol par monde pour l'optimisation.
+     * Limite atteinte : les plus anciens sont retirés pour que le nouveau (attaque de boss, loot) apparaisse.
      */
-    @EventHandler(priority = EventPriority.LOW)
-    public void onEntityTarget(org.bukkit.event.entity.EntitySpawnEvent event) {
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onEntitySpawn(EntitySpawnEvent event) {
         Entity entity = event.getEntity();
 
-        // Limite le nombre d'entités non-vivantes pour l'optimisation
-        if (!(entity instanceof LivingEntity)) {
+        int limit;
+        if (entity instanceof Projectile) {
+            limit = plugin.getConfig().getInt("optimization.max-projectiles", 100);
+        } else if (entity instanceof Item) {
+            limit = plugin.getConfig().getInt("optimization.max-items", 200);
+        } else {
+            return;
+        }
 
-            // Limite les projectiles
-            if (entity instanceof Projectile) {
-                long projectileCount = entity.getWorld().getEntities().stream()
-                        .filter(e -> e instanceof Projectile)
-                        .count();
+        if (limit <= 0) {
+            event.setCancelled(true);
+            return;
+        }
 
-                if (projectileCount > plugin.getConfig().getInt("optimization.max-projectiles", 100)) {
-                    event.setCancelled(true);
-                    return;
-                }
-            }
+        int evicted = plugin.getEntityCapManager().makeRoom(entity, limit);
+        if (evicted > 0) {
+            plugin.getLogger().fine(evicted + " " + entity.getType() + " retirés (limite " + limit + " atteinte)");
+        }
+    }
 
-            // Limite les items au sol
-            if (entity instanceof Item) {
-                long itemCount = entity.getWorld().getEntities().stream()
-                        .filter(e -> e instanceof Item)
-                        .count();
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityAddToWorld(EntityAddToWorldEvent event) {
+        plugin.getEntityCapManager().track(event.getEntity());
+    }
 
-                if (itemCount > plugin.getConfig().getInt("optimization.max-items", 200)) {
-                    event.setCancelled(true);
-                    return;
-                }
-            }
-        }
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemoveFromWorld(EntityRemoveFromWorldEvent event) {
+        plugin.getEntityCapManager().untrack(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        plugin.getEntityCapManager().forgetWorld(event.getWorld());
     }
 }
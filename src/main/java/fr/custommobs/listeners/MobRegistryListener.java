@@ -0,0 +1,56 @@
+package fr.custommobs.listeners;
+
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.MobRegistry;
+import fr.custommobs.mobs.CustomMob;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+/**
+ * Tient à jour le registre des monstres custom vivants.
+ * Enregistré en dernier pour que les autres handlers MONITOR de mort voient encore la fiche du monstre.
+ */
+public class MobRegistryListener implements Listener {
+
+    private final CustomMobsPlugin plugin;
+    private final MobRegistry registry;
+
+    public MobRegistryListener(CustomMobsPlugin plugin) {
+        this.plugin = plugin;
+        this.registry = plugin.getMobRegistry();
+    }
+
+    /**
+     * Un monstre custom revient dans le monde (chargement de son chunk, redémarrage) : on recrée son comportement
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityAddToWorld(EntityAddToWorldEvent event) {
+        if (!(event.getEntity() instanceof LivingEntity entity) || registry.isRegistered(entity.getUniqueId())) return;
+
+        String mobId = CustomMob.getCustomMobId(entity);
+        if (mobId != null) {
+            plugin.getMobManager().restoreCustomMob(entity, mobId);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemoveFromWorld(EntityRemoveFromWorldEvent event) {
+        registry.unregister(event.getEntity().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityDeath(EntityDeathEvent event) {
+        registry.unregister(event.getEntity().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        registry.forgetWorld(event.getWorld());
+    }
+}
@@ -2,6 +2,7 @@ package fr.custommobs.listeners;
 
 import fr.custommobs.CustomMobsPlugin;
 import fr.custommobs.mobs.CustomMob;
+import fr.custommobs.mobs.EntityRole;
 import org.bukkit.Location;
 import org.bukkit.Sound;
 import org.bukkit.Particle;
@@ -18,8 +19,10 @@ public class MobSpawnListener implements Listener {
 
     private final CustomMobsPlugin plugin;
 
-    public MobSpawnListener(CustomMobsPlugin plugin) {
+    public MobSpawnListener(CustomMobsPlugin plugin, EntityDeathDispatcher deathDispatcher) {
         this.plugin = plugin;
+        deathDispatcher.registerForAll(EntityDeathDispatcher.Phase.DROPS, this::clearVanillaDrops);
+        deathDispatcher.register(EntityDeathDispatcher.Phase.DROPS, EntityRole.CUSTOM_MOB, this::onCustomMobDeath);
     }
 
     /**
@@ -38,18 +41,11 @@ public class MobSpawnListener implements Listener {
                 event.setCancelled(true);
                 return;
             }
-            // Applique la limite pour monstres + IronGolem
+            // Applique la limite pour monstres + IronGolem (lecture O(1) du recensement)
             if (entity instanceof Monster || entity instanceof IronGolem) {
-                int count = 0;
-                for (LivingEntity e : entity.getWorld().getLivingEntities()) {
-                    if (e instanceof Player) continue;
-                    if (e instanceof Monster || e instanceof IronGolem) {
-                        count++;
-                        if (count >= 200) {
-                            event.setCancelled(true);
-                            return;
-                        }
-                    }
+                if (plugin.getMobCensusManager().getHostileCount(entity.getWorld()) >= 200) {
+                    event.setCancelled(true);
+                    return;
                 }
             }
         }
@@ -86,20 +82,17 @@ public class MobSpawnListener implements Listener {
     }
 
     /**
-     * Gère la mort des monstres custom pour les loots
+     * Aucune entité ne lâche ses drops ni son XP vanilla
      */
-    @EventHandler(priority = EventPriority.HIGH)
-    public void onEntityDeath(EntityDeathEvent event) {
-        LivingEntity entity = event.getEntity();
-        if (entity instanceof Player) {
-            return;
-        }
+    private void clearVanillaDrops(EntityDeathEvent event, LivingEntity entity, int roles) {
         event.getDrops().clear();
         event.setDroppedExp(0);
-        // Vérifie si c'est un monstre custom
-        if (!CustomMob.isCustomMob(entity)) {
-            return;
-        }
+    }
+
+    /**
+     * Gère la mort des monstres custom pour les loots
+     */
+    private void onCustomMobDeath(EntityDeathEvent event, LivingEntity entity, int roles) {
         String mobId = CustomMob.getCustomMobId(entity);
         if (mobId != null) {
             // Génère les loots custom
@@ -114,24 +107,10 @@ public class MobSpawnListener implements Listener {
     }
 
     /**
-     * Calcule l'XP custom basé sur le type de monstre
+     * XP custom tirée dans la fourchette du descripteur du monstre
      */
     private int calculateCustomExp(String mobId) {
-        // Monstres simples
-        if (mobId.contains("zombie") || mobId.contains("skeleton") ||
-                mobId.contains("spider") || mobId.contains("creeper") ||
-                mobId.contains("enderman") || mobId.contains("witch") ||
-                mobId.contains("golem")) {
-            return 15 + (int) (Math.random() * 10); // 15-25 XP
-        }
-
-        // Monstres avancés
-        if (mobId.contains("dragon") || mobId.contains("necromancer") ||
-                mobId.contains("titan")) {
-            return 50 + (int) (Math.random() * 30); // 50-80 XP
-        }
-
-        return 10; // Défaut
+        return plugin.getMobManager().getDescriptor(mobId).rollExp();
     }
 
     /**
@@ -0,0 +1,42 @@
+package fr.custommobs.listeners;
+
+import fr.custommobs.CustomMobsPlugin;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+/**
+ * Maintient les index de surfaces de spawn à jour (chargement de chunks, blocs posés/cassés dans les mines)
+ */
+public class SpawnZoneListener implements Listener {
+
+    private final CustomMobsPlugin plugin;
+
+    public SpawnZoneListener(CustomMobsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        plugin.getSpawnManager().handleChunkLoad(event.getChunk());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        plugin.getSpawnManager().handleChunkUnload(event.getChunk());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        plugin.getSpawnManager().handleBlockChange(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        plugin.getSpawnManager().handleBlockChange(event.getBlock());
+    }
+}
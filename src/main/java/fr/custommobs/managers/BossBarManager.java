@@ -2,62 +2,124 @@ package fr.custommobs.managers;
 
 import fr.custommobs.CustomMobsPlugin;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.attribute.Attribute;
 import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarFlag;
 import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
+/**
+ * Barres de boss, indexées par UUID d'entité : un boss qui quitte puis retrouve le monde (chunk déchargé
+ * puis rechargé) est représenté par un nouvel objet LivingEntity mais garde la même barre.
+ * Une seule tâche met à jour toutes les barres.
+ */
 public class BossBarManager {
 
+    private static final double VIEW_DISTANCE_SQUARED = 50 * 50;
+    private static final double PROGRESS_THRESHOLD = 0.01; // Variation minimale de vie (1%) pour renvoyer la barre
+    private static final long DETACHED_TIMEOUT_MS = 10 * 60 * 1000L; // Boss déchargé jamais revenu
+
     private final CustomMobsPlugin plugin;
-    private final Map<LivingEntity, BossBar> bossBars;
+    private final Map<UUID, TrackedBar> bossBars;
+    private BukkitTask updaterTask;
 
     public BossBarManager(CustomMobsPlugin plugin) {
         this.plugin = plugin;
         this.bossBars = new HashMap<>();
+        startBossBarUpdater();
+    }
+
+    /**
+     * Barre d'un boss, avec ses spectateurs et le dernier état envoyé aux joueurs.
+     * "entity" est null tant que le boss est hors du monde (chunk déchargé).
+     */
+    private static final class TrackedBar {
+        private final BossBar bossBar;
+        private final Set<UUID> viewers = new HashSet<>();
+        private LivingEntity entity;
+        private double lastProgress = 1.0;
+        private long lastBlockKey;
+        private long detachedAt;
+
+        private TrackedBar(BossBar bossBar) {
+            this.bossBar = bossBar;
+        }
     }
 
     /**
-     * Crée une barre de boss pour une entité
+     * Crée une barre de boss pour une entité. Si le boss en a déjà une (retour dans le monde),
+     * elle lui est simplement rattachée.
      */
     public void createBossBar(LivingEntity entity, String name, BarColor color) {
-        if (bossBars.containsKey(entity)) {
-            removeBossBar(entity); // Supprime l'ancienne si elle existe
+        TrackedBar existing = bossBars.get(entity.getUniqueId());
+        if (existing != null) {
+            existing.bossBar.setTitle(name);
+            if (existing.entity != entity) {
+                attach(existing, entity);
+            }
+            return;
         }
 
         BossBar bossBar = Bukkit.createBossBar(name, color, BarStyle.SOLID, BarFlag.PLAY_BOSS_MUSIC);
         bossBar.setProgress(1.0);
 
-        // Ajoute tous les joueurs en ligne
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.getWorld().equals(entity.getWorld()) &&
-                    player.getLocation().distance(entity.getLocation()) <= 50) {
-                bossBar.addPlayer(player);
-            }
+        TrackedBar tracked = new TrackedBar(bossBar);
+        bossBars.put(entity.getUniqueId(), tracked);
+        attach(tracked, entity);
+        plugin.getLogger().info("Boss bar créée pour: " + name);
+    }
+
+    /**
+     * Rattache sa barre à un boss qui revient dans le monde (EntityAddToWorldEvent). Sans effet s'il n'en a pas.
+     */
+    public void reattach(LivingEntity entity) {
+        TrackedBar tracked = bossBars.get(entity.getUniqueId());
+        if (tracked != null && tracked.entity != entity) {
+            attach(tracked, entity);
         }
+    }
 
-        bossBars.put(entity, bossBar);
-        plugin.getLogger().info("Boss bar créée pour: " + name);
+    private void attach(TrackedBar tracked, LivingEntity entity) {
+        tracked.entity = entity;
+        tracked.detachedAt = 0L;
+        refreshViewers(tracked);
+        applyProgress(tracked, Math.max(0.0, Math.min(1.0, entity.getHealth() / getMaxHealth(entity))));
+    }
 
-        // Démarre la mise à jour de la barre
-        startBossBarUpdater(entity, bossBar);
+    /**
+     * Boss sorti du monde sans mourir : la barre est masquée mais conservée pour son retour
+     */
+    private void detach(TrackedBar tracked) {
+        tracked.bossBar.removeAll();
+        tracked.viewers.clear();
+        tracked.entity = null;
+        tracked.detachedAt = System.currentTimeMillis();
     }
 
     /**
      * Supprime une barre de boss
      */
     public void removeBossBar(LivingEntity entity) {
-        BossBar bossBar = bossBars.get(entity);
-        if (bossBar != null) {
-            bossBar.removeAll();
-            bossBars.remove(entity);
-            plugin.getLogger().fine("Boss bar supprimée pour l'entité: " + entity.getUniqueId());
+        removeBossBar(entity.getUniqueId());
+    }
+
+    public void removeBossBar(UUID entityId) {
+        TrackedBar tracked = bossBars.remove(entityId);
+        if (tracked != null) {
+            tracked.bossBar.removeAll();
+            tracked.viewers.clear();
+            plugin.getLogger().fine("Boss bar supprimée pour l'entité: " + entityId);
         }
     }
 
@@ -65,119 +127,209 @@ public class BossBarManager {
      * Met à jour une barre de boss
      */
     public void updateBossBar(LivingEntity entity, double health, double maxHealth) {
-        BossBar bossBar = bossBars.get(entity);
-        if (bossBar != null) {
-            double progress = Math.max(0.0, Math.min(1.0, health / maxHealth));
-            bossBar.setProgress(progress);
-
-            // Change la couleur selon la vie
-            if (progress > 0.7) {
-                bossBar.setColor(BarColor.GREEN);
-            } else if (progress > 0.4) {
-                bossBar.setColor(BarColor.YELLOW);
-            } else if (progress > 0.2) {
-                bossBar.setColor(BarColor.RED);
-            } else {
-                bossBar.setColor(BarColor.PURPLE);
-            }
+        TrackedBar tracked = bossBars.get(entity.getUniqueId());
+        if (tracked != null) {
+            applyProgress(tracked, Math.max(0.0, Math.min(1.0, health / maxHealth)));
         }
     }
 
     /**
-     * Démarre la mise à jour automatique d'une barre de boss
+     * Vie du boss modifiée (dégâts, soins) : la barre n'est renvoyée que si la variation est visible
      */
-    private void startBossBarUpdater(LivingEntity entity, BossBar bossBar) {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (entity.isDead() || !bossBars.containsKey(entity)) {
-                    removeBossBar(entity);
-                    cancel();
-                    return;
-                }
+    public void onBossHealthChange(LivingEntity entity, double newHealth) {
+        if (bossBars.isEmpty()) return;
+        TrackedBar tracked = bossBars.get(entity.getUniqueId());
+        if (tracked != null && tracked.entity != null) {
+            pushHealth(entity, tracked, newHealth);
+        }
+    }
 
-                // Met à jour la barre de vie
-                updateBossBar(entity, entity.getHealth(), entity.getAttribute(org.bukkit.attribute.Attribute.MAX_HEALTH).getBaseValue());
+    private void pushHealth(LivingEntity entity, TrackedBar tracked, double health) {
+        double progress = Math.max(0.0, Math.min(1.0, health / getMaxHealth(entity)));
+        if (Math.abs(progress - tracked.lastProgress) >= PROGRESS_THRESHOLD
+                || (progress != tracked.lastProgress && (progress == 0.0 || progress == 1.0))
+                || colorFor(progress) != colorFor(tracked.lastProgress)) {
+            applyProgress(tracked, progress);
+        }
+    }
 
-                // Gère les joueurs qui entrent/sortent de la zone
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    double distance = player.getWorld().equals(entity.getWorld()) ?
-                            player.getLocation().distance(entity.getLocation()) : Double.MAX_VALUE;
+    private void applyProgress(TrackedBar tracked, double progress) {
+        tracked.lastProgress = progress;
+        tracked.bossBar.setProgress(progress);
 
-                    if (distance <= 50 && !bossBar.getPlayers().contains(player)) {
-                        bossBar.addPlayer(player);
-                    } else if (distance > 50 && bossBar.getPlayers().contains(player)) {
-                        bossBar.removePlayer(player);
-                    }
-                }
-            }
-        }.runTaskTimer(plugin, 0L, 10L); // Toutes les 0.5 secondes
+        // Change la couleur selon la vie
+        BarColor color = colorFor(progress);
+        if (tracked.bossBar.getColor() != color) {
+            tracked.bossBar.setColor(color);
+        }
+    }
+
+    private static BarColor colorFor(double progress) {
+        if (progress > 0.7) {
+            return BarColor.GREEN;
+        } else if (progress > 0.4) {
+            return BarColor.YELLOW;
+        } else if (progress > 0.2) {
+            return BarColor.RED;
+        }
+        return BarColor.PURPLE;
     }
 
+    private static double getMaxHealth(LivingEntity entity) {
+        return entity.getAttribute(Attribute.MAX_HEALTH).getBaseValue();
+    }
+
+    // =================================
+    // SPECTATEURS
+    // =================================
+
     /**
-     * Nettoie toutes les barres de boss
+     * Un joueur a changé de bloc, de monde ou s'est connecté : réévalue sa présence près de chaque boss
      */
-    public void cleanup() {
-        for (BossBar bossBar : bossBars.values()) {
-            bossBar.removeAll();
+    public void updateViewer(Player player, Location location) {
+        for (TrackedBar tracked : bossBars.values()) {
+            if (tracked.entity != null) {
+                updateViewer(tracked, player, location);
+            }
         }
-        bossBars.clear();
     }
 
     /**
-     * Vérifie si une entité est un boss et crée automatiquement sa barre - MÉTHODE CORRIGÉE
+     * Un joueur s'est déconnecté
      */
-    public void checkAndCreateBossBar(LivingEntity entity, String mobId) {
-        if (isBoss(mobId)) {
-            String name = getBossDisplayName(mobId, entity);
-            BarColor color = getBossColor(mobId);
-            createBossBar(entity, name, color);
-            plugin.getLogger().info("Boss bar auto-créée pour: " + mobId);
+    public void removeViewer(Player player) {
+        for (TrackedBar tracked : bossBars.values()) {
+            if (tracked.viewers.remove(player.getUniqueId())) {
+                tracked.bossBar.removePlayer(player);
+            }
+        }
+    }
+
+    private void updateViewer(TrackedBar tracked, Player player, Location location) {
+        boolean inRange = location.getWorld() == tracked.entity.getWorld()
+                && location.distanceSquared(tracked.entity.getLocation()) <= VIEW_DISTANCE_SQUARED;
+        if (inRange) {
+            if (tracked.viewers.add(player.getUniqueId())) {
+                tracked.bossBar.addPlayer(player);
+            }
+        } else if (tracked.viewers.remove(player.getUniqueId())) {
+            tracked.bossBar.removePlayer(player);
         }
     }
 
     /**
-     * Vérifie si c'est un boss - MÉTHODE AMÉLIORÉE
+     * Réévalue tous les joueurs du monde du boss (rattachement, déplacement du boss)
      */
-    private boolean isBoss(String mobId) {
-        if (mobId == null) return false;
-
-        // Boss explicites
-        if (mobId.contains("boss")) {
+    private void refreshViewers(TrackedBar tracked) {
+        LivingEntity entity = tracked.entity;
+        tracked.lastBlockKey = blockKey(entity.getLocation());
+        // Joueurs partis dans un autre monde sans événement reçu (sécurité)
+        tracked.viewers.removeIf(uuid -> {
+            Player viewer = Bukkit.getPlayer(uuid);
+            if (viewer != null && viewer.getWorld() == entity.getWorld()) return false;
+            if (viewer != null) tracked.bossBar.removePlayer(viewer);
             return true;
+        });
+        for (Player player : entity.getWorld().getPlayers()) {
+            updateViewer(tracked, player, player.getLocation());
         }
+    }
 
-        return false;
+    private static long blockKey(Location location) {
+        return ((long) location.getBlockX() & 0x3FFFFFF) << 38
+                | ((long) location.getBlockY() & 0xFFF) << 26
+                | ((long) location.getBlockZ() & 0x3FFFFFF);
     }
 
+    // =================================
+    // MISE À JOUR
+    // =================================
+
     /**
-     * Récupère le nom d'affichage du boss - MÉTHODE AMÉLIORÉE
+     * Tâche unique de mise à jour de toutes les barres.
+     * Les spectateurs d'une barre ne sont réévalués que si son boss a changé de bloc ; la vie n'est renvoyée
+     * que si elle a dérivé au-delà du seuil (soins ou dégâts appliqués sans événement).
      */
-    private String getBossDisplayName(String mobId, LivingEntity entity) {
-        // Utilise le nom custom de l'entité si disponible
-        if (entity.getCustomName() != null) {
-            return entity.getCustomName();
-        }
+    private void startBossBarUpdater() {
+        updaterTask = new ProfiledRunnable() {
+            @Override
+            protected void tick() {
+                if (bossBars.isEmpty()) return;
+
+                long now = System.currentTimeMillis();
+                Iterator<Map.Entry<UUID, TrackedBar>> iterator = bossBars.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<UUID, TrackedBar> entry = iterator.next();
+                    TrackedBar tracked = entry.getValue();
+                    LivingEntity entity = tracked.entity;
+
+                    if (entity == null) {
+                        if (now - tracked.detachedAt > DETACHED_TIMEOUT_MS) {
+                            tracked.bossBar.removeAll();
+                            iterator.remove();
+                        }
+                        continue;
+                    }
+
+                    if (!entity.isValid()) {
+                        if (isUnloaded(entity)) {
+                            detach(tracked);
+                        } else {
+                            tracked.bossBar.removeAll();
+                            iterator.remove();
+                        }
+                        continue;
+                    }
+                    // Le registre est la source de vérité : un boss retiré par le plugin n'y figure plus
+                    if (!plugin.getMobRegistry().isRegistered(entry.getKey())) {
+                        tracked.bossBar.removeAll();
+                        iterator.remove();
+                        continue;
+                    }
+
+                    pushHealth(entity, tracked, entity.getHealth());
+                    if (blockKey(entity.getLocation()) != tracked.lastBlockKey) {
+                        refreshViewers(tracked);
+                    }
+                }
+            }
+        }.runTaskTimer(plugin, 10L, 10L); // Toutes les 0.5 secondes
+    }
 
-        // Sinon utilise un nom basé sur l'ID
-        return switch (mobId) {
-            case "wither_boss" -> "§5§lArchliche Nécrosis";
-            case "warden_boss" -> "§0§lGardien des Abysses";
-            case "ravager_boss" -> "§c§lDévastateur Primordial";
-            default -> "§6§lBoss Mystérieux";
-        };
+    /**
+     * Entité sortie du monde avec son chunk (et non morte ou supprimée)
+     */
+    private static boolean isUnloaded(LivingEntity entity) {
+        Location location = entity.getLocation();
+        return entity.getHealth() > 0
+                && !entity.getWorld().isChunkLoaded(location.getBlockX() >> 4, location.getBlockZ() >> 4);
     }
 
     /**
-     * Récupère la couleur de la barre du boss - MÉTHODE AMÉLIORÉE
+     * Nettoie toutes les barres de boss (désactivation du plugin)
      */
-    private BarColor getBossColor(String mobId) {
-        return switch (mobId) {
-            case "wither_boss", "necromancer_dark" -> BarColor.PURPLE;
-            case "warden_boss" -> BarColor.BLUE;
-            case "ravager_boss", "dragon_fire" -> BarColor.RED;
-            case "geode_aberration" -> BarColor.PINK;
-            default -> BarColor.WHITE;
-        };
+    public void cleanup() {
+        if (updaterTask != null) {
+            updaterTask.cancel();
+            updaterTask = null;
+        }
+        for (TrackedBar tracked : bossBars.values()) {
+            tracked.bossBar.removeAll();
+            tracked.viewers.clear();
+        }
+        bossBars.clear();
+    }
+
+    /**
+     * Crée automatiquement la barre d'un boss, d'après le descripteur de son type
+     */
+    public void checkAndCreateBossBar(LivingEntity entity, String mobId) {
+        MobDescriptor descriptor = plugin.getMobManager().getDescriptor(mobId);
+        if (descriptor.isBoss()) {
+            String name = entity.getCustomName() != null ? entity.getCustomName()
+                    : descriptor.displayName() != null ? descriptor.displayName() : "§6§lBoss Mystérieux";
+            createBossBar(entity, name, descriptor.barColor());
+            plugin.getLogger().info("Boss bar auto-créée pour: " + mobId);
+        }
     }
 }
\ No newline at end of file
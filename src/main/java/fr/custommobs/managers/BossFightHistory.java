@@ -0,0 +1,378 @@
+package fr.custommobs.managers;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import fr.custommobs.CustomMobsPlugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Historique persistant des combats de boss terminés.
+ * Chaque combat est ajouté en fin de journal (une ligne JSON par combat, un fichier par jour dans boss-history/).
+ * Un petit index (événement, monstre, joueur -> position dans le journal) permet les requêtes, et seuls les
+ * combats récents restent en mémoire (LRU). Les journaux expirés et leurs entrées d'index sont supprimés au
+ * démarrage puis à chaque changement de jour. Toutes les écritures, lectures et l'index vivent sur un unique
+ * thread dédié : le thread principal ne fait que soumettre des instantanés immuables.
+ */
+public class BossFightHistory {
+
+    private static final String DIRECTORY = "boss-history";
+    private static final String EXTENSION = ".jsonl";
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000L;
+
+    private final CustomMobsPlugin plugin;
+    private final Path directory;
+    private final Gson gson = new Gson();
+    private final ExecutorService ioExecutor;
+    private final int retentionDays;
+
+    // Confinés au thread d'écriture
+    private final Map<String, List<RecordRef>> byEvent = new HashMap<>();
+    private final Map<String, List<RecordRef>> byMob = new HashMap<>();
+    private final Map<UUID, List<RecordRef>> byPlayer = new HashMap<>();
+    private final TreeSet<LocalDate> segmentDays = new TreeSet<>(); // Journaux présents sur disque
+    private final LinkedHashMap<RecordRef, FightRecord> recentFights;
+    private FileChannel channel;
+    private LocalDate channelDay;
+
+    public BossFightHistory(CustomMobsPlugin plugin) {
+        this.plugin = plugin;
+        this.directory = new File(plugin.getDataFolder(), DIRECTORY).toPath();
+        this.retentionDays = Math.max(1, plugin.getConfig().getInt("boss-history.retention-days", 30));
+        int cacheSize = Math.max(1, plugin.getConfig().getInt("boss-history.cache-size", 64));
+        this.recentFights = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RecordRef, FightRecord> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.ioExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CustomMobs-BossHistory");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        ioExecutor.execute(this::loadIndex);
+    }
+
+    // =================================
+    // ÉCRITURE
+    // =================================
+
+    /**
+     * Ajoute un combat terminé au journal (hors thread principal)
+     */
+    public void record(FightRecord fight) {
+        ioExecutor.execute(() -> append(fight));
+    }
+
+    /**
+     * Force l'écriture sur disque du journal du jour
+     */
+    public void flush() {
+        ioExecutor.execute(() -> {
+            try {
+                if (channel != null) channel.force(false);
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Impossible de synchroniser l'historique des boss", e);
+            }
+        });
+    }
+
+    private void append(FightRecord fight) {
+        try {
+            LocalDate day = dayOf(fight.endTime());
+            if (channel == null || !day.equals(channelDay)) {
+                closeChannel();
+                Files.createDirectories(directory);
+                channel = FileChannel.open(segment(day), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                channelDay = day;
+                segmentDays.add(day);
+                expireBefore(day.minusDays(retentionDays));
+            }
+
+            byte[] line = (gson.toJson(fight) + "\n").getBytes(StandardCharsets.UTF_8);
+            long offset = channel.size();
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+
+            RecordRef ref = new RecordRef(day, offset, line.length - 1);
+            index(ref, fight);
+            recentFights.put(ref, fight);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Impossible d'écrire l'historique du combat contre " + fight.mobId(), e);
+        }
+    }
+
+    // =================================
+    // REQUÊTES
+    // =================================
+
+    /**
+     * Derniers combats d'un joueur, du plus récent au plus ancien
+     */
+    public CompletableFuture<List<FightRecord>> findByPlayer(UUID playerId, int limit) {
+        return CompletableFuture.supplyAsync(() -> resolve(byPlayer.get(playerId), limit), ioExecutor);
+    }
+
+    /**
+     * Derniers combats d'un événement, du plus récent au plus ancien
+     */
+    public CompletableFuture<List<FightRecord>> findByEvent(String eventId, int limit) {
+        return CompletableFuture.supplyAsync(() -> resolve(byEvent.get(eventId), limit), ioExecutor);
+    }
+
+    /**
+     * Derniers combats contre un type de boss, du plus récent au plus ancien
+     */
+    public CompletableFuture<List<FightRecord>> findByMob(String mobId, int limit) {
+        return CompletableFuture.supplyAsync(() -> resolve(byMob.get(mobId), limit), ioExecutor);
+    }
+
+    private List<FightRecord> resolve(List<RecordRef> refs, int limit) {
+        List<FightRecord> result = new ArrayList<>();
+        if (refs == null) return result;
+
+        for (int i = refs.size() - 1; i >= 0 && result.size() < limit; i--) {
+            RecordRef ref = refs.get(i);
+            FightRecord fight = recentFights.get(ref);
+            if (fight == null) {
+                fight = read(ref);
+                if (fight == null) continue;
+                recentFights.put(ref, fight);
+            }
+            result.add(fight);
+        }
+        return result;
+    }
+
+    private FightRecord read(RecordRef ref) {
+        try (FileChannel reader = FileChannel.open(segment(ref.day()), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(ref.length());
+            long position = ref.offset();
+            while (buffer.hasRemaining()) {
+                int read = reader.read(buffer, position);
+                if (read < 0) break;
+                position += read;
+            }
+            return gson.fromJson(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8), FightRecord.class);
+        } catch (IOException | JsonParseException e) {
+            plugin.getLogger().warning("Combat illisible dans l'historique " + ref.day() + " @" + ref.offset() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    // =================================
+    // INDEX
+    // =================================
+
+    /**
+     * Supprime les journaux expirés puis indexe les journaux restants, du plus ancien au plus récent
+     */
+    private void loadIndex() {
+        File[] files = directory.toFile().listFiles((dir, name) -> name.endsWith(EXTENSION));
+        if (files == null) return;
+
+        LocalDate oldest = LocalDate.now().minusDays(retentionDays);
+        List<LocalDate> days = new ArrayList<>();
+        for (File file : files) {
+            String name = file.getName();
+            try {
+                LocalDate day = LocalDate.parse(name.substring(0, name.length() - EXTENSION.length()));
+                if (day.isBefore(oldest)) {
+                    Files.deleteIfExists(file.toPath());
+                } else {
+                    days.add(day);
+                }
+            } catch (RuntimeException | IOException e) {
+                plugin.getLogger().warning("Fichier ignoré dans " + DIRECTORY + ": " + name);
+            }
+        }
+        days.sort(null);
+
+        int count = 0;
+        for (LocalDate day : days) {
+            count += indexSegment(day);
+            segmentDays.add(day);
+        }
+        plugin.getLogger().info("Historique des boss chargé: " + count + " combat(s) sur " + days.size() + " jour(s)");
+    }
+
+    private int indexSegment(LocalDate day) {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(segment(day));
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Impossible de lire l'historique du " + day, e);
+            return 0;
+        }
+
+        int count = 0;
+        int start = 0;
+        for (int i = 0; i < content.length; i++) {
+            if (content[i] != '\n') continue;
+            if (i > start) {
+                try {
+                    FightRecord fight = gson.fromJson(new String(content, start, i - start, StandardCharsets.UTF_8), FightRecord.class);
+                    if (fight != null) {
+                        index(new RecordRef(day, start, i - start), fight);
+                        count++;
+                    }
+                } catch (JsonParseException e) {
+                    plugin.getLogger().warning("Ligne corrompue ignorée dans l'historique du " + day + " @" + start);
+                }
+            }
+            start = i + 1;
+        }
+        return count;
+    }
+
+    /**
+     * Supprime les journaux antérieurs à "oldest" et retire leurs combats de l'index et du cache
+     */
+    private void expireBefore(LocalDate oldest) {
+        if (segmentDays.isEmpty() || !segmentDays.first().isBefore(oldest)) return;
+
+        Iterator<LocalDate> expired = segmentDays.headSet(oldest).iterator();
+        while (expired.hasNext()) {
+            LocalDate day = expired.next();
+            try {
+                Files.deleteIfExists(segment(day));
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Impossible de supprimer l'historique du " + day, e);
+            }
+            expired.remove();
+        }
+
+        trimIndex(byEvent, oldest);
+        trimIndex(byMob, oldest);
+        trimIndex(byPlayer, oldest);
+        recentFights.keySet().removeIf(ref -> ref.day().isBefore(oldest));
+    }
+
+    /**
+     * Les références sont rangées par ordre chronologique : les expirées forment le début de chaque liste
+     */
+    private static <K> void trimIndex(Map<K, List<RecordRef>> index, LocalDate oldest) {
+        Iterator<List<RecordRef>> lists = index.values().iterator();
+        while (lists.hasNext()) {
+            List<RecordRef> refs = lists.next();
+            int expired = 0;
+            while (expired < refs.size() && refs.get(expired).day().isBefore(oldest)) {
+                expired++;
+            }
+            if (expired == refs.size()) {
+                lists.remove();
+            } else if (expired > 0) {
+                refs.subList(0, expired).clear();
+            }
+        }
+    }
+
+    private void index(RecordRef ref, FightRecord fight) {
+        byEvent.computeIfAbsent(fight.eventId(), k -> new ArrayList<>()).add(ref);
+        byMob.computeIfAbsent(fight.mobId(), k -> new ArrayList<>()).add(ref);
+        if (fight.participants() == null) return;
+        for (ParticipantRecord participant : fight.participants()) {
+            byPlayer.computeIfAbsent(participant.player(), k -> new ArrayList<>()).add(ref);
+        }
+    }
+
+    // =================================
+    // UTILITAIRES
+    // =================================
+
+    private Path segment(LocalDate day) {
+        return directory.resolve(day + EXTENSION);
+    }
+
+    private static LocalDate dayOf(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.force(false);
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Termine les écritures en attente (attente bornée) puis ferme le journal
+     */
+    public void shutdown() {
+        ioExecutor.execute(() -> {
+            try {
+                closeChannel();
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Fermeture incomplète de l'historique des boss", e);
+            }
+        });
+        ioExecutor.shutdown();
+        try {
+            if (!ioExecutor.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                plugin.getLogger().warning("Historique des boss: écritures non terminées après " + SHUTDOWN_TIMEOUT_MS + "ms");
+                ioExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            ioExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Position d'un combat dans le journal : jour, décalage et longueur (sans le saut de ligne)
+     */
+    private record RecordRef(LocalDate day, long offset, int length) {
+    }
+
+    /**
+     * Instantané immuable d'un combat terminé, tel qu'écrit dans le journal
+     */
+    public record FightRecord(String eventId, String mobId, String bossName, long startTime, long endTime,
+                              boolean victory, List<ParticipantRecord> participants) {
+
+        public long getDuration() {
+            return endTime - startTime;
+        }
+
+        public ParticipantRecord getParticipant(UUID playerId) {
+            if (participants == null) return null;
+            for (ParticipantRecord participant : participants) {
+                if (participant.player().equals(playerId)) return participant;
+            }
+            return null;
+        }
+    }
+
+    public record ParticipantRecord(UUID player, double damageToBoss, double damageFromBoss,
+                                    int minionKills, int deaths) {
+    }
+}
@@ -0,0 +1,160 @@
+package fr.custommobs.managers;
+
+import fr.custommobs.CustomMobsPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tableau latéral (sidebar) du classement des dégâts du combat de boss en cours, activé à la demande (/boss sidebar).
+ * Rafraîchi chaque seconde en lisant le top du classement incrémental du combat ; rien n'est redessiné
+ * tant que le classement n'a pas changé. Le scoreboard précédent du joueur est restauré à la désactivation.
+ */
+public class BossScoreboardManager {
+
+    private static final int SIDEBAR_SIZE = 5;
+    private static final String OBJECTIVE_NAME = "cm_boss_top";
+
+    private final CustomMobsPlugin plugin;
+    private final Map<UUID, Sidebar> sidebars = new HashMap<>();
+    private BukkitTask refreshTask;
+
+    public BossScoreboardManager(CustomMobsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Active ou désactive la sidebar du joueur, retourne true si elle est maintenant affichée
+     */
+    public boolean toggle(Player player) {
+        Sidebar sidebar = sidebars.remove(player.getUniqueId());
+        if (sidebar != null) {
+            restore(player, sidebar);
+            if (sidebars.isEmpty()) stopRefreshTask();
+            return false;
+        }
+
+        Scoreboard scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
+        Objective objective = scoreboard.registerNewObjective(OBJECTIVE_NAME, Criteria.DUMMY, "§6§lTOP DÉGÂTS");
+        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+
+        sidebar = new Sidebar(player.getScoreboard(), scoreboard, objective);
+        sidebars.put(player.getUniqueId(), sidebar);
+        player.setScoreboard(scoreboard);
+        update(player, sidebar);
+        startRefreshTask();
+        return true;
+    }
+
+    private void startRefreshTask() {
+        if (refreshTask != null) return;
+        refreshTask = new ProfiledRunnable() {
+            @Override
+            protected void tick() {
+                refresh();
+            }
+        }.runTaskTimer(plugin, 20L, 20L);
+    }
+
+    private void stopRefreshTask() {
+        if (refreshTask != null) {
+            refreshTask.cancel();
+            refreshTask = null;
+        }
+    }
+
+    private void refresh() {
+        Iterator<Map.Entry<UUID, Sidebar>> iterator = sidebars.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Sidebar> entry = iterator.next();
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player == null || !player.isOnline()) {
+                iterator.remove();
+                continue;
+            }
+            update(player, entry.getValue());
+        }
+        if (sidebars.isEmpty()) stopRefreshTask();
+    }
+
+    /**
+     * Redessine la sidebar si le combat suivi ou son classement a changé depuis le dernier affichage
+     */
+    private void update(Player player, Sidebar sidebar) {
+        BossStatsManager.BossFightStats fight = plugin.getBossStatsManager().getActiveFightOf(player.getUniqueId());
+        long version = fight != null ? fight.getRankingVersion() : -1L;
+        if (fight == sidebar.fight && version == sidebar.version) return;
+        sidebar.fight = fight;
+        sidebar.version = version;
+
+        Set<String> lines = new HashSet<>();
+        if (fight == null) {
+            sidebar.objective.setDisplayName("§7§lAucun combat de boss");
+        } else {
+            sidebar.objective.setDisplayName("§6§lTOP DÉGÂTS");
+            List<Map.Entry<UUID, Double>> top = fight.getTopDamageDealers(SIDEBAR_SIZE);
+            for (Map.Entry<UUID, Double> entry : top) {
+                Player dealer = Bukkit.getPlayer(entry.getKey());
+                String name = dealer != null ? dealer.getName() : entry.getKey().toString().substring(0, 8);
+                String line = (entry.getKey().equals(player.getUniqueId()) ? "§a" : "§f") + name;
+                lines.add(line);
+                sidebar.objective.getScore(line).setScore((int) Math.round(entry.getValue()));
+            }
+
+            // Hors du top : le joueur voit tout de même son rang
+            int rank = fight.getDamageRank(player.getUniqueId());
+            if (rank > SIDEBAR_SIZE) {
+                String line = "§7Vous: §e#" + rank;
+                lines.add(line);
+                sidebar.objective.getScore(line).setScore((int) Math.round(fight.getDamageToBoss(player.getUniqueId())));
+            }
+        }
+
+        for (String entry : sidebar.scoreboard.getEntries()) {
+            if (!lines.contains(entry)) {
+                sidebar.scoreboard.resetScores(entry);
+            }
+        }
+    }
+
+    private void restore(Player player, Sidebar sidebar) {
+        if (player.getScoreboard() == sidebar.scoreboard) {
+            player.setScoreboard(sidebar.previous != null ? sidebar.previous : Bukkit.getScoreboardManager().getMainScoreboard());
+        }
+    }
+
+    public void shutdown() {
+        stopRefreshTask();
+        for (Map.Entry<UUID, Sidebar> entry : sidebars.entrySet()) {
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player != null) restore(player, entry.getValue());
+        }
+        sidebars.clear();
+    }
+
+    private static final class Sidebar {
+        private final Scoreboard previous;
+        private final Scoreboard scoreboard;
+        private final Objective objective;
+        private BossStatsManager.BossFightStats fight;
+        private long version = Long.MIN_VALUE; // Force le premier affichage
+
+        private Sidebar(Scoreboard previous, Scoreboard scoreboard, Objective objective) {
+            this.previous = previous;
+            this.scoreboard = scoreboard;
+            this.objective = objective;
+        }
+    }
+}
@@ -1,14 +1,15 @@
 package fr.custommobs.managers;
 
 import fr.custommobs.CustomMobsPlugin;
-import fr.custommobs.mobs.CustomMob;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Gestionnaire de statistiques de boss amélioré avec intégration événements
@@ -18,13 +19,13 @@ public class BossStatsManager {
     private final CustomMobsPlugin plugin;
 
     // Stockage des statistiques par combat de boss
-    private final Map<String, BossFightStats> activeBossFights; // bossUUID -> stats
-    private final Map<String, List<BossFightStats>> completedFights; // eventId -> historique
+    private final Map<UUID, BossFightStats> activeBossFights; // bossUUID -> stats
+    private final BossFightHistory history; // Combats terminés, persistés sur disque
 
     public BossStatsManager(CustomMobsPlugin plugin) {
         this.plugin = plugin;
         this.activeBossFights = new HashMap<>();
-        this.completedFights = new HashMap<>();
+        this.history = new BossFightHistory(plugin);
 
         // Nettoyer les combats abandonnés toutes les 10 minutes
         startCleanupTask();
@@ -35,16 +36,20 @@ public class BossStatsManager {
      */
     public void startBossFight(LivingEntity boss, String mobId) {
         if (isBoss(mobId)) {
-            String bossId = boss.getUniqueId().toString();
+            UUID bossId = boss.getUniqueId();
             String bossName = boss.getCustomName() != null ? boss.getCustomName() : getBossDisplayName(mobId);
 
-            // Vérifie si le boss n'est pas déjà tracké
-            if (activeBossFights.containsKey(bossId)) {
-                plugin.getLogger().warning("Boss déjà tracké: " + bossId);
+            // Boss déjà tracké (rechargé avec son chunk par exemple) : le combat reprend, sans nouvelle annonce
+            BossFightStats existing = activeBossFights.get(bossId);
+            if (existing != null) {
+                existing.updateLastActivity();
+                existing.updatePosition(boss);
+                plugin.getLogger().info("§6[BOSS STATS] Reprise du combat en cours pour: " + mobId + " (" + existing.bossName + ")");
                 return;
             }
 
             BossFightStats stats = new BossFightStats(mobId, bossName);
+            stats.updatePosition(boss);
             activeBossFights.put(bossId, stats);
 
             plugin.getLogger().info("§6[BOSS STATS] Début du tracking pour: " + mobId + " (" + bossName + ")");
@@ -62,8 +67,7 @@ public class BossStatsManager {
     public void startBossFightForEvent(LivingEntity boss, String mobId, String eventId) {
         startBossFight(boss, mobId);
 
-        String bossId = boss.getUniqueId().toString();
-        BossFightStats stats = activeBossFights.get(bossId);
+        BossFightStats stats = activeBossFights.get(boss.getUniqueId());
         if (stats != null) {
             stats.setEventId(eventId);
             plugin.getLogger().info("§6[BOSS STATS] Combat associé à l'événement: " + eventId);
@@ -74,19 +78,19 @@ public class BossStatsManager {
      * Enregistre des dégâts infligés au boss
      */
     public void recordDamageToBoss(LivingEntity boss, Player player, double damage) {
-        String bossId = boss.getUniqueId().toString();
+        UUID bossId = boss.getUniqueId();
         BossFightStats stats = activeBossFights.get(bossId);
         if (stats != null) {
             stats.addDamageToBoss(player, damage);
-            stats.updateLastActivity();
+            stats.updatePosition(boss);
 
-            plugin.getLogger().fine("§6[BOSS STATS] Dégâts enregistrés: " + player.getName() +
-                    " -> " + damage + " (Total: " + stats.damageToBoss.getOrDefault(player.getUniqueId(), 0.0) + ")");
+            plugin.getLogger().fine(() -> "§6[BOSS STATS] Dégâts enregistrés: " + player.getName() +
+                    " -> " + damage + " (Total: " + stats.getDamageToBoss(player.getUniqueId()) + ")");
         } else {
-            plugin.getLogger().fine("§7[BOSS STATS] Dégâts non trackés - boss non enregistré: " + bossId);
+            plugin.getLogger().fine(() -> "§7[BOSS STATS] Dégâts non trackés - boss non enregistré: " + bossId);
 
             // Tenter de redémarrer le tracking automatiquement
-            String mobId = CustomMob.getCustomMobId(boss);
+            String mobId = plugin.getMobRegistry().getMobId(bossId);
             if (isBoss(mobId)) {
                 plugin.getLogger().info("§6[BOSS STATS] Redémarrage automatique du tracking pour: " + mobId);
                 startBossFight(boss, mobId);
@@ -99,15 +103,15 @@ public class BossStatsManager {
      * Enregistre des dégâts subis par un joueur
      */
     public void recordDamageFromBoss(LivingEntity boss, Player player, double damage) {
-        String bossId = boss.getUniqueId().toString();
+        UUID bossId = boss.getUniqueId();
         BossFightStats stats = activeBossFights.get(bossId);
         if (stats != null) {
             stats.addDamageFromBoss(player, damage);
-            stats.updateLastActivity();
+            stats.updatePosition(boss);
 
-            plugin.getLogger().fine("§6[BOSS STATS] Dégâts du boss enregistrés: " + player.getName() + " <- " + damage);
+            plugin.getLogger().fine(() -> "§6[BOSS STATS] Dégâts du boss enregistrés: " + player.getName() + " <- " + damage);
         } else {
-            plugin.getLogger().fine("§7[BOSS STATS] Dégâts du boss non trackés - boss non enregistré: " + bossId);
+            plugin.getLogger().fine(() -> "§7[BOSS STATS] Dégâts du boss non trackés - boss non enregistré: " + bossId);
         }
     }
 
@@ -115,15 +119,14 @@ public class BossStatsManager {
      * Enregistre la mort d'un sbire du boss
      */
     public void recordMinionKill(LivingEntity boss, Player player, String minionType) {
-        String bossId = boss.getUniqueId().toString();
+        UUID bossId = boss.getUniqueId();
         BossFightStats stats = activeBossFights.get(bossId);
         if (stats != null) {
             stats.addMinionKill(player, minionType);
-            stats.updateLastActivity();
 
-            plugin.getLogger().fine("§6[BOSS STATS] Sbire tué: " + player.getName() + " -> " + minionType);
+            plugin.getLogger().fine(() -> "§6[BOSS STATS] Sbire tué: " + player.getName() + " -> " + minionType);
         } else {
-            plugin.getLogger().fine("§7[BOSS STATS] Mort de sbire non trackée - boss non enregistré: " + bossId);
+            plugin.getLogger().fine(() -> "§7[BOSS STATS] Mort de sbire non trackée - boss non enregistré: " + bossId);
         }
     }
 
@@ -131,15 +134,14 @@ public class BossStatsManager {
      * Enregistre une mort de joueur
      */
     public void recordPlayerDeath(LivingEntity boss, Player player) {
-        String bossId = boss.getUniqueId().toString();
+        UUID bossId = boss.getUniqueId();
         BossFightStats stats = activeBossFights.get(bossId);
         if (stats != null) {
             stats.addPlayerDeath(player);
-            stats.updateLastActivity();
 
-            plugin.getLogger().fine("§6[BOSS STATS] Mort de joueur: " + player.getName());
+            plugin.getLogger().fine(() -> "§6[BOSS STATS] Mort de joueur: " + player.getName());
         } else {
-            plugin.getLogger().fine("§7[BOSS STATS] Mort de joueur non trackée - boss non enregistré: " + bossId);
+            plugin.getLogger().fine(() -> "§7[BOSS STATS] Mort de joueur non trackée - boss non enregistré: " + bossId);
         }
     }
 
@@ -147,23 +149,22 @@ public class BossStatsManager {
      * Termine un combat de boss
      */
     public void endBossFight(LivingEntity boss, boolean victory) {
-        String bossId = boss.getUniqueId().toString();
+        UUID bossId = boss.getUniqueId();
         BossFightStats stats = activeBossFights.remove(bossId);
 
         if (stats != null) {
             stats.endFight(victory);
 
             // Ajouter à l'historique
-            String eventId = stats.getEventId() != null ? stats.getEventId() : "manual";
-            completedFights.computeIfAbsent(eventId, k -> new ArrayList<>()).add(stats);
+            history.record(stats.toRecord("manual"));
 
             plugin.getLogger().info("§6[BOSS STATS] Combat terminé: " + stats.bossName +
                     " - " + (victory ? "VICTOIRE" : "DÉFAITE"));
 
             // Afficher les résultats après un délai
-            new BukkitRunnable() {
+            new ProfiledRunnable() {
                 @Override
-                public void run() {
+                protected void tick() {
                     displayResults(stats, victory);
                 }
             }.runTaskLater(plugin, 40L); // 2 secondes de délai
@@ -173,9 +174,9 @@ public class BossStatsManager {
 
             // Affichage générique si pas de stats
             String bossName = boss.getCustomName() != null ? boss.getCustomName() : "Boss Inconnu";
-            new BukkitRunnable() {
+            new ProfiledRunnable() {
                 @Override
-                public void run() {
+                protected void tick() {
                     displayGenericResults(bossName, victory);
                 }
             }.runTaskLater(plugin, 40L);
@@ -186,15 +187,38 @@ public class BossStatsManager {
      * Récupère les statistiques d'un combat actif
      */
     public BossFightStats getActiveBossFight(LivingEntity boss) {
-        String bossId = boss.getUniqueId().toString();
-        return activeBossFights.get(bossId);
+        return activeBossFights.get(boss.getUniqueId());
+    }
+
+    /**
+     * Récupère les derniers combats d'un événement (lecture asynchrone de l'historique)
+     */
+    public CompletableFuture<List<BossFightHistory.FightRecord>> getEventHistory(String eventId, int limit) {
+        return history.findByEvent(eventId, limit);
+    }
+
+    public BossFightHistory getHistory() {
+        return history;
     }
 
     /**
-     * Récupère l'historique des combats pour un événement
+     * Termine les écritures d'historique en attente
      */
-    public List<BossFightStats> getEventHistory(String eventId) {
-        return completedFights.getOrDefault(eventId, new ArrayList<>());
+    public void shutdown() {
+        history.shutdown();
+    }
+
+    /**
+     * Combat actif auquel le joueur participe (le plus récemment actif s'il y en a plusieurs), ou null
+     */
+    public BossFightStats getActiveFightOf(UUID playerId) {
+        BossFightStats found = null;
+        for (BossFightStats stats : activeBossFights.values()) {
+            if (stats.hasParticipant(playerId) && (found == null || stats.getLastActivity() > found.getLastActivity())) {
+                found = stats;
+            }
+        }
+        return found;
     }
 
     /**
@@ -211,14 +235,13 @@ public class BossStatsManager {
         plugin.getLogger().info("§6=== DEBUG BOSS STATS ===");
         plugin.getLogger().info("§6Nombre de boss actifs: " + activeBossFights.size());
 
-        for (Map.Entry<String, BossFightStats> entry : activeBossFights.entrySet()) {
+        for (Map.Entry<UUID, BossFightStats> entry : activeBossFights.entrySet()) {
             BossFightStats stats = entry.getValue();
-            Set<UUID> participants = getAllParticipants(stats);
-            double totalDamage = stats.damageToBoss.values().stream().mapToDouble(Double::doubleValue).sum();
+            double totalDamage = stats.getTotalDamageToBoss();
 
             plugin.getLogger().info("§6Boss: " + entry.getKey() + " -> " + stats.bossName + " (" + stats.mobId + ")");
             plugin.getLogger().info("§6  Event: " + (stats.getEventId() != null ? stats.getEventId() : "Manual"));
-            plugin.getLogger().info("§6  Participants: " + participants.size());
+            plugin.getLogger().info("§6  Participants: " + stats.getParticipantCount());
             plugin.getLogger().info("§6  Dégâts totaux: " + String.format("%.1f", totalDamage));
             plugin.getLogger().info("§6  Durée: " + formatDuration(System.currentTimeMillis() - stats.startTime));
         }
@@ -230,9 +253,7 @@ public class BossStatsManager {
      * Affiche les résultats du combat - MÉTHODE AMÉLIORÉE
      */
     private void displayResults(BossFightStats stats, boolean victory) {
-        Set<UUID> participants = getAllParticipants(stats);
-
-        if (participants.isEmpty()) {
+        if (stats.getParticipantCount() == 0) {
             displayGenericResults(stats.bossName, victory);
             return;
         }
@@ -246,7 +267,7 @@ public class BossStatsManager {
         Bukkit.broadcastMessage("§e§lBoss: " + stats.bossName);
         Bukkit.broadcastMessage("§a§lRésultat: " + (victory ? "§2§lVICTOIRE ! ✓" : "§c§lDÉFAITE ✗"));
         Bukkit.broadcastMessage("§7§lDurée: §f" + formatDuration(stats.getDuration()));
-        Bukkit.broadcastMessage("§7§lParticipants: §f" + participants.size());
+        Bukkit.broadcastMessage("§7§lParticipants: §f" + stats.getParticipantCount());
 
         if (stats.getEventId() != null) {
             Bukkit.broadcastMessage("§7§lÉvénement: §f" + stats.getEventId());
@@ -268,10 +289,7 @@ public class BossStatsManager {
      * Affiche le top des DPS
      */
     private void displayTopDamageDealer(BossFightStats stats) {
-        List<Map.Entry<UUID, Double>> topDamagers = stats.damageToBoss.entrySet().stream()
-                .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
-                .limit(3)
-                .collect(Collectors.toList());
+        List<Map.Entry<UUID, Double>> topDamagers = stats.getTopDamageDealers(3);
 
         if (!topDamagers.isEmpty()) {
             Bukkit.broadcastMessage("§6§l🏆 TOP DÉGÂTS:");
@@ -297,21 +315,21 @@ public class BossStatsManager {
      */
     private void displayMiscStats(BossFightStats stats) {
         // Dégâts totaux infligés
-        double totalDamageDealt = stats.damageToBoss.values().stream().mapToDouble(Double::doubleValue).sum();
-        double totalDamageReceived = stats.damageFromBoss.values().stream().mapToDouble(Double::doubleValue).sum();
+        double totalDamageDealt = stats.getTotalDamageToBoss();
+        double totalDamageReceived = stats.getTotalDamageFromBoss();
 
         Bukkit.broadcastMessage("§7§l📊 STATISTIQUES:");
         Bukkit.broadcastMessage("§7• Dégâts infligés: §c" + String.format("%.1f", totalDamageDealt));
         Bukkit.broadcastMessage("§7• Dégâts subis: §c" + String.format("%.1f", totalDamageReceived));
 
         // Morts
-        int totalDeaths = stats.playerDeaths.values().stream().mapToInt(Integer::intValue).sum();
+        int totalDeaths = stats.getTotalPlayerDeaths();
         if (totalDeaths > 0) {
             Bukkit.broadcastMessage("§7• Morts de joueurs: §c" + totalDeaths);
         }
 
         // Sbires
-        int totalMinionKills = stats.minionKills.values().stream().mapToInt(Integer::intValue).sum();
+        int totalMinionKills = stats.getTotalMinionKills();
         if (totalMinionKills > 0) {
             Bukkit.broadcastMessage("§7• Sbires éliminés: §a" + totalMinionKills);
         }
@@ -338,38 +356,49 @@ public class BossStatsManager {
      * Démarre la tâche de nettoyage des combats abandonnés
      */
     private void startCleanupTask() {
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 cleanupAbandonedFights();
             }
         }.runTaskTimer(plugin, 12000L, 12000L); // Toutes les 10 minutes
     }
 
     /**
-     * Nettoie les combats abandonnés (boss morts sans notification)
+     * Nettoie les combats abandonnés : sans activité depuis 15 minutes, ou boss mort sans notification.
+     * Un boss absent du registre peut simplement être déchargé avec son chunk : la mort n'est retenue
+     * que si l'entité est introuvable (ou morte) alors que le chunk où elle a été vue est chargé.
      */
     private void cleanupAbandonedFights() {
         long currentTime = System.currentTimeMillis();
-        Iterator<Map.Entry<String, BossFightStats>> iterator = activeBossFights.entrySet().iterator();
+        Iterator<Map.Entry<UUID, BossFightStats>> iterator = activeBossFights.entrySet().iterator();
 
         while (iterator.hasNext()) {
-            Map.Entry<String, BossFightStats> entry = iterator.next();
+            Map.Entry<UUID, BossFightStats> entry = iterator.next();
             BossFightStats stats = entry.getValue();
 
-            // Si pas d'activité depuis 15 minutes
-            if (currentTime - stats.getLastActivity() > 900000) {
+            // Pas d'activité depuis 15 minutes, ou mort confirmée
+            boolean inactive = currentTime - stats.getLastActivity() > 900000;
+            if (inactive || !plugin.getMobRegistry().isRegistered(entry.getKey()) && isDeathConfirmed(entry.getKey(), stats)) {
                 plugin.getLogger().info("§7[BOSS STATS] Nettoyage du combat abandonné: " + stats.bossName);
                 iterator.remove();
 
                 // Ajouter à l'historique comme défaite
                 stats.endFight(false);
-                String eventId = stats.getEventId() != null ? stats.getEventId() : "abandoned";
-                completedFights.computeIfAbsent(eventId, k -> new ArrayList<>()).add(stats);
+                history.record(stats.toRecord("abandoned"));
             }
         }
     }
 
+    private boolean isDeathConfirmed(UUID bossId, BossFightStats stats) {
+        World world = stats.getWorldName() != null ? Bukkit.getWorld(stats.getWorldName()) : null;
+        if (world == null || !world.isChunkLoaded(stats.getChunkX(), stats.getChunkZ())) {
+            return false;
+        }
+        Entity boss = Bukkit.getEntity(bossId);
+        return boss == null || boss.isDead();
+    }
+
     /**
      * Formate la durée du combat
      */
@@ -380,42 +409,16 @@ public class BossStatsManager {
         return String.format("%d:%02d", minutes, seconds);
     }
 
-    /**
-     * Récupère tous les participants du combat
-     */
-    private Set<UUID> getAllParticipants(BossFightStats stats) {
-        Set<UUID> participants = new HashSet<>();
-        participants.addAll(stats.damageToBoss.keySet());
-        participants.addAll(stats.damageFromBoss.keySet());
-        participants.addAll(stats.minionKills.keySet());
-        participants.addAll(stats.playerDeaths.keySet());
-        return participants;
-    }
-
-    /**
-     * Vérifie si c'est un boss
-     */
     private boolean isBoss(String mobId) {
-        if (mobId == null) return false;
-
-        // Boss explicites
-        return mobId.contains("boss") || mobId.contains("dragon") || mobId.contains("warden") ||
-                mobId.contains("wither") || mobId.contains("ravager") || mobId.contains("necromancer");
+        return plugin.getMobManager().isBoss(mobId);
     }
 
     /**
      * Récupère le nom d'affichage du boss
      */
     private String getBossDisplayName(String mobId) {
-        return switch (mobId) {
-            case "wither_boss" -> "§5§lArchliche Nécrosis";
-            case "warden_boss" -> "§0§lGardien des Abysses";
-            case "ravager_boss" -> "§c§lDévastateur Primordial";
-            case "necromancer_dark" -> "§5§lArchiliche";
-            case "dragon_fire" -> "§4§lDrake Cendré";
-            case "geode_aberration" -> "§d§lAberration Géodique";
-            default -> "§6§lBoss " + mobId.replace("_", " ");
-        };
+        String displayName = plugin.getMobManager().getDescriptor(mobId).displayName();
+        return displayName != null ? displayName : "§6§lBoss " + mobId.replace("_", " ");
     }
 
     /**
@@ -443,10 +446,19 @@ public class BossStatsManager {
         private String eventId;
         private boolean victory;
 
-        public final Map<UUID, Double> damageToBoss = new HashMap<>();
-        public final Map<UUID, Double> damageFromBoss = new HashMap<>();
-        public final Map<UUID, Integer> minionKills = new HashMap<>();
-        public final Map<UUID, Integer> playerDeaths = new HashMap<>();
+        // Table des participants : une ligne (slot) par joueur, colonnes primitives
+        private final Map<UUID, Integer> slotByPlayer = new HashMap<>();
+        private UUID[] participants = new UUID[8];
+        private double[] damageToBoss = new double[8];
+        private double[] damageFromBoss = new double[8];
+        private int[] minionKills = new int[8];
+        private int[] playerDeaths = new int[8];
+        private int participantCount;
+        private UUID lastPlayer; // Dernier joueur vu : les coups successifs évitent la recherche
+        private int lastSlot;
+        private final Leaderboard<UUID> damageRanking = new Leaderboard<>(); // Classement tenu à jour à chaque coup
+        private String worldName; // Dernière position connue du boss
+        private int chunkX, chunkZ;
 
         public BossFightStats(String mobId, String bossName) {
             this.mobId = mobId;
@@ -455,26 +467,120 @@ public class BossStatsManager {
             this.lastActivity = this.startTime;
         }
 
+        private int slot(UUID playerId) {
+            if (playerId.equals(lastPlayer)) return lastSlot;
+
+            Integer slot = slotByPlayer.get(playerId);
+            if (slot == null) {
+                if (participantCount == participants.length) {
+                    int capacity = participantCount * 2;
+                    participants = Arrays.copyOf(participants, capacity);
+                    damageToBoss = Arrays.copyOf(damageToBoss, capacity);
+                    damageFromBoss = Arrays.copyOf(damageFromBoss, capacity);
+                    minionKills = Arrays.copyOf(minionKills, capacity);
+                    playerDeaths = Arrays.copyOf(playerDeaths, capacity);
+                }
+                slot = participantCount++;
+                participants[slot] = playerId;
+                slotByPlayer.put(playerId, slot);
+            }
+            lastPlayer = playerId;
+            lastSlot = slot;
+            return slot;
+        }
+
         public void addDamageToBoss(Player player, double damage) {
-            damageToBoss.merge(player.getUniqueId(), damage, Double::sum);
+            int slot = slot(player.getUniqueId());
+            damageToBoss[slot] += damage;
+            damageRanking.add(player.getUniqueId(), damage);
             updateLastActivity();
         }
 
         public void addDamageFromBoss(Player player, double damage) {
-            damageFromBoss.merge(player.getUniqueId(), damage, Double::sum);
+            int slot = slot(player.getUniqueId());
+            damageFromBoss[slot] += damage;
             updateLastActivity();
         }
 
         public void addMinionKill(Player player, String minionType) {
-            minionKills.merge(player.getUniqueId(), 1, Integer::sum);
+            int slot = slot(player.getUniqueId());
+            minionKills[slot]++;
             updateLastActivity();
         }
 
         public void addPlayerDeath(Player player) {
-            playerDeaths.merge(player.getUniqueId(), 1, Integer::sum);
+            int slot = slot(player.getUniqueId());
+            playerDeaths[slot]++;
             updateLastActivity();
         }
 
+        public int getParticipantCount() {
+            return participantCount;
+        }
+
+        public double getDamageToBoss(UUID playerId) {
+            Integer slot = slotByPlayer.get(playerId);
+            return slot != null ? damageToBoss[slot] : 0.0;
+        }
+
+        public double getTotalDamageToBoss() {
+            return Arrays.stream(damageToBoss, 0, participantCount).sum();
+        }
+
+        public double getTotalDamageFromBoss() {
+            return Arrays.stream(damageFromBoss, 0, participantCount).sum();
+        }
+
+        public int getTotalMinionKills() {
+            int total = 0;
+            for (int i = 0; i < participantCount; i++) total += minionKills[i];
+            return total;
+        }
+
+        public int getTotalPlayerDeaths() {
+            int total = 0;
+            for (int i = 0; i < participantCount; i++) total += playerDeaths[i];
+            return total;
+        }
+
+        /**
+         * Les "limit" meilleurs joueurs en dégâts infligés au boss, du premier au dernier
+         */
+        public List<Map.Entry<UUID, Double>> getTopDamageDealers(int limit) {
+            return damageRanking.getTop(limit);
+        }
+
+        /**
+         * Rang du joueur aux dégâts infligés (1 = premier), ou 0 s'il n'a pas touché le boss
+         */
+        public int getDamageRank(UUID playerId) {
+            return damageRanking.getRank(playerId);
+        }
+
+        /**
+         * Change à chaque modification du classement des dégâts
+         */
+        public long getRankingVersion() {
+            return damageRanking.getVersion();
+        }
+
+        public boolean hasParticipant(UUID playerId) {
+            return slotByPlayer.containsKey(playerId);
+        }
+
+        /**
+         * Instantané immuable du combat pour l'historique
+         */
+        public BossFightHistory.FightRecord toRecord(String defaultEventId) {
+            List<BossFightHistory.ParticipantRecord> rows = new ArrayList<>(participantCount);
+            for (int i = 0; i < participantCount; i++) {
+                rows.add(new BossFightHistory.ParticipantRecord(participants[i], damageToBoss[i], damageFromBoss[i],
+                        minionKills[i], playerDeaths[i]));
+            }
+            return new BossFightHistory.FightRecord(eventId != null ? eventId : defaultEventId, mobId, bossName,
+                    startTime, endTime > 0 ? endTime : System.currentTimeMillis(), victory, rows);
+        }
+
         public void endFight(boolean victory) {
             this.endTime = System.currentTimeMillis();
             this.victory = victory;
@@ -484,6 +590,13 @@ public class BossStatsManager {
             this.lastActivity = System.currentTimeMillis();
         }
 
+        public void updatePosition(LivingEntity boss) {
+            Location location = boss.getLocation();
+            this.worldName = location.getWorld() != null ? location.getWorld().getName() : null;
+            this.chunkX = location.getBlockX() >> 4;
+            this.chunkZ = location.getBlockZ() >> 4;
+        }
+
         public void setEventId(String eventId) {
             this.eventId = eventId;
         }
@@ -497,6 +610,18 @@ public class BossStatsManager {
             return lastActivity;
         }
 
+        public String getWorldName() {
+            return worldName;
+        }
+
+        public int getChunkX() {
+            return chunkX;
+        }
+
+        public int getChunkZ() {
+            return chunkZ;
+        }
+
         public String getEventId() {
             return eventId;
         }
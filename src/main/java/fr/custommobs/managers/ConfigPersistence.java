@@ -0,0 +1,138 @@
+package fr.custommobs.managers;
+
+import fr.custommobs.CustomMobsPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Sauvegarde des fichiers de configuration hors du thread principal.
+ * Le thread principal ne fait qu'un instantané (copie des données) ; la sérialisation et l'écriture ont lieu sur
+ * un thread dédié, dans un fichier temporaire ensuite renommé atomiquement : un crash ne laisse jamais de
+ * fichier à moitié écrit. Les modifications rapprochées peuvent être regroupées (saveLater).
+ */
+public class ConfigPersistence {
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 10000L;
+
+    private final CustomMobsPlugin plugin;
+    private final ExecutorService writer;
+    private final Map<File, PendingSave> pendingSaves = new HashMap<>(); // Thread principal uniquement
+
+    /**
+     * Contenu à écrire, produit sur le thread d'écriture à partir d'un instantané qui ne change plus
+     */
+    @FunctionalInterface
+    public interface Snapshot {
+        String serialize() throws Exception;
+    }
+
+    public ConfigPersistence(CustomMobsPlugin plugin) {
+        this.plugin = plugin;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CustomMobs-ConfigWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Écrit le fichier dès que possible. Annule une sauvegarde différée du même fichier, devenue obsolète.
+     */
+    public CompletableFuture<Void> save(File target, Snapshot snapshot) {
+        PendingSave pending = pendingSaves.remove(target);
+        if (pending != null) {
+            pending.task.cancel();
+        }
+        return CompletableFuture.runAsync(() -> write(target, snapshot), writer);
+    }
+
+    /**
+     * Sauvegarde différée : l'instantané n'est pris qu'après "delayTicks" sans nouvelle demande pour ce fichier
+     */
+    public void saveLater(File target, Supplier<Snapshot> snapshotter, long delayTicks) {
+        PendingSave previous = pendingSaves.remove(target);
+        if (previous != null) {
+            previous.task.cancel();
+        }
+
+        BukkitTask task = new ProfiledRunnable() {
+            @Override
+            protected void tick() {
+                PendingSave pending = pendingSaves.get(target);
+                if (pending != null && pending.task.getTaskId() == getTaskId()) {
+                    save(target, pending.snapshotter.get());
+                }
+            }
+        }.runTaskLater(plugin, delayTicks);
+        pendingSaves.put(target, new PendingSave(task, snapshotter));
+    }
+
+    private void write(File target, Snapshot snapshot) {
+        Path path = target.toPath();
+        Path temporary = path.resolveSibling(target.getName() + ".tmp");
+        try {
+            ByteBuffer content = StandardCharsets.UTF_8.encode(snapshot.serialize());
+            Files.createDirectories(path.getParent());
+
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Erreur lors de la sauvegarde de " + target.getName(), e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Exécute immédiatement les sauvegardes différées puis attend la fin des écritures (attente bornée)
+     */
+    public void shutdown() {
+        List<Map.Entry<File, PendingSave>> pending = new ArrayList<>(pendingSaves.entrySet());
+        for (Map.Entry<File, PendingSave> entry : pending) {
+            save(entry.getKey(), entry.getValue().snapshotter.get());
+        }
+
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                plugin.getLogger().warning("Sauvegardes non terminées après " + SHUTDOWN_TIMEOUT_MS + "ms");
+                writer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record PendingSave(BukkitTask task, Supplier<Snapshot> snapshotter) {
+    }
+}
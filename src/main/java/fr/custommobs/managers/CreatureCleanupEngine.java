@@ -0,0 +1,184 @@
+package fr.custommobs.managers;
+
+import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.mobs.EntityRole;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.IronGolem;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Monster;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Nettoyage progressif des créatures hostiles (monstres + golems de fer) d'un monde, découpé en tranches :
+ * chaque tick ne consomme qu'un budget fixe en microsecondes, le reste de la passe continue au tick suivant.
+ * Les créatures sont retirées par priorité : les plus éloignées des joueurs d'abord, puis les plus anciennes.
+ * Les boss et les monstres d'événements ne sont jamais retirés.
+ * Doit être utilisé uniquement depuis le thread principal.
+ */
+public class CreatureCleanupEngine {
+
+    private static final double DISTANCE_BUCKET = 16.0; // Dans une même tranche de distance, le plus ancien part d'abord
+    private static final int PROTECTED_ROLES = EntityRole.BOSS.mask() | EntityRole.BREACH_MOB.mask()
+            | EntityRole.TREASURE_LUTIN.mask() | EntityRole.DAILY_BOSS.mask();
+    private static final Comparator<Candidate> EVICTION_ORDER = Comparator
+            .comparingInt(Candidate::distanceBucket).reversed()
+            .thenComparing(Comparator.comparingInt(Candidate::age).reversed());
+
+    private final CustomMobsPlugin plugin;
+    private final long budgetNanos;
+    private final Map<UUID, CleanupPass> passes = new LinkedHashMap<>();
+    private BukkitTask task;
+
+    public CreatureCleanupEngine(CustomMobsPlugin plugin, long budgetMicros) {
+        this.plugin = plugin;
+        this.budgetNanos = budgetMicros * 1000L;
+    }
+
+    /**
+     * Planifie le retrait d'au plus "count" créatures du monde situées à au moins "minPlayerDistance" blocs
+     * de tout joueur. Sans effet si une passe est déjà en cours pour ce monde.
+     */
+    public void request(World world, int count, double minPlayerDistance) {
+        if (count <= 0 || passes.containsKey(world.getUID())) return;
+
+        passes.put(world.getUID(), new CleanupPass(world.getUID(), count, minPlayerDistance * minPlayerDistance));
+        if (task == null) {
+            task = new ProfiledRunnable() {
+                @Override
+                protected void tick() {
+                    processPasses();
+                }
+            }.runTaskTimer(plugin, 1L, 1L);
+        }
+    }
+
+    public boolean isCleaning(World world) {
+        return passes.containsKey(world.getUID());
+    }
+
+    /**
+     * Abandonne les passes en cours
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        passes.clear();
+    }
+
+    private void processPasses() {
+        long deadline = System.nanoTime() + budgetNanos;
+        Iterator<CleanupPass> iterator = passes.values().iterator();
+        while (iterator.hasNext() && System.nanoTime() < deadline) {
+            if (iterator.next().step(deadline)) {
+                iterator.remove();
+            }
+        }
+        if (passes.isEmpty()) {
+            stop();
+        }
+    }
+
+    /**
+     * Créature hostile que le nettoyage a le droit de retirer
+     */
+    private static boolean isEvictable(LivingEntity entity) {
+        if (!(entity instanceof Monster) && !(entity instanceof IronGolem)) return false;
+        return (EntityRole.getRoles(entity) & PROTECTED_ROLES) == 0;
+    }
+
+    private static double nearestPlayerDistanceSquared(Location location, List<Player> players) {
+        double nearest = Double.MAX_VALUE;
+        for (Player player : players) {
+            nearest = Math.min(nearest, player.getLocation().distanceSquared(location));
+        }
+        return nearest;
+    }
+
+    /**
+     * Passe de nettoyage d'un monde : relevé des créatures, tri par priorité, puis retraits, chacun
+     * interruptible dès que le budget du tick est épuisé
+     */
+    private final class CleanupPass {
+        private final UUID worldId;
+        private final int count;
+        private final double minDistanceSquared;
+        private List<LivingEntity> scanned;
+        private int scanIndex;
+        private final List<Candidate> candidates = new ArrayList<>();
+        private boolean sorted;
+        private int evictIndex;
+        private int removed;
+
+        private CleanupPass(UUID worldId, int count, double minDistanceSquared) {
+            this.worldId = worldId;
+            this.count = count;
+            this.minDistanceSquared = minDistanceSquared;
+        }
+
+        /**
+         * Avance la passe jusqu'à l'échéance, retourne true quand elle est terminée
+         */
+        private boolean step(long deadline) {
+            World world = Bukkit.getWorld(worldId);
+            if (world == null) return true;
+            List<Player> players = world.getPlayers();
+
+            if (!sorted) {
+                // Relevé pris une seule fois par passe, repris là où il s'était arrêté
+                if (scanned == null) {
+                    scanned = world.getLivingEntities();
+                }
+
+                while (scanIndex < scanned.size()) {
+                    if (System.nanoTime() >= deadline) return false;
+                    LivingEntity entity = scanned.get(scanIndex++);
+                    if (!entity.isValid() || !isEvictable(entity)) continue;
+
+                    double distanceSquared = nearestPlayerDistanceSquared(entity.getLocation(), players);
+                    if (distanceSquared < minDistanceSquared) continue;
+                    candidates.add(new Candidate(entity, (int) (Math.sqrt(distanceSquared) / DISTANCE_BUCKET), entity.getTicksLived()));
+                }
+
+                candidates.sort(EVICTION_ORDER);
+                sorted = true;
+            }
+
+            while (removed < count && evictIndex < candidates.size()) {
+                if (System.nanoTime() >= deadline) return false;
+                LivingEntity entity = candidates.get(evictIndex++).entity();
+                if (!entity.isValid()) continue;
+                // Les joueurs ont pu se rapprocher depuis le relevé
+                if (minDistanceSquared > 0 && nearestPlayerDistanceSquared(entity.getLocation(), players) < minDistanceSquared) {
+                    continue;
+                }
+
+                entity.remove();
+                plugin.getMobRegistry().unregister(entity.getUniqueId());
+                removed++;
+            }
+
+            if (removed > 0) {
+                plugin.getLogger().fine("Nettoyage de " + world.getName() + ": " + removed + " créatures retirées");
+            }
+            scanned = null;
+            candidates.clear();
+            return true;
+        }
+    }
+
+    private record Candidate(LivingEntity entity, int distanceBucket, int age) {
+    }
+}
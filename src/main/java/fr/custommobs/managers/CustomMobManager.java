@@ -2,29 +2,41 @@ package fr.custommobs.managers;
 
 import fr.custommobs.CustomMobsPlugin;
 import fr.custommobs.mobs.CustomMob;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.LivingEntity;
 
-import java.lang.reflect.Constructor;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 public class CustomMobManager {
 
     private final CustomMobsPlugin plugin;
-    private final Map<String, Class<? extends CustomMob>> registeredMobs;
+    // Registre immuable, clés déjà en minuscules : remplacé en bloc à chaque enregistrement (démarrage uniquement)
+    private volatile Map<String, Function<CustomMobsPlugin, ? extends CustomMob>> registeredMobs = Map.of();
+    private volatile Map<String, MobDescriptor> descriptors = Map.of();
 
     public CustomMobManager(CustomMobsPlugin plugin) {
         this.plugin = plugin;
-        this.registeredMobs = new HashMap<>();
     }
 
     /**
-     * Enregistre un nouveau type de monstre custom
+     * Enregistre un nouveau type de monstre custom à partir de sa fabrique (référence de constructeur)
+     * et de son descripteur (catégorie, XP, barre de boss, persistance)
      */
-    public void registerMob(String id, Class<? extends CustomMob> mobClass) {
-        registeredMobs.put(id.toLowerCase(), mobClass);
+    public synchronized void registerMob(String id, Function<CustomMobsPlugin, ? extends CustomMob> factory,
+                                         MobDescriptor descriptor) {
+        Map<String, Function<CustomMobsPlugin, ? extends CustomMob>> updated = new HashMap<>(registeredMobs);
+        updated.put(id.toLowerCase(), factory);
+        Map<String, MobDescriptor> updatedDescriptors = new HashMap<>(descriptors);
+        updatedDescriptors.put(id.toLowerCase(), descriptor);
+        registeredMobs = Map.copyOf(updated);
+        descriptors = Map.copyOf(updatedDescriptors);
         plugin.getLogger().info("Monstre '" + id + "' enregistré avec succès!");
     }
 
@@ -32,16 +44,38 @@ public class CustomMobManager {
      * Crée et spawn un monstre custom
      */
     public LivingEntity spawnCustomMob(String mobId, Location location) {
-        Class<? extends CustomMob> mobClass = registeredMobs.get(mobId.toLowerCase());
-        if (mobClass == null) {
+        Function<CustomMobsPlugin, ? extends CustomMob> factory = getFactory(mobId);
+        if (factory == null) {
             plugin.getLogger().warning("Monstre '" + mobId + "' non trouvé!");
             return null;
         }
+        return spawn(factory, mobId, location);
+    }
+
+    /**
+     * Spawn un même type de monstre à plusieurs positions (la fabrique n'est résolue qu'une fois).
+     * Retourne les entités créées ; les échecs sont simplement absents de la liste.
+     */
+    public List<LivingEntity> spawnCustomMobs(String mobId, List<Location> locations) {
+        Function<CustomMobsPlugin, ? extends CustomMob> factory = getFactory(mobId);
+        if (factory == null) {
+            plugin.getLogger().warning("Monstre '" + mobId + "' non trouvé!");
+            return List.of();
+        }
+
+        List<LivingEntity> spawned = new ArrayList<>(locations.size());
+        for (Location location : locations) {
+            LivingEntity entity = spawn(factory, mobId, location);
+            if (entity != null) {
+                spawned.add(entity);
+            }
+        }
+        return spawned;
+    }
 
+    private LivingEntity spawn(Function<CustomMobsPlugin, ? extends CustomMob> factory, String mobId, Location location) {
         try {
-            Constructor<? extends CustomMob> constructor = mobClass.getConstructor(CustomMobsPlugin.class);
-            CustomMob mob = constructor.newInstance(plugin);
-            return mob.spawn(location);
+            return factory.apply(plugin).spawn(location);
         } catch (Exception e) {
             plugin.getLogger().severe("Erreur lors du spawn du monstre '" + mobId + "': " + e.getMessage());
             e.printStackTrace();
@@ -49,11 +83,50 @@ public class CustomMobManager {
         }
     }
 
+    /**
+     * Recrée le monstre custom d'une entité qui porte déjà son identité (chunk rechargé, redémarrage)
+     */
+    public boolean restoreCustomMob(LivingEntity entity, String mobId) {
+        Function<CustomMobsPlugin, ? extends CustomMob> factory = getFactory(mobId);
+        if (factory == null) {
+            plugin.getLogger().warning("Impossible de restaurer le monstre '" + mobId + "': type inconnu");
+            return false;
+        }
+
+        try {
+            factory.apply(plugin).restore(entity);
+            return true;
+        } catch (Exception e) {
+            plugin.getLogger().severe("Erreur lors de la restauration du monstre '" + mobId + "': " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Restaure les monstres custom des chunks déjà chargés (activation du plugin après les mondes)
+     */
+    public void restoreLoadedMobs() {
+        int restored = 0;
+        for (World world : Bukkit.getWorlds()) {
+            for (LivingEntity entity : world.getLivingEntities()) {
+                if (plugin.getMobRegistry().isRegistered(entity.getUniqueId())) continue;
+
+                String mobId = CustomMob.getCustomMobId(entity);
+                if (mobId != null && restoreCustomMob(entity, mobId)) {
+                    restored++;
+                }
+            }
+        }
+        if (restored > 0) {
+            plugin.getLogger().info(restored + " monstres custom restaurés");
+        }
+    }
+
     /**
      * Vérifie si un monstre est enregistré
      */
     public boolean isMobRegistered(String mobId) {
-        return registeredMobs.containsKey(mobId.toLowerCase());
+        return getFactory(mobId) != null;
     }
 
     /**
@@ -64,9 +137,25 @@ public class CustomMobManager {
     }
 
     /**
-     * Récupère la classe d'un monstre
+     * Descripteur d'un type de monstre, ou MobDescriptor.UNKNOWN si l'identifiant n'est pas enregistré
+     */
+    public MobDescriptor getDescriptor(String mobId) {
+        if (mobId == null) return MobDescriptor.UNKNOWN;
+        MobDescriptor descriptor = descriptors.get(mobId);
+        return descriptor != null ? descriptor : MobDescriptor.UNKNOWN;
+    }
+
+    public boolean isBoss(String mobId) {
+        return getDescriptor(mobId).isBoss();
+    }
+
+    /**
+     * Récupère la fabrique d'un monstre. Les IDs internes sont déjà en minuscules :
+     * la conversion n'a lieu que pour une saisie utilisateur qui ne correspond pas telle quelle.
      */
-    public Class<? extends CustomMob> getMobClass(String mobId) {
-        return registeredMobs.get(mobId.toLowerCase());
+    public Function<CustomMobsPlugin, ? extends CustomMob> getFactory(String mobId) {
+        Map<String, Function<CustomMobsPlugin, ? extends CustomMob>> mobs = registeredMobs;
+        Function<CustomMobsPlugin, ? extends CustomMob> factory = mobs.get(mobId);
+        return factory != null ? factory : mobs.get(mobId.toLowerCase());
     }
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+package fr.custommobs.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Projectile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compteurs incrémentaux des projectiles et des items au sol par monde, pour les limites d'optimisation.
+ * Tenus à jour par les événements d'ajout/retrait d'entités (voir MobControlListener) au lieu de parcourir
+ * world.getEntities() à chaque spawn. L'ordre d'insertion est conservé : quand une limite est atteinte,
+ * ce sont les plus anciennes entités qui sont retirées (FIFO) pour laisser la place aux nouvelles.
+ * Doit être utilisé uniquement depuis le thread principal.
+ */
+public class EntityCapManager {
+
+    private final Map<UUID, WorldEntities> worlds = new HashMap<>();
+
+    public EntityCapManager() {
+        // Les entités déjà chargées ne déclencheront pas d'EntityAddToWorldEvent
+        for (World world : Bukkit.getWorlds()) {
+            WorldEntities entities = getOrCreate(world);
+            for (Projectile projectile : world.getEntitiesByClass(Projectile.class)) {
+                entities.projectiles.add(projectile.getUniqueId());
+            }
+            for (Item item : world.getEntitiesByClass(Item.class)) {
+                entities.items.add(item.getUniqueId());
+            }
+        }
+    }
+
+    /**
+     * Commence le suivi d'un projectile ou d'un item qui vient d'être ajouté à son monde
+     */
+    public void track(Entity entity) {
+        if (entity instanceof Projectile) {
+            getOrCreate(entity.getWorld()).projectiles.add(entity.getUniqueId());
+        } else if (entity instanceof Item) {
+            getOrCreate(entity.getWorld()).items.add(entity.getUniqueId());
+        }
+    }
+
+    /**
+     * Arrête le suivi d'une entité retirée du monde. Sans effet si l'entité n'est pas suivie.
+     */
+    public void untrack(Entity entity) {
+        if (!(entity instanceof Projectile) && !(entity instanceof Item)) return;
+
+        WorldEntities entities = worlds.get(entity.getWorld().getUID());
+        if (entities != null) {
+            (entity instanceof Projectile ? entities.projectiles : entities.items).remove(entity.getUniqueId());
+        }
+    }
+
+    /**
+     * Libère une place pour un projectile ou un item sur le point d'apparaître :
+     * retire les plus anciens de sa catégorie tant que le monde en compte "limit" ou plus.
+     * Retourne le nombre d'entités retirées.
+     */
+    public int makeRoom(Entity incoming, int limit) {
+        WorldEntities entities = worlds.get(incoming.getWorld().getUID());
+        if (entities == null) return 0;
+
+        LinkedHashSet<UUID> tracked = incoming instanceof Projectile ? entities.projectiles : entities.items;
+        if (tracked.size() < limit) return 0;
+
+        // Retirés de l'ensemble avant remove() : les événements de retrait ne le modifient pas pendant le parcours
+        List<UUID> oldest = new ArrayList<>(tracked.size() - limit + 1);
+        Iterator<UUID> iterator = tracked.iterator();
+        while (tracked.size() >= limit && iterator.hasNext()) {
+            oldest.add(iterator.next());
+            iterator.remove();
+        }
+
+        int evicted = 0;
+        for (UUID entityId : oldest) {
+            Entity entity = Bukkit.getEntity(entityId);
+            if (entity != null && entity.isValid()) {
+                entity.remove();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int getProjectileCount(World world) {
+        WorldEntities entities = worlds.get(world.getUID());
+        return entities != null ? entities.projectiles.size() : 0;
+    }
+
+    public int getItemCount(World world) {
+        WorldEntities entities = worlds.get(world.getUID());
+        return entities != null ? entities.items.size() : 0;
+    }
+
+    /**
+     * Oublie un monde déchargé
+     */
+    public void forgetWorld(World world) {
+        worlds.remove(world.getUID());
+    }
+
+    private WorldEntities getOrCreate(World world) {
+        return worlds.computeIfAbsent(world.getUID(), k -> new WorldEntities());
+    }
+
+    /**
+     * Entités suivies d'un monde, des plus anciennes aux plus récentes
+     */
+    private static class WorldEntities {
+        private final LinkedHashSet<UUID> projectiles = new LinkedHashSet<>();
+        private final LinkedHashSet<UUID> items = new LinkedHashSet<>();
+    }
+}
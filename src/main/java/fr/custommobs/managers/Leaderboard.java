@@ -0,0 +1,193 @@
+package fr.custommobs.managers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Classement incrémental : tableau trié par score décroissant + position de chaque clé.
+ * Une variation de score ne déplace l'entrée que des quelques rangs qu'elle gagne ou perd,
+ * la lecture du top K est en O(K) et le rang d'une clé en O(1), sans jamais retrier.
+ * À égalité, la clé arrivée la première à ce score garde le meilleur rang.
+ * Non thread-safe : à utiliser depuis le thread principal.
+ */
+public class Leaderboard<K> {
+
+    private final Map<K, Integer> positions = new HashMap<>();
+    private Object[] keys = new Object[8];
+    private double[] scores = new double[8];
+    private int size;
+    private long version; // Incrémenté à chaque modification, pour ne rafraîchir les affichages qu'en cas de changement
+
+    /**
+     * Ajoute "delta" au score de la clé (créée à 0 si absente) et retourne le nouveau score
+     */
+    public double add(K key, double delta) {
+        Integer position = positions.get(key);
+        if (position == null) {
+            position = append(key);
+        }
+        double score = scores[position] + delta;
+        move(position, score);
+        return score;
+    }
+
+    /**
+     * Fixe le score de la clé (créée si absente)
+     */
+    public void set(K key, double score) {
+        Integer position = positions.get(key);
+        if (position == null) {
+            position = append(key);
+        }
+        move(position, score);
+    }
+
+    /**
+     * Ajoute la clé avec un score nul si elle est absente
+     */
+    public void putIfAbsent(K key) {
+        if (!positions.containsKey(key)) {
+            append(key);
+        }
+    }
+
+    public void remove(K key) {
+        Integer position = positions.remove(key);
+        if (position == null) return;
+
+        int moved = size - position - 1;
+        System.arraycopy(keys, position + 1, keys, position, moved);
+        System.arraycopy(scores, position + 1, scores, position, moved);
+        size--;
+        keys[size] = null;
+        reindex(position, size - 1);
+        version++;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        positions.clear();
+        size = 0;
+        version++;
+    }
+
+    // =================================
+    // LECTURE
+    // =================================
+
+    public double getScore(K key) {
+        Integer position = positions.get(key);
+        return position != null ? scores[position] : 0.0;
+    }
+
+    /**
+     * Rang de la clé (1 = premier), ou 0 si elle n'est pas classée
+     */
+    public int getRank(K key) {
+        Integer position = positions.get(key);
+        return position != null ? position + 1 : 0;
+    }
+
+    /**
+     * Les "limit" premiers, du meilleur au moins bon
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map.Entry<K, Double>> getTop(int limit) {
+        int count = Math.min(Math.max(0, limit), size);
+        List<Map.Entry<K, Double>> top = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            top.add(Map.entry((K) keys[i], scores[i]));
+        }
+        return top;
+    }
+
+    /**
+     * Premier du classement, ou null s'il est vide
+     */
+    @SuppressWarnings("unchecked")
+    public K getLeader() {
+        return size > 0 ? (K) keys[0] : null;
+    }
+
+    /**
+     * Copie des scores dans l'ordre du classement
+     */
+    @SuppressWarnings("unchecked")
+    public Map<K, Double> toMap() {
+        Map<K, Double> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put((K) keys[i], scores[i]);
+        }
+        return map;
+    }
+
+    public boolean contains(K key) {
+        return positions.containsKey(key);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    // =================================
+    // MAINTIEN DE L'ORDRE
+    // =================================
+
+    private int append(K key) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            scores = Arrays.copyOf(scores, size * 2);
+        }
+        // Arrive par le bas : son score nul le place derrière les scores positifs ou nuls, devant les négatifs
+        keys[size] = key;
+        scores[size] = Double.NEGATIVE_INFINITY;
+        positions.put(key, size);
+        move(size++, 0.0);
+        return positions.get(key);
+    }
+
+    /**
+     * Donne le score "score" à l'entrée en "position" et la décale jusqu'à sa place
+     */
+    private void move(int position, double score) {
+        Object key = keys[position];
+        double previous = scores[position];
+        int target = position;
+        if (score > previous) {
+            while (target > 0 && scores[target - 1] < score) target--;
+        } else if (score < previous) {
+            while (target < size - 1 && scores[target + 1] >= score) target++;
+        }
+
+        if (target < position) {
+            System.arraycopy(keys, target, keys, target + 1, position - target);
+            System.arraycopy(scores, target, scores, target + 1, position - target);
+        } else if (target > position) {
+            System.arraycopy(keys, position + 1, keys, position, target - position);
+            System.arraycopy(scores, position + 1, scores, position, target - position);
+        }
+        keys[target] = key;
+        scores[target] = score;
+        reindex(Math.min(position, target), Math.max(position, target));
+        version++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void reindex(int from, int to) {
+        for (int i = from; i <= to; i++) {
+            positions.put((K) keys[i], i);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package fr.custommobs.managers;
+
+import fr.custommobs.CustomMobsPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Régulateur de charge des capacités de monstres.
+ * Lit le MSPT moyen du serveur et, au-delà des seuils configurés, réduit le travail non essentiel dans l'ordre :
+ * particules d'abord, puis attaques secondaires, puis invocations de sbires. Il redescend d'un niveau à la fois
+ * quand le MSPT repasse sous le seuil (moins une marge, pour ne pas osciller).
+ * Sous charge, chaque catégorie dispose en plus d'un budget par tick partagé par tous les monstres ; au niveau
+ * NORMAL rien n'est limité, le comportement des monstres reste exactement celui prévu.
+ * Les dégâts des attaques lancées ne passent jamais par ici : seuls les effets et les déclenchements sont réduits.
+ * Doit être utilisé uniquement depuis le thread principal.
+ */
+public class LoadGovernor {
+
+    private static final long EVALUATION_PERIOD = 20L; // Le MSPT de Paper est déjà une moyenne sur 5 secondes
+
+    /**
+     * Travail que le régulateur peut réduire, dans l'ordre où il est dégradé
+     */
+    public enum Work {
+        COSMETIC,
+        SECONDARY_ATTACK,
+        SUMMON
+    }
+
+    /**
+     * Niveau de charge, avec la part conservée de chaque catégorie de travail
+     */
+    public enum Level {
+        NORMAL(1.0, 1.0, 1.0),
+        COSMETIC_REDUCED(0.25, 1.0, 1.0),
+        SECONDARY_THROTTLED(0.0, 0.5, 1.0),
+        SUMMONS_THROTTLED(0.0, 0.25, 0.5);
+
+        private final double[] factors;
+
+        Level(double cosmetic, double secondary, double summon) {
+            this.factors = new double[]{cosmetic, secondary, summon};
+        }
+
+        public double getFactor(Work work) {
+            return factors[work.ordinal()];
+        }
+    }
+
+    private final CustomMobsPlugin plugin;
+    private final double[] thresholds; // MSPT d'entrée dans chaque niveau (index = ordinal, NORMAL = 0)
+    private final double recoveryMargin;
+    private final int[] budgets = new int[Work.values().length];
+    private final int[] used = new int[Work.values().length];
+    private final BukkitTask evaluationTask;
+
+    private volatile Level level = Level.NORMAL;
+    private volatile double mspt;
+    private int budgetTick = -1;
+
+    public LoadGovernor(CustomMobsPlugin plugin) {
+        this.plugin = plugin;
+        this.thresholds = new double[]{
+                0.0,
+                plugin.getConfig().getDouble("load-governor.cosmetic-mspt", 40.0),
+                plugin.getConfig().getDouble("load-governor.secondary-mspt", 45.0),
+                plugin.getConfig().getDouble("load-governor.summon-mspt", 48.0)
+        };
+        this.recoveryMargin = plugin.getConfig().getDouble("load-governor.recovery-margin-mspt", 3.0);
+        budgets[Work.COSMETIC.ordinal()] = plugin.getConfig().getInt("load-governor.particles-per-tick", 2000);
+        budgets[Work.SECONDARY_ATTACK.ordinal()] = plugin.getConfig().getInt("load-governor.secondary-attacks-per-tick", 6);
+        budgets[Work.SUMMON.ordinal()] = plugin.getConfig().getInt("load-governor.summons-per-tick", 4);
+
+        this.evaluationTask = new ProfiledRunnable() {
+            @Override
+            protected void tick() {
+                evaluate(Bukkit.getAverageTickTime());
+            }
+        }.runTaskTimer(plugin, EVALUATION_PERIOD, EVALUATION_PERIOD);
+    }
+
+    /**
+     * Monte directement au niveau correspondant au MSPT, redescend d'un niveau à la fois
+     */
+    private void evaluate(double averageMspt) {
+        mspt = averageMspt;
+        Level[] levels = Level.values();
+
+        int target = 0;
+        for (int i = levels.length - 1; i > 0; i--) {
+            if (averageMspt >= thresholds[i]) {
+                target = i;
+                break;
+            }
+        }
+
+        int current = level.ordinal();
+        if (target > current) {
+            setLevel(levels[target]);
+        } else if (current > 0 && averageMspt < thresholds[current] - recoveryMargin) {
+            setLevel(levels[current - 1]);
+        }
+    }
+
+    private void setLevel(Level newLevel) {
+        plugin.getLogger().info(String.format("Charge: %s -> %s (%.1f ms/tick)", level, newLevel, mspt));
+        level = newLevel;
+    }
+
+    /**
+     * Nombre de particules à afficher pour un effet qui en demande "count".
+     * Réduit selon la charge (en moyenne : les petits effets sont tirés au sort plutôt qu'arrondis)
+     * puis plafonné par le budget de particules restant pour ce tick. 0 : ne rien afficher.
+     */
+    public int particles(int count) {
+        double factor = level.getFactor(Work.COSMETIC);
+        if (count <= 0 || factor <= 0.0) return 0;
+
+        int scaled = count;
+        if (factor < 1.0) {
+            double exact = count * factor;
+            scaled = (int) exact;
+            if (ThreadLocalRandom.current().nextDouble() < exact - scaled) {
+                scaled++;
+            }
+        }
+        return consume(Work.COSMETIC, scaled);
+    }
+
+    /**
+     * Autorise ou non une attaque secondaire ou une invocation.
+     * Sous charge, seule une part des demandes passe ; le budget par tick limite les rafales.
+     */
+    public boolean allow(Work work) {
+        double factor = level.getFactor(work);
+        if (factor <= 0.0) return false;
+        if (factor < 1.0 && ThreadLocalRandom.current().nextDouble() >= factor) return false;
+        return consume(work, 1) > 0;
+    }
+
+    /**
+     * Prend jusqu'à "amount" unités du budget du tick courant, retourne ce qui a été obtenu.
+     * Sans charge, tout est accordé.
+     */
+    private int consume(Work work, int amount) {
+        if (level == Level.NORMAL) return amount;
+
+        int tick = Bukkit.getCurrentTick();
+        if (tick != budgetTick) {
+            budgetTick = tick;
+            Arrays.fill(used, 0);
+        }
+
+        int index = work.ordinal();
+        int granted = Math.min(amount, budgets[index] - used[index]);
+        if (granted <= 0) return 0;
+        used[index] += granted;
+        return granted;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public double getMspt() {
+        return mspt;
+    }
+
+    public void shutdown() {
+        evaluationTask.cancel();
+    }
+}
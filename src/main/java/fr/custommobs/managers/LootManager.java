@@ -1,6 +1,8 @@
 package fr.custommobs.managers;
 
 import fr.custommobs.CustomMobsPlugin;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -8,20 +10,24 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.inventory.ItemStack;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class LootManager {
 
+    private static final long SAVE_DELAY_TICKS = 100L; // 5 secondes sans modification avant l'écriture
+
     private final CustomMobsPlugin plugin;
     private final File lootFile;
-    private FileConfiguration lootConfig;
-    private final Map<String, List<LootEntry>> mobLoots;
+    private final Map<String, List<LootEntry>> mobLoots; // Entrées éditables (commandes, sauvegarde)
+    private final Map<String, Integer> mobRolls; // Tirages du pool pondéré par monstre
+    private volatile Map<String, LootTable> lootTables = Map.of(); // Tables compilées, remplacées en bloc
 
     public LootManager(CustomMobsPlugin plugin) {
         this.plugin = plugin;
         this.lootFile = new File(plugin.getDataFolder(), "loots.yml");
         this.mobLoots = new HashMap<>();
+        this.mobRolls = new HashMap<>();
         loadLootConfig();
     }
 
@@ -30,10 +36,36 @@ public class LootManager {
      */
     public void addLoot(String mobId, ItemStack item, double chance) {
         mobLoots.computeIfAbsent(mobId.toLowerCase(), k -> new ArrayList<>())
-                .add(new LootEntry(item.clone(), chance));
+                .add(new LootEntry(item, chance));
+        compileLootTables();
+        requestSave();
         plugin.getLogger().info("Loot ajouté pour " + mobId + ": " + item.getType() + " (chance: " + (chance * 100) + "%)");
     }
 
+    /**
+     * Ajoute un loot au pool pondéré d'un monstre
+     */
+    public void addWeightedLoot(String mobId, ItemStack item, double weight) {
+        mobLoots.computeIfAbsent(mobId.toLowerCase(), k -> new ArrayList<>())
+                .add(new LootEntry(item, 0.0, weight));
+        compileLootTables();
+        requestSave();
+        plugin.getLogger().info("Loot pondéré ajouté pour " + mobId + ": " + item.getType() + " (poids: " + weight + ")");
+    }
+
+    /**
+     * Définit le nombre de tirages du pool pondéré d'un monstre
+     */
+    public void setRolls(String mobId, int rolls) {
+        mobRolls.put(mobId.toLowerCase(), Math.max(0, rolls));
+        compileLootTables();
+        requestSave();
+    }
+
+    public int getRolls(String mobId) {
+        return mobRolls.getOrDefault(mobId.toLowerCase(), 1);
+    }
+
     /**
      * Supprime un loot d'un monstre
      */
@@ -41,6 +73,8 @@ public class LootManager {
         List<LootEntry> loots = mobLoots.get(mobId.toLowerCase());
         if (loots != null && index >= 0 && index < loots.size()) {
             loots.remove(index);
+            compileLootTables();
+            requestSave();
             plugin.getLogger().info("Loot supprimé pour " + mobId + " à l'index " + index);
             return true;
         }
@@ -58,56 +92,77 @@ public class LootManager {
      * Génère les loots pour un monstre mort
      */
     public void dropLoots(LivingEntity entity, String mobId) {
-        List<LootEntry> loots = getMobLoots(mobId);
-
-        if (loots.isEmpty()) {
-            plugin.getLogger().fine("Aucun loot configuré pour " + mobId);
+        LootTable table = lootTables.get(mobId);
+        if (table == null) {
+            plugin.getLogger().fine(() -> "Aucun loot configuré pour " + mobId);
             return;
         }
 
-        int droppedItems = 0;
-        double globalMultiplier = plugin.getConfig().getDouble("loot-system.chance-multiplier", 1.0);
+        World world = entity.getWorld();
+        Location location = entity.getLocation();
+        // dropItemNaturally copie l'ItemStack : le gabarit partagé n'est jamais modifié
+        int droppedItems = table.roll(ThreadLocalRandom.current(), item -> world.dropItemNaturally(location, item));
 
-        for (LootEntry loot : loots) {
-            double finalChance = loot.chance() * globalMultiplier;
+        plugin.getLogger().fine(() -> "Loots générés pour " + mobId + ": " + droppedItems + "/" + table.getEntryCount());
+    }
 
-            if (Math.random() <= finalChance) {
-                entity.getWorld().dropItemNaturally(entity.getLocation(), loot.item());
-                droppedItems++;
-                plugin.getLogger().fine("Loot droppé pour " + mobId + ": " + loot.item().getType());
+    /**
+     * Recompile toutes les tables de loots (multiplicateur global inclus) et les remplace d'un coup.
+     * À appeler après toute modification des loots ou de la configuration.
+     */
+    public void compileLootTables() {
+        double multiplier = plugin.getConfig().getDouble("loot-system.chance-multiplier", 1.0);
+        Map<String, LootTable> compiled = new HashMap<>();
+        for (Map.Entry<String, List<LootEntry>> entry : mobLoots.entrySet()) {
+            LootTable table = LootTable.compile(entry.getValue(), getRolls(entry.getKey()), multiplier);
+            if (table != null) {
+                compiled.put(entry.getKey(), table);
             }
         }
-
-        plugin.getLogger().fine("Loots générés pour " + mobId + ": " + droppedItems + "/" + loots.size());
+        lootTables = Map.copyOf(compiled);
     }
 
     /**
-     * Sauvegarde la configuration des loots
+     * Sauvegarde la configuration des loots (écriture asynchrone et atomique)
      */
     public void saveLootConfig() {
-        try {
-            // Nettoie la config
-            lootConfig.set("loots", null);
+        plugin.getConfigPersistence().save(lootFile, snapshot())
+                .thenRun(() -> plugin.getLogger().info("Configuration des loots sauvegardée!"));
+    }
 
-            for (Map.Entry<String, List<LootEntry>> entry : mobLoots.entrySet()) {
-                String mobId = entry.getKey();
-                List<LootEntry> loots = entry.getValue();
+    /**
+     * Sauvegarde différée après une modification : des éditions successives (GUI) ne donnent qu'une écriture
+     */
+    private void requestSave() {
+        plugin.getConfigPersistence().saveLater(lootFile, this::snapshot, SAVE_DELAY_TICKS);
+    }
 
-                for (int i = 0; i < loots.size(); i++) {
-                    LootEntry loot = loots.get(i);
-                    String path = "loots." + mobId + "." + i;
+    /**
+     * Copie des loots dans une configuration indépendante, sérialisée ensuite hors du thread principal
+     */
+    private ConfigPersistence.Snapshot snapshot() {
+        YamlConfiguration snapshot = new YamlConfiguration();
 
-                    lootConfig.set(path + ".item", loot.item());
-                    lootConfig.set(path + ".chance", loot.chance());
+        for (Map.Entry<String, List<LootEntry>> entry : mobLoots.entrySet()) {
+            String mobId = entry.getKey();
+            List<LootEntry> loots = entry.getValue();
+
+            for (int i = 0; i < loots.size(); i++) {
+                LootEntry loot = loots.get(i);
+                String path = "loots." + mobId + "." + i;
+
+                snapshot.set(path + ".item", loot.item()); // Copie de l'item
+                snapshot.set(path + ".chance", loot.chance());
+                if (loot.isWeighted()) {
+                    snapshot.set(path + ".weight", loot.weight());
                 }
             }
+        }
 
-            lootConfig.save(lootFile);
-            plugin.getLogger().info("Configuration des loots sauvegardée!");
-        } catch (IOException e) {
-            plugin.getLogger().severe("Erreur lors de la sauvegarde des loots: " + e.getMessage());
-            e.printStackTrace();
+        for (Map.Entry<String, Integer> entry : mobRolls.entrySet()) {
+            snapshot.set("rolls." + entry.getKey(), entry.getValue());
         }
+        return snapshot::saveToString;
     }
 
     /**
@@ -118,8 +173,9 @@ public class LootManager {
             plugin.saveResource("loots.yml", false);
         }
 
-        lootConfig = YamlConfiguration.loadConfiguration(lootFile);
+        FileConfiguration lootConfig = YamlConfiguration.loadConfiguration(lootFile);
         mobLoots.clear();
+        mobRolls.clear();
 
         ConfigurationSection lootsSection = lootConfig.getConfigurationSection("loots");
         if (lootsSection != null) {
@@ -133,9 +189,10 @@ public class LootManager {
                         if (lootSection != null) {
                             ItemStack item = lootSection.getItemStack("item");
                             double chance = lootSection.getDouble("chance", 0.1);
+                            double weight = lootSection.getDouble("weight", 0.0);
 
                             if (item != null) {
-                                loots.add(new LootEntry(item, chance));
+                                loots.add(new LootEntry(item, chance, weight));
                                 plugin.getLogger().fine("Loot chargé pour " + mobId + ": " + item.getType() + " (" + (chance * 100) + "%)");
                             }
                         }
@@ -149,6 +206,14 @@ public class LootManager {
             }
         }
 
+        ConfigurationSection rollsSection = lootConfig.getConfigurationSection("rolls");
+        if (rollsSection != null) {
+            for (String mobId : rollsSection.getKeys(false)) {
+                mobRolls.put(mobId.toLowerCase(), Math.max(0, rollsSection.getInt(mobId, 1)));
+            }
+        }
+
+        compileLootTables();
         plugin.getLogger().info("Configuration des loots chargée! Total: " + mobLoots.size() + " monstres configurés");
     }
 
@@ -162,10 +227,19 @@ public class LootManager {
     /**
          * Classe interne pour représenter un loot
          */
-        public record LootEntry(ItemStack item, double chance) {
-            public LootEntry(ItemStack item, double chance) {
+        public record LootEntry(ItemStack item, double chance, double weight) {
+            public LootEntry(ItemStack item, double chance, double weight) {
                 this.item = item.clone(); // Important: clone pour éviter les modifications
                 this.chance = Math.max(0.0, Math.min(1.0, chance)); // Entre 0 et 1
+                this.weight = Math.max(0.0, weight); // > 0 : entrée du pool pondéré
+            }
+
+            public LootEntry(ItemStack item, double chance) {
+                this(item, chance, 0.0);
+            }
+
+            public boolean isWeighted() {
+                return weight > 0.0;
             }
 
             @Override
@@ -0,0 +1,155 @@
+package fr.custommobs.managers;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Table de loots compilée d'un monstre, immuable, construite au chargement (et à chaque modification) par le LootManager.
+ * Trois pools :
+ * - garantis : chance (multiplicateur global inclus) >= 100 %, toujours lâchés
+ * - bonus : tirage indépendant par entrée, chance déjà multipliée
+ * - pondéré : "rolls" tirages parmi les entrées selon leur poids, en O(1) chacun grâce à une table d'alias
+ * Les ItemStack gabarits ne sont jamais modifiés ni exposés : seul le monde en crée une copie quand un item tombe.
+ */
+public final class LootTable {
+
+    private final ItemStack[] guaranteed;
+    private final ItemStack[] bonusItems;
+    private final double[] bonusChances;
+    private final ItemStack[] weightedItems;
+    private final double[] aliasProbabilities;
+    private final int[] aliases;
+    private final int rolls;
+
+    private LootTable(ItemStack[] guaranteed, ItemStack[] bonusItems, double[] bonusChances,
+                      ItemStack[] weightedItems, double[] weights, int rolls) {
+        this.guaranteed = guaranteed;
+        this.bonusItems = bonusItems;
+        this.bonusChances = bonusChances;
+        this.weightedItems = weightedItems;
+        this.aliasProbabilities = new double[weights.length];
+        this.aliases = new int[weights.length];
+        this.rolls = weightedItems.length > 0 ? rolls : 0;
+        buildAliasTable(weights, aliasProbabilities, aliases);
+    }
+
+    /**
+     * Compile les entrées d'un monstre. Retourne null si aucune entrée ne peut tomber.
+     */
+    public static LootTable compile(List<LootManager.LootEntry> entries, int rolls, double chanceMultiplier) {
+        List<ItemStack> guaranteed = new ArrayList<>();
+        List<ItemStack> bonusItems = new ArrayList<>();
+        List<Double> bonusChances = new ArrayList<>();
+        List<ItemStack> weightedItems = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+
+        for (LootManager.LootEntry entry : entries) {
+            if (entry.weight() > 0.0) {
+                weightedItems.add(entry.item());
+                weights.add(entry.weight());
+                continue;
+            }
+            double chance = entry.chance() * chanceMultiplier;
+            if (chance >= 1.0) {
+                guaranteed.add(entry.item());
+            } else if (chance > 0.0) {
+                bonusItems.add(entry.item());
+                bonusChances.add(chance);
+            }
+        }
+
+        if (guaranteed.isEmpty() && bonusItems.isEmpty() && (weightedItems.isEmpty() || rolls <= 0)) {
+            return null;
+        }
+        return new LootTable(
+                guaranteed.toArray(new ItemStack[0]),
+                bonusItems.toArray(new ItemStack[0]),
+                bonusChances.stream().mapToDouble(Double::doubleValue).toArray(),
+                weightedItems.toArray(new ItemStack[0]),
+                weights.stream().mapToDouble(Double::doubleValue).toArray(),
+                Math.max(0, rolls));
+    }
+
+    /**
+     * Tire les loots d'une mort et transmet chaque gabarit tombé à "drop" (qui ne doit pas le modifier).
+     * Retourne le nombre d'items tombés.
+     */
+    public int roll(RandomGenerator random, Consumer<ItemStack> drop) {
+        int dropped = guaranteed.length;
+        for (ItemStack item : guaranteed) {
+            drop.accept(item);
+        }
+
+        for (int i = 0; i < bonusItems.length; i++) {
+            if (random.nextDouble() < bonusChances[i]) {
+                drop.accept(bonusItems[i]);
+                dropped++;
+            }
+        }
+
+        for (int r = 0; r < rolls; r++) {
+            int column = random.nextInt(weightedItems.length);
+            int picked = random.nextDouble() < aliasProbabilities[column] ? column : aliases[column];
+            drop.accept(weightedItems[picked]);
+            dropped++;
+        }
+        return dropped;
+    }
+
+    public int getEntryCount() {
+        return guaranteed.length + bonusItems.length + weightedItems.length;
+    }
+
+    /**
+     * Méthode des alias de Vose : chaque colonne garde sa propre entrée avec la probabilité
+     * probabilities[i], sinon renvoie vers aliases[i]
+     */
+    private static void buildAliasTable(double[] weights, double[] probabilities, int[] aliases) {
+        int n = weights.length;
+        if (n == 0) return;
+
+        double total = 0.0;
+        for (double weight : weights) total += weight;
+
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0, largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Reliquats (erreurs d'arrondi) : colonnes pleines
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probabilities[i] = 1.0;
+            aliases[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probabilities[i] = 1.0;
+            aliases[i] = i;
+        }
+    }
+}
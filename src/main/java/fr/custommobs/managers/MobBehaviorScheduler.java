@@ -0,0 +1,171 @@
+package fr.custommobs.managers;
+
+import fr.custommobs.CustomMobsPlugin;
+import org.bukkit.entity.Entity;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.logging.Level;
+
+/**
+ * Ordonnanceur central des comportements de monstres custom.
+ * Toutes les MobTask sont rangées dans une roue temporelle (une case par tick modulo WHEEL_SIZE) et exécutées
+ * par une seule tâche Bukkit répétée chaque tick. Le temps consacré par tick est borné : les tâches échues qui
+ * dépassent le budget sont reportées en tête du tick suivant, sans jamais être perdues.
+ * Doit être utilisé uniquement depuis le thread principal.
+ */
+public class MobBehaviorScheduler {
+
+    private static final int WHEEL_SIZE = 256; // Puissance de deux
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int MIN_TASKS_PER_TICK = 16; // Garantit une progression même si le budget est dépassé
+
+    private final CustomMobsPlugin plugin;
+    @SuppressWarnings("unchecked")
+    private final ArrayDeque<MobTask>[] wheel = new ArrayDeque[WHEEL_SIZE];
+    private final ArrayDeque<MobTask> dueTasks = new ArrayDeque<>(); // Échues, dans l'ordre d'exécution
+    private final long tickBudgetNanos;
+
+    private long currentTick;
+    private int scheduledCount;
+    private BukkitTask tickTask;
+
+    public MobBehaviorScheduler(CustomMobsPlugin plugin) {
+        this.plugin = plugin;
+        this.tickBudgetNanos = (long) (plugin.getConfig().getDouble("behavior-scheduler.tick-budget-ms", 2.0) * 1_000_000L);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        start();
+    }
+
+    private void start() {
+        tickTask = new ProfiledRunnable() {
+            @Override
+            protected void tick() {
+                advance();
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    /**
+     * Programme une tâche (period <= 0 : exécution unique). Appelé via MobTask.runTimer/runLater.
+     */
+    void schedule(MobTask task, Entity owner, long delay, long period) {
+        task.owner = owner;
+        task.period = period;
+        insert(task, currentTick + Math.max(1L, delay));
+        scheduledCount++;
+    }
+
+    /**
+     * Délai initial réparti selon l'entité, pour que des monstres apparus ensemble
+     * ne s'exécutent pas tous au même tick
+     */
+    public static long spreadDelay(Entity owner, long period) {
+        return period + Math.floorMod(owner.getUniqueId().hashCode(), (int) Math.max(1L, period));
+    }
+
+    private void insert(MobTask task, long dueTick) {
+        task.dueTick = dueTick;
+        wheel[(int) (dueTick & WHEEL_MASK)].add(task);
+    }
+
+    private void advance() {
+        currentTick++;
+
+        // Sort de la case courante les tâches échues ; les autres attendent un prochain tour de roue
+        ArrayDeque<MobTask> slot = wheel[(int) (currentTick & WHEEL_MASK)];
+        for (int i = slot.size(); i > 0; i--) {
+            MobTask task = slot.poll();
+            if (task.isCancelled()) {
+                scheduledCount--;
+            } else if (task.dueTick <= currentTick) {
+                dueTasks.add(task);
+            } else {
+                slot.add(task);
+            }
+        }
+
+        long deadline = System.nanoTime() + tickBudgetNanos;
+        int executed = 0;
+        while (!dueTasks.isEmpty()) {
+            if (executed >= MIN_TASKS_PER_TICK && System.nanoTime() >= deadline) {
+                break; // Le reste (déjà en tête de file) passera au tick suivant
+            }
+            execute(dueTasks.poll());
+            executed++;
+        }
+    }
+
+    private void execute(MobTask task) {
+        if (!task.isCancelled()) {
+            try {
+                run(task);
+            } catch (Throwable e) {
+                plugin.getLogger().log(Level.SEVERE, "Erreur dans un comportement de monstre", e);
+                task.cancel();
+            }
+            // L'entité a disparu : la tâche a pu le constater une dernière fois, on ne la reprogramme pas
+            if (task.owner != null && !task.owner.isValid()) {
+                task.cancel();
+            }
+        }
+
+        if (task.isCancelled() || task.period <= 0) {
+            task.cancel();
+            task.owner = null;
+            scheduledCount--;
+        } else {
+            insert(task, currentTick + task.period);
+        }
+    }
+
+    /**
+     * Exécute la tâche, mesurée par le profileur quand il est actif
+     */
+    private void run(MobTask task) {
+        TickProfiler profiler = plugin.getProfiler();
+        if (!profiler.isEnabled()) {
+            task.run();
+            return;
+        }
+        if (task.histogram == null) {
+            task.histogram = profiler.histogram("mob:" + TickProfiler.nameOf(task.getClass()));
+        }
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            task.histogram.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Nombre de tâches programmées (annulées non encore purgées comprises)
+     */
+    public int getScheduledCount() {
+        return scheduledCount;
+    }
+
+    /**
+     * Nombre de tâches échues reportées faute de budget
+     */
+    public int getBacklog() {
+        return dueTasks.size();
+    }
+
+    public void shutdown() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+        for (ArrayDeque<MobTask> slot : wheel) {
+            slot.forEach(MobTask::cancel);
+            slot.clear();
+        }
+        dueTasks.forEach(MobTask::cancel);
+        dueTasks.clear();
+        scheduledCount = 0;
+    }
+}
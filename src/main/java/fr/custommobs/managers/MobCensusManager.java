@@ -0,0 +1,171 @@
+package fr.custommobs.managers;
+
+import fr.custommobs.CustomMobsPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.IronGolem;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Monster;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Recensement incrémental des monstres par monde.
+ * Les compteurs sont tenus à jour par les événements d'ajout/retrait d'entités et de mort,
+ * ce qui évite de parcourir world.getLivingEntities() à chaque vérification de limite.
+ * Un scan complet n'est fait que périodiquement pour corriger une éventuelle dérive.
+ * Les monstres custom eux-mêmes sont suivis par le {@link MobRegistry}.
+ * Doit être utilisé uniquement depuis le thread principal.
+ */
+public class MobCensusManager {
+
+    private static final long RECONCILE_INTERVAL = 20L * 60 * 5; // 5 minutes
+    private static final byte MONSTER = 1;
+    private static final byte IRON_GOLEM = 2;
+
+    private final CustomMobsPlugin plugin;
+    private final Map<UUID, WorldCensus> worlds;
+
+    public MobCensusManager(CustomMobsPlugin plugin) {
+        this.plugin = plugin;
+        this.worlds = new HashMap<>();
+
+        // Les entités déjà chargées ne déclencheront pas d'EntityAddToWorldEvent
+        for (World world : Bukkit.getWorlds()) {
+            reconcile(world);
+        }
+        startReconcileTask();
+    }
+
+    /**
+     * Commence le suivi d'une entité qui vient d'être ajoutée à son monde
+     */
+    public void track(Entity entity) {
+        if (!isHostile(entity)) return;
+
+        WorldCensus census = getOrCreate(entity.getWorld());
+        byte category = categoryOf(entity);
+        if (census.tracked.putIfAbsent(entity.getUniqueId(), category) == null) {
+            census.increment(category);
+        }
+    }
+
+    /**
+     * Arrête le suivi d'une entité (mort ou retrait du monde). Sans effet si l'entité n'est pas suivie.
+     */
+    public void untrack(Entity entity) {
+        WorldCensus census = worlds.get(entity.getWorld().getUID());
+        if (census == null) return;
+
+        Byte category = census.tracked.remove(entity.getUniqueId());
+        if (category != null) {
+            census.decrement(category);
+        }
+    }
+
+    // =================================
+    // LECTURES O(1)
+    // =================================
+
+    /**
+     * Nombre de monstres + golems de fer (la même définition que la limite du monde "Cave")
+     */
+    public int getHostileCount(World world) {
+        WorldCensus census = worlds.get(world.getUID());
+        return census != null ? census.monsters + census.ironGolems : 0;
+    }
+
+    public int getMonsterCount(World world) {
+        WorldCensus census = worlds.get(world.getUID());
+        return census != null ? census.monsters : 0;
+    }
+
+    public int getIronGolemCount(World world) {
+        WorldCensus census = worlds.get(world.getUID());
+        return census != null ? census.ironGolems : 0;
+    }
+
+    // =================================
+    // RÉCONCILIATION
+    // =================================
+
+    /**
+     * Reconstruit les compteurs d'un monde à partir d'un scan complet.
+     * Doit être appelée sur le thread principal.
+     */
+    public void reconcile(World world) {
+        WorldCensus previous = worlds.get(world.getUID());
+        WorldCensus rebuilt = new WorldCensus();
+
+        for (LivingEntity entity : world.getLivingEntities()) {
+            if (!isHostile(entity)) continue;
+
+            byte category = categoryOf(entity);
+            rebuilt.tracked.put(entity.getUniqueId(), category);
+            rebuilt.increment(category);
+        }
+
+        if (previous != null && (previous.monsters != rebuilt.monsters || previous.ironGolems != rebuilt.ironGolems)) {
+            plugin.getLogger().fine("Recensement corrigé pour " + world.getName() + ": " +
+                    (previous.monsters + previous.ironGolems) + " -> " + (rebuilt.monsters + rebuilt.ironGolems));
+        }
+
+        worlds.put(world.getUID(), rebuilt);
+    }
+
+    /**
+     * Oublie un monde déchargé
+     */
+    public void forgetWorld(World world) {
+        worlds.remove(world.getUID());
+    }
+
+    public void clear() {
+        worlds.clear();
+    }
+
+    private void startReconcileTask() {
+        new ProfiledRunnable() {
+            @Override
+            protected void tick() {
+                for (World world : Bukkit.getWorlds()) {
+                    reconcile(world);
+                }
+            }
+        }.runTaskTimer(plugin, RECONCILE_INTERVAL, RECONCILE_INTERVAL);
+    }
+
+    private WorldCensus getOrCreate(World world) {
+        return worlds.computeIfAbsent(world.getUID(), k -> new WorldCensus());
+    }
+
+    private static boolean isHostile(Entity entity) {
+        return entity instanceof Monster || entity instanceof IronGolem;
+    }
+
+    private static byte categoryOf(Entity entity) {
+        return entity instanceof Monster ? MONSTER : IRON_GOLEM;
+    }
+
+    /**
+     * Compteurs d'un monde
+     */
+    private static class WorldCensus {
+        private final Map<UUID, Byte> tracked = new HashMap<>();
+        private int monsters;
+        private int ironGolems;
+
+        private void increment(byte category) {
+            if (category == MONSTER) monsters++;
+            else ironGolems++;
+        }
+
+        private void decrement(byte category) {
+            if (category == MONSTER) monsters--;
+            else ironGolems--;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package fr.custommobs.managers;
+
+import org.bukkit.boss.BarColor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Caractéristiques d'un type de monstre custom, enregistrées avec sa fabrique dans le CustomMobManager.
+ * Les managers et listeners le consultent par identifiant (recherche O(1)) plutôt que d'interpréter l'identifiant.
+ *
+ * @param tier        catégorie du monstre
+ * @param displayName nom affiché (barre de boss, statistiques) quand l'entité n'a pas de nom
+ * @param minExp      XP minimale lâchée à la mort
+ * @param maxExp      XP maximale lâchée à la mort (incluse)
+ * @param barColor    couleur de la barre de boss
+ * @param persistence comportement au déchargement du chunk
+ */
+public record MobDescriptor(Tier tier, String displayName, int minExp, int maxExp, BarColor barColor,
+                            Persistence persistence) {
+
+    /**
+     * Descripteur des identifiants inconnus (monstre retiré de la configuration, PDC d'une ancienne version)
+     */
+    public static final MobDescriptor UNKNOWN = new MobDescriptor(Tier.SIMPLE, null, 10, 10, BarColor.WHITE, Persistence.DEFAULT);
+
+    public enum Tier {
+        SIMPLE, ADVANCED, BOSS
+    }
+
+    public enum Persistence {
+        DEFAULT,   // Aucune mesure particulière au déchargement du chunk
+        PERSISTENT // Ne doit jamais disparaître loin des joueurs
+    }
+
+    public boolean isBoss() {
+        return tier == Tier.BOSS;
+    }
+
+    public boolean isPersistent() {
+        return persistence == Persistence.PERSISTENT;
+    }
+
+    /**
+     * Tire l'XP lâchée à la mort, entre minExp (inclus) et maxExp (exclu)
+     */
+    public int rollExp() {
+        return maxExp > minExp ? ThreadLocalRandom.current().nextInt(minExp, maxExp) : minExp;
+    }
+}
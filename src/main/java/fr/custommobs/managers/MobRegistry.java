@@ -0,0 +1,148 @@
+package fr.custommobs.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Registre des monstres custom vivants, indexé par UUID d'entité.
+ * Ne garde aucune référence vers les entités : une fiche compacte (zone, type, tick de spawn) par monstre,
+ * ajoutée au spawn et retirée par les événements de mort/retrait du monde (voir MobRegistryListener).
+ * C'est la source de vérité pour savoir quels monstres custom sont en vie.
+ * Doit être utilisé uniquement depuis le thread principal.
+ */
+public class MobRegistry {
+
+    /**
+     * Fiche d'un monstre custom vivant
+     */
+    public record MobRecord(UUID worldId, String zoneId, String mobId, long spawnTick) {
+        private MobRecord withZone(String zoneId) {
+            return new MobRecord(worldId, zoneId, mobId, spawnTick);
+        }
+    }
+
+    private final Map<UUID, MobRecord> records = new HashMap<>();
+    private final Map<String, Set<UUID>> membersByZone = new HashMap<>(); // Ordre d'insertion = plus anciens d'abord
+    private final Map<String, Integer> countsByMobId = new HashMap<>();
+    private final Map<UUID, Integer> countsByWorld = new HashMap<>();
+
+    /**
+     * Enregistre un monstre custom (spawn ou retour dans le monde après chargement de son chunk)
+     */
+    public void register(Entity entity, String mobId, String zoneId) {
+        if (mobId == null) return;
+        unregister(entity.getUniqueId());
+
+        MobRecord record = new MobRecord(entity.getWorld().getUID(), null, mobId, Bukkit.getCurrentTick());
+        records.put(entity.getUniqueId(), record);
+        countsByMobId.merge(mobId, 1, Integer::sum);
+        countsByWorld.merge(record.worldId(), 1, Integer::sum);
+        if (zoneId != null) {
+            assignZone(entity.getUniqueId(), zoneId);
+        }
+    }
+
+    /**
+     * Rattache un monstre enregistré à une zone de spawn
+     */
+    public void assignZone(UUID entityId, String zoneId) {
+        MobRecord record = records.get(entityId);
+        if (record == null || zoneId == null || zoneId.equals(record.zoneId())) return;
+
+        removeFromZone(entityId, record.zoneId());
+        records.put(entityId, record.withZone(zoneId));
+        membersByZone.computeIfAbsent(zoneId, k -> new LinkedHashSet<>()).add(entityId);
+    }
+
+    /**
+     * Retire un monstre du registre. Sans effet s'il n'y est pas.
+     */
+    public MobRecord unregister(UUID entityId) {
+        MobRecord record = records.remove(entityId);
+        if (record == null) return null;
+
+        removeFromZone(entityId, record.zoneId());
+        countsByMobId.computeIfPresent(record.mobId(), (k, v) -> v > 1 ? v - 1 : null);
+        countsByWorld.computeIfPresent(record.worldId(), (k, v) -> v > 1 ? v - 1 : null);
+        return record;
+    }
+
+    private void removeFromZone(UUID entityId, String zoneId) {
+        if (zoneId == null) return;
+        Set<UUID> members = membersByZone.get(zoneId);
+        if (members != null && members.remove(entityId) && members.isEmpty()) {
+            membersByZone.remove(zoneId);
+        }
+    }
+
+    /**
+     * Oublie les monstres d'un monde déchargé
+     */
+    public void forgetWorld(World world) {
+        UUID worldId = world.getUID();
+        records.entrySet().removeIf(entry -> {
+            if (!entry.getValue().worldId().equals(worldId)) return false;
+            removeFromZone(entry.getKey(), entry.getValue().zoneId());
+            countsByMobId.computeIfPresent(entry.getValue().mobId(), (k, v) -> v > 1 ? v - 1 : null);
+            return true;
+        });
+        countsByWorld.remove(worldId);
+    }
+
+    public void clear() {
+        records.clear();
+        membersByZone.clear();
+        countsByMobId.clear();
+        countsByWorld.clear();
+    }
+
+    // =================================
+    // LECTURES
+    // =================================
+
+    public boolean isRegistered(UUID entityId) {
+        return records.containsKey(entityId);
+    }
+
+    public MobRecord get(UUID entityId) {
+        return records.get(entityId);
+    }
+
+    public String getMobId(UUID entityId) {
+        MobRecord record = records.get(entityId);
+        return record != null ? record.mobId() : null;
+    }
+
+    public int getZoneCount(String zoneId) {
+        Set<UUID> members = membersByZone.get(zoneId);
+        return members != null ? members.size() : 0;
+    }
+
+    /**
+     * Monstres d'une zone, du plus ancien au plus récent (vue en lecture seule)
+     */
+    public Set<UUID> getZoneMembers(String zoneId) {
+        Set<UUID> members = membersByZone.get(zoneId);
+        return members != null ? Collections.unmodifiableSet(members) : Collections.emptySet();
+    }
+
+    public int getMobCount(String mobId) {
+        return countsByMobId.getOrDefault(mobId, 0);
+    }
+
+    public int getWorldCount(World world) {
+        return countsByWorld.getOrDefault(world.getUID(), 0);
+    }
+
+    public int size() {
+        return records.size();
+    }
+}
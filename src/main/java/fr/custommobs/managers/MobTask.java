@@ -0,0 +1,42 @@
+package fr.custommobs.managers;
+
+import fr.custommobs.CustomMobsPlugin;
+import org.bukkit.entity.Entity;
+
+/**
+ * Tâche de comportement rattachée à une entité, exécutée par le MobBehaviorScheduler.
+ * S'utilise comme un BukkitRunnable (classe anonyme + cancel()), sans créer de tâche Bukkit par monstre.
+ * La tâche est annulée automatiquement dès que son entité n'est plus valide (mort, retrait, chunk déchargé).
+ */
+public abstract class MobTask implements Runnable {
+
+    Entity owner;
+    long period;
+    long dueTick;
+    TimingHistogram histogram; // Renseigné par le scheduler quand le profileur est actif
+    private boolean cancelled;
+
+    /**
+     * Exécute la tâche toutes les "period" ticks après "delay" ticks
+     */
+    public final MobTask runTimer(CustomMobsPlugin plugin, Entity owner, long delay, long period) {
+        plugin.getBehaviorScheduler().schedule(this, owner, delay, period);
+        return this;
+    }
+
+    /**
+     * Exécute la tâche une seule fois après "delay" ticks
+     */
+    public final MobTask runLater(CustomMobsPlugin plugin, Entity owner, long delay) {
+        plugin.getBehaviorScheduler().schedule(this, owner, delay, 0L);
+        return this;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
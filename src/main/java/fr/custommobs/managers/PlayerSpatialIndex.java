@@ -0,0 +1,239 @@
+package fr.custommobs.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Index des joueurs ciblables (survie/aventure) par monde et par chunk, partagé par tous les monstres.
+ * Reconstruit au plus une fois par tick, à la première requête du tick : les requêtes ne parcourent plus
+ * les entités proches (monstres compris) mais seulement les joueurs des chunks concernés.
+ * Les positions sont celles du début du tick. Doit être utilisé uniquement depuis le thread principal.
+ */
+public class PlayerSpatialIndex {
+
+    private final Map<UUID, WorldPlayers> worlds = new HashMap<>();
+    private int builtTick = Integer.MIN_VALUE;
+
+    // =================================
+    // REQUÊTES
+    // =================================
+
+    /**
+     * Joueurs dont la position est dans le cube de demi-côté "radius" centré sur la position
+     * (mêmes bornes que World#getNearbyEntities)
+     */
+    public List<Player> getPlayersInBox(Location center, double radius) {
+        return collect(center, radius, false);
+    }
+
+    /**
+     * Joueurs à moins de "radius" blocs de la position
+     */
+    public List<Player> getPlayersInRadius(Location center, double radius) {
+        return collect(center, radius, true);
+    }
+
+    /**
+     * Joueur le plus proche à moins de "radius" blocs, ou null
+     */
+    public Player getNearest(Location center, double radius) {
+        WorldPlayers players = players(center);
+        if (players == null) return null;
+
+        double x = center.getX(), y = center.getY(), z = center.getZ();
+        double bestDistanceSquared = radius * radius;
+        Player best = null;
+        for (int i = players.firstCandidate(x, z, radius); i >= 0; i = players.nextCandidate(i)) {
+            double distanceSquared = players.distanceSquared(i, x, y, z);
+            if (distanceSquared <= bestDistanceSquared) {
+                bestDistanceSquared = distanceSquared;
+                best = players.players[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Les "k" joueurs les plus proches à moins de "radius" blocs, du plus proche au plus éloigné
+     */
+    public List<Player> getNearest(Location center, int k, double radius) {
+        WorldPlayers players = players(center);
+        if (players == null || k <= 0) return new ArrayList<>(0);
+
+        double x = center.getX(), y = center.getY(), z = center.getZ();
+        double radiusSquared = radius * radius;
+        int[] best = new int[k];
+        double[] bestDistances = new double[k];
+        int count = 0;
+        for (int i = players.firstCandidate(x, z, radius); i >= 0; i = players.nextCandidate(i)) {
+            double distanceSquared = players.distanceSquared(i, x, y, z);
+            if (distanceSquared > radiusSquared || (count == k && distanceSquared >= bestDistances[k - 1])) continue;
+
+            // Insertion triée dans les k meilleurs
+            int slot = count < k ? count++ : k - 1;
+            while (slot > 0 && bestDistances[slot - 1] > distanceSquared) {
+                best[slot] = best[slot - 1];
+                bestDistances[slot] = bestDistances[slot - 1];
+                slot--;
+            }
+            best[slot] = i;
+            bestDistances[slot] = distanceSquared;
+        }
+
+        List<Player> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(players.players[best[i]]);
+        }
+        return result;
+    }
+
+    private List<Player> collect(Location center, double radius, boolean sphere) {
+        WorldPlayers players = players(center);
+        if (players == null) return new ArrayList<>(0);
+
+        double x = center.getX(), y = center.getY(), z = center.getZ();
+        double radiusSquared = radius * radius;
+        List<Player> result = new ArrayList<>(4);
+        for (int i = players.firstCandidate(x, z, radius); i >= 0; i = players.nextCandidate(i)) {
+            boolean inside = sphere
+                    ? players.distanceSquared(i, x, y, z) <= radiusSquared
+                    : Math.abs(players.xs[i] - x) <= radius && Math.abs(players.ys[i] - y) <= radius
+                    && Math.abs(players.zs[i] - z) <= radius;
+            if (inside) {
+                result.add(players.players[i]);
+            }
+        }
+        return result;
+    }
+
+    private WorldPlayers players(Location center) {
+        World world = center.getWorld();
+        if (world == null) return null;
+        rebuildIfStale();
+        WorldPlayers players = worlds.get(world.getUID());
+        return players != null && players.size > 0 ? players : null;
+    }
+
+    // =================================
+    // CONSTRUCTION
+    // =================================
+
+    private void rebuildIfStale() {
+        int tick = Bukkit.getCurrentTick();
+        if (tick == builtTick) return;
+        builtTick = tick;
+
+        for (WorldPlayers players : worlds.values()) {
+            players.reset();
+        }
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            GameMode mode = player.getGameMode();
+            if (mode != GameMode.SURVIVAL && mode != GameMode.ADVENTURE) continue;
+
+            Location location = player.getLocation();
+            worlds.computeIfAbsent(location.getWorld().getUID(), k -> new WorldPlayers()).add(player, location);
+        }
+    }
+
+    /**
+     * Joueurs d'un monde : tableaux parallèles + chaînage par chunk (tête par chunk, suivant par joueur)
+     */
+    private static final class WorldPlayers {
+        private Player[] players = new Player[16];
+        private double[] xs = new double[16], ys = new double[16], zs = new double[16];
+        private int[] nextInChunk = new int[16];
+        private final Map<Long, Integer> chunkHeads = new HashMap<>();
+        private int size;
+
+        // État du parcours en cours (thread principal uniquement, pas de requêtes imbriquées)
+        private int minChunkX, maxChunkX, minChunkZ, maxChunkZ, cursorChunkX, cursorChunkZ;
+        private boolean scanAll;
+
+        private void reset() {
+            Arrays.fill(players, 0, size, null);
+            chunkHeads.clear();
+            size = 0;
+        }
+
+        private void add(Player player, Location location) {
+            if (size == players.length) {
+                int capacity = size * 2;
+                players = Arrays.copyOf(players, capacity);
+                xs = Arrays.copyOf(xs, capacity);
+                ys = Arrays.copyOf(ys, capacity);
+                zs = Arrays.copyOf(zs, capacity);
+                nextInChunk = Arrays.copyOf(nextInChunk, capacity);
+            }
+            players[size] = player;
+            xs[size] = location.getX();
+            ys[size] = location.getY();
+            zs[size] = location.getZ();
+
+            Integer head = chunkHeads.put(chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4), size);
+            nextInChunk[size] = head != null ? head : -1;
+            size++;
+        }
+
+        private double distanceSquared(int i, double x, double y, double z) {
+            double dx = xs[i] - x, dy = ys[i] - y, dz = zs[i] - z;
+            return dx * dx + dy * dy + dz * dz;
+        }
+
+        /**
+         * Premier joueur candidat pour une requête de rayon donné, ou -1.
+         * Si la zone couvre plus de chunks qu'il n'y a de joueurs, on parcourt simplement tous les joueurs.
+         */
+        private int firstCandidate(double x, double z, double radius) {
+            minChunkX = floor(x - radius) >> 4;
+            maxChunkX = floor(x + radius) >> 4;
+            minChunkZ = floor(z - radius) >> 4;
+            maxChunkZ = floor(z + radius) >> 4;
+            long chunkCount = (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+            scanAll = chunkCount > size;
+            if (scanAll) {
+                return size > 0 ? 0 : -1;
+            }
+            cursorChunkX = minChunkX;
+            cursorChunkZ = minChunkZ - 1;
+            return nextChunkHead();
+        }
+
+        private int nextCandidate(int current) {
+            if (scanAll) {
+                return current + 1 < size ? current + 1 : -1;
+            }
+            int next = nextInChunk[current];
+            return next >= 0 ? next : nextChunkHead();
+        }
+
+        private int nextChunkHead() {
+            while (true) {
+                if (++cursorChunkZ > maxChunkZ) {
+                    cursorChunkZ = minChunkZ;
+                    if (++cursorChunkX > maxChunkX) return -1;
+                }
+                Integer head = chunkHeads.get(chunkKey(cursorChunkX, cursorChunkZ));
+                if (head != null) return head;
+            }
+        }
+
+        private static long chunkKey(int chunkX, int chunkZ) {
+            return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+        }
+
+        private static int floor(double value) {
+            int i = (int) value;
+            return value < i ? i - 1 : i;
+        }
+    }
+}
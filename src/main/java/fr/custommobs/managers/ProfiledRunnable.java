@@ -0,0 +1,36 @@
+package fr.custommobs.managers;
+
+import fr.custommobs.CustomMobsPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * BukkitRunnable dont chaque exécution est mesurée par le TickProfiler quand il est actif.
+ * Le code de la tâche va dans tick() ; son nom est déduit de la classe (voir TickProfiler.nameOf).
+ */
+public abstract class ProfiledRunnable extends BukkitRunnable {
+
+    private TimingHistogram histogram;
+
+    /**
+     * Corps de la tâche
+     */
+    protected abstract void tick();
+
+    @Override
+    public final void run() {
+        TickProfiler profiler = CustomMobsPlugin.getInstance().getProfiler();
+        if (!profiler.isEnabled()) {
+            tick();
+            return;
+        }
+        if (histogram == null) {
+            histogram = profiler.histogram("task:" + TickProfiler.nameOf(getClass()));
+        }
+        long start = System.nanoTime();
+        try {
+            tick();
+        } finally {
+            histogram.record(System.nanoTime() - start);
+        }
+    }
+}
@@ -1,48 +1,63 @@
 package fr.custommobs.managers;
 
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.mobs.CustomMob;
 import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
-import org.bukkit.block.BlockFace;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.entity.IronGolem;
-import org.bukkit.entity.Monster;
-import org.bukkit.entity.Player;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
-import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.BoundingBox;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class SpawnManager {
 
     private final CustomMobsPlugin plugin;
     private final Map<String, SpawnZone> spawnZones;
-    private final Map<String, List<LivingEntity>> spawnedMobsByZone;
     private final Map<String, Long> zoneCooldowns;
+    private final Map<String, SpawnSurfaceIndex> surfaceIndexes;
+    private final List<Block> pendingBlockChanges;
+    private boolean blockFlushScheduled = false;
+    private final Deque<SpawnPlan> pendingSpawns;
+    private final ZoneActivityTracker activityTracker;
+    private final CreatureCleanupEngine cleanupEngine;
     private BukkitTask masterSpawnTask;
+    private BukkitTask spawnCommitTask;
 
     // Constantes
     private static final int MASTER_TICK_INTERVAL = 40; // 2 secondes
     private static final int MAX_SPAWN_ATTEMPTS = 10;
     private static final double MIN_PLAYER_DISTANCE_SQUARED = 12 * 12;
     private static final int MAX_MONSTERS_IN_CAVE = 200;
-    private static final int MAX_CLEANUP_PER_TICK = 40; // Nettoyage progressif quand aucune présence joueur
+    private static final int CAVE_SOFT_CAP = 180; // Au-delà, on fait de la place loin des joueurs
+    private static final int CAVE_SOFT_TARGET = 160;
+    private static final double CAVE_CLEANUP_MIN_PLAYER_DISTANCE = 48.0;
+    private static final long CLEANUP_BUDGET_MICROS = 1000; // Temps de nettoyage maximal par tick
+    private static final int MAX_SPAWNS_PER_TICK = 8; // Budget de spawns appliqués par tick sur le thread principal
 
     public SpawnManager(CustomMobsPlugin plugin) {
         this.plugin = plugin;
         this.spawnZones = new HashMap<>();
-        this.spawnedMobsByZone = new ConcurrentHashMap<>();
         this.zoneCooldowns = new ConcurrentHashMap<>();
+        this.surfaceIndexes = new HashMap<>();
+        this.pendingBlockChanges = new ArrayList<>();
+        this.pendingSpawns = new ArrayDeque<>();
         loadSpawnZones();
+        buildLoadedSurfaceIndexes();
+
+        Map<String, BoundingBox> zoneBounds = new HashMap<>();
+        spawnZones.forEach((zoneId, zone) -> zoneBounds.put(zoneId, zone.getBoundingBox()));
+        this.activityTracker = new ZoneActivityTracker(plugin, zoneBounds);
+        this.cleanupEngine = new CreatureCleanupEngine(plugin, CLEANUP_BUDGET_MICROS);
         startSpawning();
     }
 
@@ -54,8 +69,11 @@ public class SpawnManager {
                 if (zoneSection != null) {
                     try {
                         SpawnZone zone = SpawnZone.fromConfig(zoneSection);
+                        SpawnSurfaceIndex index = new SpawnSurfaceIndex(zone.minX(), zone.minY(), zone.minZ(),
+                                zone.maxX(), zone.maxY(), zone.maxZ());
                         spawnZones.put(zoneId, zone);
-                        spawnedMobsByZone.put(zoneId, new CopyOnWriteArrayList<>());
+                        surfaceIndexes.put(zoneId, index);
+                        plugin.getZoneIndex().addBox(zoneId, zone.worldName(), zone.getBoundingBox());
                         plugin.getLogger().info("Zone de spawn '" + zoneId + "' chargée !");
                     } catch (Exception e) {
                         plugin.getLogger().warning("Erreur lors du chargement de la zone '" + zoneId + "': " + e.getMessage());
@@ -72,9 +90,9 @@ public class SpawnManager {
 
         // CORRIGÉ : La tâche principale tourne maintenant sur le thread principal (synchrone)
         // pour pouvoir appeler les méthodes de l'API Bukkit en toute sécurité.
-        this.masterSpawnTask = new BukkitRunnable() {
+        this.masterSpawnTask = new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 processAllSpawns();
             }
         }.runTaskTimer(plugin, 100L, MASTER_TICK_INTERVAL);
@@ -82,15 +100,15 @@ public class SpawnManager {
 
     /**
      * Logique principale qui tourne sur le thread principal.
-     * Elle vérifie les conditions et délègue la recherche de position à une tâche asynchrone.
+     * Elle vérifie les conditions et délègue la recherche de position de tout le cycle à une seule tâche asynchrone.
      */
     private void processAllSpawns() {
-        cleanMobLists();
+        List<SpawnRequest> requests = new ArrayList<>();
 
         long currentTick = Bukkit.getServer().getCurrentTick();
 
         Integer caveMonstersCached = null; // cache pour cette passe
-        boolean caveCleanupDoneThisTick = false;
+        boolean caveCleanupRequested = false;
 
         for (Map.Entry<String, SpawnZone> entry : spawnZones.entrySet()) {
             String zoneId = entry.getKey();
@@ -99,36 +117,52 @@ public class SpawnManager {
 
             if (!zone.enabled() || world == null) continue;
 
-            if (currentTick - zoneCooldowns.getOrDefault(zoneId, 0L) < zone.spawnInterval() * 20L) {
+            boolean isCave = "Cave".equalsIgnoreCase(world.getName());
+            // 1) Si aucun joueur dans Cave: on stoppe tout spawn et on nettoie progressivement
+            if (isCave && !hasPlayersInWorld(world)) {
+                if (!caveCleanupRequested) {
+                    cleanupEngine.request(world, Integer.MAX_VALUE, 0.0);
+                    caveCleanupRequested = true;
+                }
                 continue;
             }
 
-            boolean isCave = "Cave".equalsIgnoreCase(world.getName());
-            if (isCave) {
-                // 1) Si aucun joueur dans Cave: on stoppe tout spawn et on nettoie progressivement
-                if (!hasPlayersInWorld(world)) {
-                    if (!caveCleanupDoneThisTick) {
-                        cleanupWorldCreatures(world, MAX_CLEANUP_PER_TICK);
-                        caveCleanupDoneThisTick = true;
-                    }
-                    continue;
-                }
+            // Zone froide (aucun joueur à proximité) : pas de spawn, on la vide progressivement
+            ZoneActivityTracker.ActivityTier tier = activityTracker.getTier(zoneId);
+            if (tier == ZoneActivityTracker.ActivityTier.COLD) {
+                trimZone(zoneId, tier.getCleanupPerCycle());
+                continue;
+            }
 
-                // 2) On calcule une seule fois le nombre de monstres de Cave pour cette passe
+            if (currentTick - zoneCooldowns.getOrDefault(zoneId, 0L) < tier.scaleInterval(zone.spawnInterval() * 20L)) {
+                continue;
+            }
+
+            if (isCave) {
+                // 2) On lit une seule fois le recensement de Cave pour cette passe
                 if (caveMonstersCached == null) {
-                    caveMonstersCached = countAllMonstersInWorld(world);
+                    caveMonstersCached = plugin.getMobCensusManager().getHostileCount(world);
+                    // Proche de la limite : on libère de la place loin des joueurs pour les prochains cycles
+                    if (caveMonstersCached >= CAVE_SOFT_CAP) {
+                        cleanupEngine.request(world, caveMonstersCached - CAVE_SOFT_TARGET, CAVE_CLEANUP_MIN_PLAYER_DISTANCE);
+                    }
                 }
                 if (caveMonstersCached >= MAX_MONSTERS_IN_CAVE) {
                     continue;
                 }
             }
 
-            int mobsInZone = spawnedMobsByZone.get(zoneId).size();
+            int mobsInZone = plugin.getMobRegistry().getZoneCount(zoneId);
             if (mobsInZone >= zone.maxMobs()) {
                 continue;
             }
 
-            int maxToSpawn = zone.groupSize();
+            // Aucune cellule de spawn connue (chunks non chargés ou zone pleine de blocs)
+            if (surfaceIndexes.get(zoneId).size() == 0) {
+                continue;
+            }
+
+            int maxToSpawn = tier.scaleGroupSize(zone.groupSize());
             maxToSpawn = Math.min(maxToSpawn, zone.maxMobs() - mobsInZone);
 
             if (isCave && caveMonstersCached != null) {
@@ -143,10 +177,12 @@ public class SpawnManager {
 
             zoneCooldowns.put(zoneId, currentTick);
 
+            // Une seule capture de la zone pour tout le groupe
+            SpawnZoneSnapshot snapshot = SpawnZoneSnapshot.capture(zoneId, surfaceIndexes.get(zoneId), world);
             for (int i = 0; i < maxToSpawn; i++) {
                 String mobType = zone.getRandomMobType();
                 if (mobType == null) continue;
-                findAndSpawnMobAsync(zone, zoneId, mobType);
+                requests.add(new SpawnRequest(world, snapshot, mobType));
             }
 
             // Met à jour le cache pour éviter le sur-scheduling entre zones dans Cave
@@ -154,165 +190,151 @@ public class SpawnManager {
                 caveMonstersCached += maxToSpawn;
             }
         }
+
+        if (!requests.isEmpty()) {
+            planSpawnsAsync(requests);
+        }
     }
 
     /**
-     * Lance une recherche de position en asynchrone, puis fait spawner le mob sur le thread principal.
+     * Étape asynchrone : transforme les demandes du cycle en plans de spawn (zone, type, position)
+     * à partir des captures de zones, puis remet le lot entier au thread principal.
      */
-    private void findAndSpawnMobAsync(final SpawnZone zone, final String zoneId, final String mobType) {
-        new BukkitRunnable() {
+    private void planSpawnsAsync(final List<SpawnRequest> requests) {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
-                // Étape 1: Trouver un emplacement (Asynchrone et sûr)
-                final Location spawnLocation = findValidSpawnLocation(zone, mobType);
-
-                if (spawnLocation != null) {
-                    // Étape 2: Spawner l'entité sur le thread principal
-                    new BukkitRunnable() {
-                        @Override
-                        public void run() {
-                            World world = spawnLocation.getWorld();
-                            if(world == null) return;
-
-                            // Ultime vérification juste avant le spawn.
-                            if ("Cave".equalsIgnoreCase(world.getName())) {
-                                // Ne pas spawn s'il n'y a aucun joueur
-                                if (!hasPlayersInWorld(world)) {
-                                    return;
-                                }
-                                if (countAllMonstersInWorld(world) >= MAX_MONSTERS_IN_CAVE) {
-                                    return;
-                                }
-                            }
-
-                            LivingEntity mob = plugin.getMobManager().spawnCustomMob(mobType, spawnLocation);
-                            if (mob != null) {
-                                spawnedMobsByZone.get(zoneId).add(mob);
-                                mob.setMetadata("spawn_zone", new FixedMetadataValue(plugin, zoneId));
-                            }
-                        }
-                    }.runTask(plugin);
+            protected void tick() {
+                // Aucune lecture du monde ici : tout vient des captures
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                final List<SpawnPlan> plans = new ArrayList<>(requests.size());
+                for (SpawnRequest request : requests) {
+                    byte requiredMask = getRequiredMask(request.mobType());
+                    SpawnZoneSnapshot snapshot = request.snapshot();
+                    int cell = snapshot.findCell(requiredMask, MAX_SPAWN_ATTEMPTS, MIN_PLAYER_DISTANCE_SQUARED, random);
+                    if (cell >= 0) {
+                        plans.add(new SpawnPlan(request.world(), snapshot.getZoneId(), request.mobType(),
+                                snapshot.cellX(cell), snapshot.cellY(cell), snapshot.cellZ(cell),
+                                requiredMask, snapshot.getGeneration()));
+                    }
                 }
+
+                if (plans.isEmpty()) return;
+                Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap("SpawnManager#enqueueSpawns", () -> enqueueSpawns(plans)));
             }
         }.runTaskAsynchronously(plugin);
     }
 
     /**
-     * Compte toutes les entités considérées comme "monstres" dans un monde.
-     * Doit être appelée depuis le thread principal.
+     * Ajoute un lot de plans à la file et démarre la tâche d'application si nécessaire
      */
-    private int countAllMonstersInWorld(World world) {
-        int count = 0;
-        for (LivingEntity entity : world.getLivingEntities()) {
-            if (entity instanceof Player) continue;
-            if (entity instanceof Monster || entity instanceof IronGolem) {
-                count++;
-            }
+    private void enqueueSpawns(List<SpawnPlan> plans) {
+        if (masterSpawnTask == null) return; // Spawning arrêté entre-temps
+
+        pendingSpawns.addAll(plans);
+        if (spawnCommitTask == null) {
+            spawnCommitTask = new ProfiledRunnable() {
+                @Override
+                protected void tick() {
+                    commitPendingSpawns();
+                    if (pendingSpawns.isEmpty()) {
+                        cancel();
+                        spawnCommitTask = null;
+                    }
+                }
+            }.runTaskTimer(plugin, 0L, 1L);
         }
-        return count;
     }
 
     /**
-     * Retourne vrai s'il y a au moins un joueur présent dans le monde donné.
+     * Applique au plus MAX_SPAWNS_PER_TICK plans. Le recensement n'est lu qu'une fois par monde et par tick,
+     * puis tenu à jour localement au fil des spawns. Les plans retenus sont regroupés par zone et par type
+     * de monstre, chaque lot étant spawné en une fois.
      */
-    private boolean hasPlayersInWorld(World world) {
-        return !world.getPlayers().isEmpty();
-    }
+    private void commitPendingSpawns() {
+        Map<World, Integer> hostileCounts = new HashMap<>(2);
+        Map<BatchKey, List<Location>> batches = new LinkedHashMap<>(4);
+        int accepted = 0;
+
+        while (accepted < MAX_SPAWNS_PER_TICK && !pendingSpawns.isEmpty()) {
+            SpawnPlan plan = pendingSpawns.poll();
+            World world = plan.world();
+            if (!isPlanStillValid(plan)) continue;
+
+            // Ultime vérification juste avant le spawn.
+            if ("Cave".equalsIgnoreCase(world.getName())) {
+                // Ne pas spawn s'il n'y a aucun joueur
+                if (!hasPlayersInWorld(world)) continue;
+
+                int hostiles = hostileCounts.computeIfAbsent(world, w -> plugin.getMobCensusManager().getHostileCount(w));
+                if (hostiles >= MAX_MONSTERS_IN_CAVE) continue;
+                hostileCounts.put(world, hostiles + 1);
+            }
 
-    /**
-     * Supprime progressivement jusqu'à "limit" créatures (monstres + IronGolem) dans ce monde.
-     * Doit être appelée sur le thread principal.
-     */
-    private void cleanupWorldCreatures(World world, int limit) {
-        int removed = 0;
-        for (LivingEntity entity : world.getLivingEntities()) {
-            if (entity instanceof Player) continue;
-            if (entity instanceof Monster || entity instanceof IronGolem) {
-                entity.remove();
-                removed++;
-                if (removed >= limit) {
-                    break;
-                }
+            if (!spawnZones.containsKey(plan.zoneId())) continue;
+
+            batches.computeIfAbsent(new BatchKey(plan.zoneId(), plan.mobType()), k -> new ArrayList<>())
+                    .add(new Location(world, plan.x() + 0.5, plan.y(), plan.z() + 0.5));
+            accepted++;
+        }
+
+        for (Map.Entry<BatchKey, List<Location>> batch : batches.entrySet()) {
+            String zoneId = batch.getKey().zoneId();
+            for (LivingEntity mob : plugin.getMobManager().spawnCustomMobs(batch.getKey().mobType(), batch.getValue())) {
+                CustomMob.setSpawnZone(mob, zoneId);
+                plugin.getMobRegistry().assignZone(mob.getUniqueId(), zoneId);
             }
         }
     }
 
     /**
-     * Nettoie les listes de mobs en supprimant les entités mortes ou invalides.
+     * Revalide sur le thread principal une cellule trouvée en asynchrone.
+     * L'index n'est relu que si sa génération a changé depuis la capture.
      */
-    private void cleanMobLists() {
-        for (List<LivingEntity> mobList : spawnedMobsByZone.values()) {
-            mobList.removeIf(mob -> mob == null || mob.isDead() || !mob.isValid());
+    private boolean isPlanStillValid(SpawnPlan plan) {
+        if (!plan.world().isChunkLoaded(plan.x() >> 4, plan.z() >> 4)) {
+            return false;
+        }
+        SpawnSurfaceIndex index = surfaceIndexes.get(plan.zoneId());
+        if (index == null) {
+            return false;
         }
+        return index.generation() == plan.generation()
+                || (index.maskAt(plan.x(), plan.y(), plan.z()) & plan.requiredMask()) != 0;
     }
 
-    // ... Le reste du fichier (findValidSpawnLocation, isSafeForMob, etc.) ne change pas ...
-    private Location findValidSpawnLocation(SpawnZone zone, String mobType) {
-        World world = Bukkit.getServer().getWorld(zone.worldName());
-        if (world == null) return null;
-
-        BoundingBox mobBoundingBox = getMobBoundingBox(mobType);
-
-        for (int attempt = 0; attempt < SpawnManager.MAX_SPAWN_ATTEMPTS; attempt++) {
-            int x = ThreadLocalRandom.current().nextInt(zone.minX(), zone.maxX() + 1);
-            int z = ThreadLocalRandom.current().nextInt(zone.minZ(), zone.maxZ() + 1);
-
-            for (int y = zone.maxY(); y >= zone.minY(); y--) {
-                Location potentialLocation = new Location(world, x + 0.5, y, z + 0.5);
-                // isChunkLoaded est une vérification peu coûteuse et importante en asynchrone.
-                if (!world.isChunkLoaded(potentialLocation.getBlockX() >> 4, potentialLocation.getBlockZ() >> 4)) {
-                    continue;
-                }
-                Block groundBlock = potentialLocation.getBlock().getRelative(BlockFace.DOWN);
-
-                if (isSolidAndSafeGround(groundBlock.getType())) {
-                    if (isSafeForMob(potentialLocation, mobBoundingBox) && !isNearPlayer(potentialLocation)) {
-                        return potentialLocation;
-                    }
-                    break;
-                }
-            }
-        }
-        return null;
+    /**
+     * Retourne vrai s'il y a au moins un joueur présent dans le monde donné.
+     */
+    private boolean hasPlayersInWorld(World world) {
+        return !world.getPlayers().isEmpty();
     }
 
-    private boolean isSafeForMob(Location location, BoundingBox mobBoundingBox) {
-        double height = mobBoundingBox.getHeight();
-        double width = Math.max(mobBoundingBox.getWidthX(), mobBoundingBox.getWidthZ());
-        int checkRadius = (int) Math.ceil(width / 2.0);
-
-        for (int y = 0; y < Math.ceil(height); y++) {
-            for (int x = -checkRadius; x <= checkRadius; x++) {
-                for (int z = -checkRadius; z <= checkRadius; z++) {
-                    Block block = location.clone().add(x, y, z).getBlock();
-                    if (!block.isPassable() && block.getType() != Material.WATER) {
-                        return false;
-                    }
-                }
-            }
+    /**
+     * Retire jusqu'à "limit" mobs d'une zone où aucun joueur ne se trouve à proximité.
+     */
+    private void trimZone(String zoneId, int limit) {
+        if (plugin.getMobRegistry().getZoneCount(zoneId) == 0) return;
+
+        // Copie : le retrait d'une entité la désenregistre immédiatement
+        List<UUID> oldestFirst = new ArrayList<>(plugin.getMobRegistry().getZoneMembers(zoneId));
+        for (int i = 0; i < oldestFirst.size() && i < limit; i++) {
+            removeZoneMob(oldestFirst.get(i));
         }
-        Block below = location.getBlock().getRelative(BlockFace.DOWN);
-        return below.getRelative(BlockFace.DOWN, 5).getType().isSolid();
     }
 
-    private boolean isSolidAndSafeGround(Material material) {
-        if (!material.isSolid()) {
-            return false;
+    private void removeZoneMob(UUID entityId) {
+        Entity mob = Bukkit.getEntity(entityId);
+        if (mob != null) {
+            mob.remove();
         }
-        return switch (material) {
-            case LAVA, MAGMA_BLOCK, CACTUS, CAMPFIRE, SOUL_CAMPFIRE, SWEET_BERRY_BUSH -> false;
-            default -> !material.name().contains("PRESSURE_PLATE");
-        };
+        plugin.getMobRegistry().unregister(entityId);
     }
 
-    private boolean isNearPlayer(Location location) {
-        // isNearPlayer est souvent appelé en async, Bukkit.getOnlinePlayers() est thread-safe.
-        for (Player player : location.getWorld().getPlayers()) {
-            if (player.getLocation().distanceSquared(location) < MIN_PLAYER_DISTANCE_SQUARED) {
-                return true;
-            }
-        }
-        return false;
+    /**
+     * Masque de hauteur que doit accepter une cellule pour ce type de mob
+     */
+    private byte getRequiredMask(String mobType) {
+        return SpawnSurfaceIndex.maskFor(SpawnSurfaceIndex.heightClass(getMobBoundingBox(mobType).getHeight()));
     }
 
     private BoundingBox getMobBoundingBox(String mobId) {
@@ -336,23 +358,210 @@ public class SpawnManager {
         };
     }
 
+    // =================================
+    // INDEX DES SURFACES DE SPAWN
+    // =================================
+
+    /**
+     * Indexe les chunks déjà chargés au démarrage du plugin
+     */
+    private void buildLoadedSurfaceIndexes() {
+        for (Map.Entry<String, SpawnZone> entry : spawnZones.entrySet()) {
+            SpawnZone zone = entry.getValue();
+            World world = Bukkit.getWorld(zone.worldName());
+            if (world == null) continue;
+
+            SpawnSurfaceIndex index = surfaceIndexes.get(entry.getKey());
+            ChunkSnapshotView view = new ChunkSnapshotView(world);
+            for (int cx = zone.minX() >> 4; cx <= zone.maxX() >> 4; cx++) {
+                for (int cz = zone.minZ() >> 4; cz <= zone.maxZ() >> 4; cz++) {
+                    if (world.isChunkLoaded(cx, cz)) {
+                        index.updateRegion(view, cx << 4, cz << 4, (cx << 4) + 15, (cz << 4) + 15);
+                    }
+                }
+            }
+            plugin.getLogger().fine("Index de spawn construit pour '" + entry.getKey() + "': " + index.size() + " cellules");
+        }
+    }
+
+    /**
+     * Indexe la partie des zones couverte par un chunk qui vient de se charger.
+     * Les colonnes voisines (1 bloc autour) sont réévaluées car leur empreinte déborde sur ce chunk.
+     */
+    public void handleChunkLoad(Chunk chunk) {
+        int x0 = (chunk.getX() << 4) - 1, z0 = (chunk.getZ() << 4) - 1;
+        int x1 = x0 + 17, z1 = z0 + 17;
+        ChunkSnapshotView view = null;
+
+        for (String zoneId : spawnZonesIntersectingColumns(chunk.getWorld(), x0, z0, x1, z1)) {
+            if (view == null) view = new ChunkSnapshotView(chunk.getWorld());
+            surfaceIndexes.get(zoneId).updateRegion(view, x0, z0, x1, z1);
+        }
+    }
+
+    /**
+     * Retire de l'index les cellules d'un chunk déchargé, et celles des colonnes voisines qui en dépendent
+     */
+    public void handleChunkUnload(Chunk chunk) {
+        int x0 = chunk.getX() << 4, z0 = chunk.getZ() << 4;
+        int x1 = x0 + 15, z1 = z0 + 15;
+
+        for (String zoneId : spawnZonesIntersectingColumns(chunk.getWorld(), x0 - 1, z0 - 1, x1 + 1, z1 + 1)) {
+            surfaceIndexes.get(zoneId).removeRegion(x0, z0, x1, z1);
+        }
+    }
+
+    /**
+     * Enregistre un bloc posé/cassé. Les événements de blocs sont appelés avant la modification effective,
+     * la correction de l'index est donc regroupée au tick suivant.
+     */
+    public void handleBlockChange(Block block) {
+        if (getZonesAffectedBy(block).isEmpty()) return;
+
+        pendingBlockChanges.add(block);
+        if (!blockFlushScheduled) {
+            blockFlushScheduled = true;
+            Bukkit.getScheduler().runTask(plugin, plugin.getProfiler().wrap("SpawnManager#flushBlockChanges", this::flushBlockChanges));
+        }
+    }
+
+    private void flushBlockChanges() {
+        blockFlushScheduled = false;
+        LiveBlockView view = null;
+
+        for (Block block : pendingBlockChanges) {
+            if (view == null || view.world != block.getWorld()) {
+                view = new LiveBlockView(block.getWorld());
+            }
+            for (String zoneId : getZonesAffectedBy(block)) {
+                surfaceIndexes.get(zoneId).updateAround(view, block.getX(), block.getY(), block.getZ());
+            }
+        }
+        pendingBlockChanges.clear();
+    }
+
+    /**
+     * Zones de spawn dont une cellule peut dépendre de ce bloc : il peut servir de sol (1 bloc plus bas),
+     * de sol profond (6 blocs plus bas) ou d'espace libre (jusqu'à 3 blocs plus haut, 1 bloc autour)
+     */
+    private List<String> getZonesAffectedBy(Block block) {
+        BoundingBox reach = new BoundingBox(block.getX() - 1, block.getY() - 3, block.getZ() - 1,
+                block.getX() + 2, block.getY() + 7, block.getZ() + 2);
+        List<String> zoneIds = plugin.getZoneIndex().zonesIntersecting(block.getWorld(), reach);
+        zoneIds.removeIf(zoneId -> !surfaceIndexes.containsKey(zoneId));
+        return zoneIds;
+    }
+
+    private List<String> spawnZonesIntersectingColumns(World world, int x0, int z0, int x1, int z1) {
+        BoundingBox columns = new BoundingBox(x0, world.getMinHeight(), z0, x1 + 1, world.getMaxHeight(), z1 + 1);
+        List<String> zoneIds = plugin.getZoneIndex().zonesIntersecting(world, columns);
+        zoneIds.removeIf(zoneId -> !surfaceIndexes.containsKey(zoneId));
+        return zoneIds;
+    }
+
+    /**
+     * Lecture des blocs du monde pour l'index. Thread principal uniquement ; ne charge jamais de chunk.
+     */
+    private static final class LiveBlockView implements SpawnSurfaceIndex.BlockView {
+        private final World world;
+        private long lastChunkKey = Long.MIN_VALUE;
+        private boolean lastChunkLoaded;
+
+        private LiveBlockView(World world) {
+            this.world = world;
+        }
+
+        @Override
+        public byte classify(int x, int y, int z) {
+            if (y < world.getMinHeight() || y >= world.getMaxHeight()) {
+                return SpawnSurfaceIndex.CLEAR;
+            }
+            long chunkKey = ((long) (x >> 4) << 32) | ((z >> 4) & 0xFFFFFFFFL);
+            if (chunkKey != lastChunkKey) {
+                lastChunkKey = chunkKey;
+                lastChunkLoaded = world.isChunkLoaded(x >> 4, z >> 4);
+            }
+            if (!lastChunkLoaded) {
+                return SpawnSurfaceIndex.UNAVAILABLE;
+            }
+            Block block = world.getBlockAt(x, y, z);
+            return SpawnSurfaceIndex.classify(block.getType(), block.isPassable());
+        }
+    }
+
+    /**
+     * Lecture des blocs depuis des ChunkSnapshot, pour indexer des chunks entiers : une copie par chunk
+     * au lieu d'un accès au monde par bloc, et la carte des hauteurs pour ignorer l'air au-dessus du relief.
+     * Créée sur le thread principal ; ne charge jamais de chunk.
+     */
+    private static final class ChunkSnapshotView implements SpawnSurfaceIndex.BlockView {
+        private static final int MAX_CACHED_CHUNKS = 64;
+
+        private final World world;
+        private final int minHeight, maxHeight;
+        private final Map<Long, ChunkSnapshot> chunks = new HashMap<>(); // null : chunk non chargé
+        private long lastChunkKey = Long.MIN_VALUE;
+        private ChunkSnapshot lastChunk;
+
+        private ChunkSnapshotView(World world) {
+            this.world = world;
+            this.minHeight = world.getMinHeight();
+            this.maxHeight = world.getMaxHeight();
+        }
+
+        @Override
+        public byte classify(int x, int y, int z) {
+            if (y < minHeight || y >= maxHeight) {
+                return SpawnSurfaceIndex.CLEAR;
+            }
+            ChunkSnapshot chunk = chunk(x >> 4, z >> 4);
+            if (chunk == null) {
+                return SpawnSurfaceIndex.UNAVAILABLE;
+            }
+            // Le snapshot n'expose pas Block#isPassable : un bloc sans collision est traversable
+            Material type = chunk.getBlockType(x & 15, y, z & 15);
+            return SpawnSurfaceIndex.classify(type, !type.isCollidable());
+        }
+
+        @Override
+        public int maxCellY(int x, int z) {
+            ChunkSnapshot chunk = chunk(x >> 4, z >> 4);
+            return chunk != null ? chunk.getHighestBlockYAt(x & 15, z & 15) + 1 : Integer.MIN_VALUE;
+        }
+
+        private ChunkSnapshot chunk(int chunkX, int chunkZ) {
+            long chunkKey = ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+            if (chunkKey == lastChunkKey) {
+                return lastChunk;
+            }
+            if (!chunks.containsKey(chunkKey)) {
+                if (chunks.size() >= MAX_CACHED_CHUNKS) {
+                    chunks.clear();
+                }
+                chunks.put(chunkKey, world.isChunkLoaded(chunkX, chunkZ)
+                        ? world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(true, false, false) : null);
+            }
+            lastChunkKey = chunkKey;
+            lastChunk = chunks.get(chunkKey);
+            return lastChunk;
+        }
+    }
 
     public void stopAllSpawning() {
         if (masterSpawnTask != null) {
             masterSpawnTask.cancel();
             masterSpawnTask = null;
         }
+        if (spawnCommitTask != null) {
+            spawnCommitTask.cancel();
+            spawnCommitTask = null;
+        }
+        pendingSpawns.clear();
+        cleanupEngine.stop();
 
-        // Le reste de la fonction est ok
-        for (List<LivingEntity> mobs : spawnedMobsByZone.values()) {
-            mobs.forEach(mob -> {
-                if (mob != null && !mob.isDead()) {
-                    mob.remove();
-                }
-            });
-            mobs.clear();
+        for (String zoneId : spawnZones.keySet()) {
+            new ArrayList<>(plugin.getMobRegistry().getZoneMembers(zoneId)).forEach(this::removeZoneMob);
         }
-        spawnedMobsByZone.clear();
         zoneCooldowns.clear();
         plugin.getLogger().info("La tâche de spawn a été arrêtée et les mobs supprimés.");
     }
@@ -361,6 +570,29 @@ public class SpawnManager {
         return Collections.unmodifiableMap(spawnZones);
     }
 
+    public ZoneActivityTracker getActivityTracker() {
+        return activityTracker;
+    }
+
+    /**
+     * Demande de spawn décidée sur le thread principal, à résoudre en asynchrone
+     */
+    private record SpawnRequest(World world, SpawnZoneSnapshot snapshot, String mobType) {
+    }
+
+    /**
+     * Spawn planifié en asynchrone, appliqué par lot sur le thread principal
+     */
+    private record SpawnPlan(World world, String zoneId, String mobType, int x, int y, int z,
+                             byte requiredMask, long generation) {
+    }
+
+    /**
+     * Lot de spawns d'un même type dans une même zone
+     */
+    private record BatchKey(String zoneId, String mobType) {
+    }
+
     public record SpawnZone(String worldName, int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
                             List<String> mobTypes, int maxMobs, int groupSize, int spawnInterval, boolean enabled) {
         public SpawnZone(String worldName, int minX, int minY, int minZ, int maxX, int maxY, int maxZ, List<String> mobTypes, int maxMobs, int groupSize, int spawnInterval, boolean enabled) {
@@ -387,6 +619,13 @@ public class SpawnManager {
             return Collections.unmodifiableList(mobTypes);
         }
 
+        /**
+         * Emprise de la zone en coordonnées monde (blocs min/max inclus)
+         */
+        public BoundingBox getBoundingBox() {
+            return new BoundingBox(minX, minY, minZ, maxX + 1, maxY + 1, maxZ + 1);
+        }
+
         public String getRandomMobType() {
             if (mobTypes.isEmpty()) return null;
             return mobTypes.get(ThreadLocalRandom.current().nextInt(mobTypes.size()));
@@ -0,0 +1,422 @@
+package fr.custommobs.managers;
+
+import org.bukkit.Material;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Index compact des cellules de spawn valides d'une zone.
+ * Chaque cellule est un entier packé (x, y, z relatifs à la zone) associé à un masque de bits
+ * indiquant quelles hauteurs de mob (1 à 4 blocs, empreinte 3x3) tiennent à cet endroit.
+ * L'index est construit au chargement des chunks et corrigé bloc par bloc : il est modifié uniquement
+ * sur le thread principal, les lectures asynchrones passent par un {@link Snapshot} immuable.
+ */
+public final class SpawnSurfaceIndex {
+
+    // Classification d'un bloc, indépendante de l'API Bukkit pour pouvoir être calculée depuis n'importe quelle source
+    public static final byte CLEAR = 0;        // Traversable (ou eau)
+    public static final byte SOLID_SAFE = 1;   // Sol solide sur lequel un mob peut apparaître
+    public static final byte SOLID_UNSAFE = 2; // Solide mais dangereux (magma, cactus...)
+    public static final byte BLOCKING = 3;     // Ni solide ni traversable
+    public static final byte UNAVAILABLE = 4;  // Chunk non chargé
+
+    public static final int MAX_HEIGHT_CLASS = 4;
+    private static final int FOOTPRINT_RADIUS = 1;
+    private static final int DEEP_GROUND_OFFSET = 6; // Le bloc 5 sous le sol doit aussi être solide
+
+    /**
+     * Source de blocs pour l'évaluation des cellules (monde vivant, snapshots de chunks, données de test...)
+     */
+    @FunctionalInterface
+    public interface BlockView {
+        byte classify(int x, int y, int z);
+
+        /**
+         * Plus haute cellule possible de la colonne (bloc solide le plus haut + 1), pour ne pas évaluer l'air
+         * au-dessus. Par défaut aucune limite.
+         */
+        default int maxCellY(int x, int z) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private final int minX, minY, minZ;
+    private final int sizeX, sizeY, sizeZ;
+
+    private int[] cells;
+    private byte[] masks;
+    private int size;
+    private final CellSlots slots;
+    private Snapshot snapshot;
+    private long generation;
+
+    public SpawnSurfaceIndex(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.sizeX = maxX - minX + 1;
+        this.sizeY = maxY - minY + 1;
+        this.sizeZ = maxZ - minZ + 1;
+        // Les cellules sont packées dans un int positif
+        if ((long) sizeX * sizeY * sizeZ > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Zone trop grande pour l'index de spawn: " + sizeX + "x" + sizeY + "x" + sizeZ);
+        }
+        this.cells = new int[64];
+        this.masks = new byte[64];
+        this.slots = new CellSlots(64);
+    }
+
+    // =================================
+    // CLASSIFICATION
+    // =================================
+
+    /**
+     * Classe un bloc à partir de son matériau et de sa traversabilité
+     */
+    public static byte classify(Material type, boolean passable) {
+        if (type.isSolid()) {
+            return isSolidAndSafeGround(type) ? SOLID_SAFE : SOLID_UNSAFE;
+        }
+        return passable || type == Material.WATER ? CLEAR : BLOCKING;
+    }
+
+    public static boolean isSolidAndSafeGround(Material material) {
+        if (!material.isSolid()) {
+            return false;
+        }
+        return switch (material) {
+            case LAVA, MAGMA_BLOCK, CACTUS, CAMPFIRE, SOUL_CAMPFIRE, SWEET_BERRY_BUSH -> false;
+            default -> !material.name().contains("PRESSURE_PLATE");
+        };
+    }
+
+    /**
+     * Classe de hauteur (1 à MAX_HEIGHT_CLASS) correspondant à une hauteur de hitbox
+     */
+    public static int heightClass(double height) {
+        return Math.max(1, Math.min(MAX_HEIGHT_CLASS, (int) Math.ceil(height)));
+    }
+
+    public static byte maskFor(int heightClass) {
+        return (byte) (1 << (heightClass - 1));
+    }
+
+    /**
+     * Évalue une cellule : retourne le masque des hauteurs qui y tiennent (0 si la cellule n'est pas valide)
+     */
+    public static byte evaluate(BlockView view, int x, int y, int z) {
+        if (view.classify(x, y - 1, z) != SOLID_SAFE) {
+            return 0;
+        }
+        byte deep = view.classify(x, y - DEEP_GROUND_OFFSET, z);
+        if (deep != SOLID_SAFE && deep != SOLID_UNSAFE) {
+            return 0;
+        }
+
+        byte mask = 0;
+        for (int dy = 0; dy < MAX_HEIGHT_CLASS; dy++) {
+            for (int dx = -FOOTPRINT_RADIUS; dx <= FOOTPRINT_RADIUS; dx++) {
+                for (int dz = -FOOTPRINT_RADIUS; dz <= FOOTPRINT_RADIUS; dz++) {
+                    if (view.classify(x + dx, y + dy, z + dz) != CLEAR) {
+                        return mask;
+                    }
+                }
+            }
+            mask |= (byte) (1 << dy);
+        }
+        return mask;
+    }
+
+    // =================================
+    // MISE À JOUR (THREAD PRINCIPAL)
+    // =================================
+
+    /**
+     * Réévalue toutes les cellules d'une région de colonnes (coordonnées monde, bornes incluses).
+     * Au-dessus de view.maxCellY, les cellules sont retirées sans lire de bloc.
+     */
+    public void updateRegion(BlockView view, int x0, int z0, int x1, int z1) {
+        int fromX = Math.max(x0, minX), toX = Math.min(x1, minX + sizeX - 1);
+        int fromZ = Math.max(z0, minZ), toZ = Math.min(z1, minZ + sizeZ - 1);
+        for (int x = fromX; x <= toX; x++) {
+            for (int z = fromZ; z <= toZ; z++) {
+                int top = view.maxCellY(x, z);
+                for (int y = minY; y < minY + sizeY; y++) {
+                    set(x, y, z, y <= top ? evaluate(view, x, y, z) : 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retire toutes les cellules d'une région de colonnes (déchargement de chunk), ainsi que celles des
+     * colonnes voisines dont l'empreinte déborde sur la région : elles ne peuvent plus être vérifiées.
+     */
+    public void removeRegion(int x0, int z0, int x1, int z1) {
+        int fromX = Math.max(x0 - FOOTPRINT_RADIUS, minX), toX = Math.min(x1 + FOOTPRINT_RADIUS, minX + sizeX - 1);
+        int fromZ = Math.max(z0 - FOOTPRINT_RADIUS, minZ), toZ = Math.min(z1 + FOOTPRINT_RADIUS, minZ + sizeZ - 1);
+        for (int x = fromX; x <= toX; x++) {
+            for (int z = fromZ; z <= toZ; z++) {
+                for (int y = minY; y < minY + sizeY; y++) {
+                    set(x, y, z, (byte) 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Réévalue les cellules dont la validité dépend du bloc (x, y, z) qui vient de changer
+     */
+    public void updateAround(BlockView view, int x, int y, int z) {
+        // Le bloc sert de sol à la cellule au-dessus, et de sol profond à celle 6 blocs plus haut
+        updateCell(view, x, y + 1, z);
+        updateCell(view, x, y + DEEP_GROUND_OFFSET, z);
+        // Le bloc fait partie de l'espace libre des cellules voisines en dessous
+        for (int dy = 0; dy < MAX_HEIGHT_CLASS; dy++) {
+            for (int dx = -FOOTPRINT_RADIUS; dx <= FOOTPRINT_RADIUS; dx++) {
+                for (int dz = -FOOTPRINT_RADIUS; dz <= FOOTPRINT_RADIUS; dz++) {
+                    updateCell(view, x + dx, y - dy, z + dz);
+                }
+            }
+        }
+    }
+
+    private void updateCell(BlockView view, int x, int y, int z) {
+        if (contains(x, y, z)) {
+            set(x, y, z, evaluate(view, x, y, z));
+        }
+    }
+
+    /**
+     * Vérifie si des coordonnées monde appartiennent à la zone indexée
+     */
+    public boolean contains(int x, int y, int z) {
+        return x >= minX && x < minX + sizeX
+                && y >= minY && y < minY + sizeY
+                && z >= minZ && z < minZ + sizeZ;
+    }
+
+    private void set(int x, int y, int z, byte mask) {
+        int cell = pack(x, y, z);
+        int slot = slots.get(cell);
+
+        if (mask == 0) {
+            if (slot < 0) return;
+            // Retrait en O(1) : la dernière cellule prend la place de celle supprimée
+            int last = --size;
+            if (slot != last) {
+                cells[slot] = cells[last];
+                masks[slot] = masks[last];
+                slots.put(cells[slot], slot);
+            }
+            slots.remove(cell);
+            invalidate();
+            return;
+        }
+
+        if (slot >= 0) {
+            if (masks[slot] != mask) {
+                masks[slot] = mask;
+                invalidate();
+            }
+            return;
+        }
+
+        if (size == cells.length) {
+            cells = Arrays.copyOf(cells, size * 2);
+            masks = Arrays.copyOf(masks, size * 2);
+        }
+        cells[size] = cell;
+        masks[size] = mask;
+        slots.put(cell, size);
+        size++;
+        invalidate();
+    }
+
+    private void invalidate() {
+        snapshot = null;
+        generation++;
+    }
+
+    private int pack(int x, int y, int z) {
+        return ((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Compteur incrémenté à chaque modification de l'index
+     */
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * Masque actuel d'une cellule (0 si elle n'est pas valide ou hors zone)
+     */
+    public byte maskAt(int x, int y, int z) {
+        if (!contains(x, y, z)) return 0;
+        int slot = slots.get(pack(x, y, z));
+        return slot >= 0 ? masks[slot] : 0;
+    }
+
+    /**
+     * Vue immuable de l'index, lisible depuis n'importe quel thread.
+     * Recopiée uniquement si l'index a changé depuis le dernier appel.
+     */
+    public Snapshot snapshot() {
+        if (snapshot == null) {
+            snapshot = new Snapshot(this, generation, Arrays.copyOf(cells, size), Arrays.copyOf(masks, size));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Copie figée des cellules, utilisée par la recherche asynchrone
+     */
+    public static final class Snapshot {
+        private final int minX, minY, minZ, sizeX, sizeZ;
+        private final long generation;
+        private final int[] cells;
+        private final byte[] masks;
+
+        private Snapshot(SpawnSurfaceIndex index, long generation, int[] cells, byte[] masks) {
+            this.minX = index.minX;
+            this.minY = index.minY;
+            this.minZ = index.minZ;
+            this.sizeX = index.sizeX;
+            this.sizeZ = index.sizeZ;
+            this.generation = generation;
+            this.cells = cells;
+            this.masks = masks;
+        }
+
+        public boolean isEmpty() {
+            return cells.length == 0;
+        }
+
+        /**
+         * Génération de l'index au moment de la copie
+         */
+        public long generation() {
+            return generation;
+        }
+
+        public int size() {
+            return cells.length;
+        }
+
+        /**
+         * Tire une cellule au hasard. Retourne -1 si la cellule tirée n'accueille pas la hauteur demandée.
+         */
+        public int pick(byte requiredMask, Random random) {
+            if (cells.length == 0) return -1;
+            int slot = random.nextInt(cells.length);
+            return (masks[slot] & requiredMask) != 0 ? cells[slot] : -1;
+        }
+
+        public int x(int cell) {
+            return minX + cell % sizeX;
+        }
+
+        public int y(int cell) {
+            return minY + cell / (sizeX * sizeZ);
+        }
+
+        public int z(int cell) {
+            return minZ + (cell / sizeX) % sizeZ;
+        }
+    }
+
+    /**
+     * Table de hachage à adressage ouvert cellule -> position, sans boxing
+     */
+    private static final class CellSlots {
+        private static final int EMPTY = -1;
+
+        private int[] keys;
+        private int[] values;
+        private int count;
+
+        private CellSlots(int capacity) {
+            int tableSize = Integer.highestOneBit(Math.max(4, capacity) * 2 - 1) << 1;
+            keys = new int[tableSize];
+            values = new int[tableSize];
+            Arrays.fill(keys, EMPTY);
+        }
+
+        private int get(int key) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+                int k = keys[i];
+                if (k == key) return values[i];
+                if (k == EMPTY) return -1;
+            }
+        }
+
+        private void put(int key, int value) {
+            if ((count + 1) * 2 > keys.length) {
+                rehash(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+                int k = keys[i];
+                if (k == key) {
+                    values[i] = value;
+                    return;
+                }
+                if (k == EMPTY) {
+                    keys[i] = key;
+                    values[i] = value;
+                    count++;
+                    return;
+                }
+            }
+        }
+
+        private void remove(int key) {
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            while (keys[i] != key) {
+                if (keys[i] == EMPTY) return;
+                i = (i + 1) & mask;
+            }
+            count--;
+
+            // Suppression par décalage arrière pour garder les chaînes de sondage intactes
+            int gap = i;
+            for (int j = (gap + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+                int home = mix(keys[j]) & mask;
+                boolean movable = gap <= j ? (home <= gap || home > j) : (home <= gap && home > j);
+                if (movable) {
+                    keys[gap] = keys[j];
+                    values[gap] = values[j];
+                    gap = j;
+                }
+            }
+            keys[gap] = EMPTY;
+        }
+
+        private void rehash(int newSize) {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new int[newSize];
+            values = new int[newSize];
+            Arrays.fill(keys, EMPTY);
+            count = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int mix(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
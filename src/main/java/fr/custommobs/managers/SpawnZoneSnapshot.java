@@ -0,0 +1,96 @@
+package fr.custommobs.managers;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Vue figée d'une zone de spawn, capturée sur le thread principal une fois par cycle.
+ * Elle ne contient que des copies (cellules de l'index, positions des joueurs) : la recherche
+ * asynchrone ne touche jamais au monde et plusieurs zones peuvent être traitées en parallèle.
+ * La génération de l'index est conservée pour revalider la cellule au moment du spawn.
+ */
+public final class SpawnZoneSnapshot {
+
+    private final String zoneId;
+    private final SpawnSurfaceIndex.Snapshot surface;
+    private final double[] playerPositions; // x, y, z à la suite
+
+    private SpawnZoneSnapshot(String zoneId, SpawnSurfaceIndex.Snapshot surface, double[] playerPositions) {
+        this.zoneId = zoneId;
+        this.surface = surface;
+        this.playerPositions = playerPositions;
+    }
+
+    /**
+     * Capture l'état de la zone. Thread principal uniquement.
+     * La copie des cellules est partagée tant que l'index ne change pas de génération.
+     */
+    public static SpawnZoneSnapshot capture(String zoneId, SpawnSurfaceIndex index, World world) {
+        List<Player> players = world.getPlayers();
+        double[] positions = new double[players.size() * 3];
+        int i = 0;
+        for (Player player : players) {
+            Location location = player.getLocation();
+            positions[i++] = location.getX();
+            positions[i++] = location.getY();
+            positions[i++] = location.getZ();
+        }
+        return new SpawnZoneSnapshot(zoneId, index.snapshot(), positions);
+    }
+
+    public String getZoneId() {
+        return zoneId;
+    }
+
+    public long getGeneration() {
+        return surface.generation();
+    }
+
+    public boolean isEmpty() {
+        return surface.isEmpty();
+    }
+
+    /**
+     * Cherche une cellule accueillant la hauteur demandée et assez loin des joueurs.
+     * Sûr depuis n'importe quel thread. Retourne -1 si aucune cellule n'a été trouvée.
+     */
+    public int findCell(byte requiredMask, int attempts, double minPlayerDistanceSquared, Random random) {
+        for (int attempt = 0; attempt < attempts; attempt++) {
+            int cell = surface.pick(requiredMask, random);
+            if (cell < 0) continue;
+
+            if (!isNearPlayer(surface.x(cell) + 0.5, surface.y(cell), surface.z(cell) + 0.5, minPlayerDistanceSquared)) {
+                return cell;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isNearPlayer(double x, double y, double z, double minDistanceSquared) {
+        for (int i = 0; i < playerPositions.length; i += 3) {
+            double dx = playerPositions[i] - x;
+            double dy = playerPositions[i + 1] - y;
+            double dz = playerPositions[i + 2] - z;
+            if (dx * dx + dy * dy + dz * dz < minDistanceSquared) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int cellX(int cell) {
+        return surface.x(cell);
+    }
+
+    public int cellY(int cell) {
+        return surface.y(cell);
+    }
+
+    public int cellZ(int cell) {
+        return surface.z(cell);
+    }
+}
@@ -0,0 +1,221 @@
+package fr.custommobs.managers;
+
+import fr.custommobs.CustomMobsPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Profileur interne : temps passé dans chaque tâche et chaque listener du plugin, par nom.
+ * Les tâches (ProfiledRunnable, MobTask) et les listeners enregistrés via registerEvents sont mesurés
+ * dans un TimingHistogram dédié ; désactivé, il ne coûte qu'une lecture de booléen par exécution.
+ * Noms : "listener:Classe#méthode", "task:Classe#méthode$n" (tâches Bukkit), "mob:Classe#méthode$n" (MobTask).
+ * Consultable par /cmprofile et écrit périodiquement dans profiler-report.txt.
+ */
+public class TickProfiler {
+
+    private static final String REPORT_FILE = "profiler-report.txt";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+
+    /**
+     * Nom lisible d'une classe de tâche, calculé une fois par classe.
+     * Classe anonyme : classe englobante + méthode où elle est déclarée + numéro ("WardenBoss#sonicBoom$12").
+     */
+    private static final ClassValue<String> TASK_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            if (!type.isAnonymousClass() && !type.isLocalClass()) {
+                return type.getSimpleName();
+            }
+            String owner = get(type.getEnclosingClass());
+            Method method = type.getEnclosingMethod();
+            String methodName = method != null ? method.getName() : "<init>";
+            if (methodName.startsWith("lambda$")) {
+                // lambda$methode$0 : méthode qui contient le lambda
+                int end = methodName.indexOf('$', 7);
+                methodName = end > 7 ? methodName.substring(7, end) : methodName;
+            }
+            String binaryName = type.getName();
+            return owner + "#" + methodName + binaryName.substring(binaryName.lastIndexOf('$'));
+        }
+    };
+
+    private final CustomMobsPlugin plugin;
+    private final Map<String, TimingHistogram> histograms = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+    private volatile long startedAt;
+    private BukkitTask dumpTask;
+
+    public TickProfiler(CustomMobsPlugin plugin) {
+        this.plugin = plugin;
+        this.enabled = plugin.getConfig().getBoolean("profiler.enabled", false);
+        this.startedAt = System.currentTimeMillis();
+        startDumpTask();
+    }
+
+    public static String nameOf(Class<?> type) {
+        return TASK_NAMES.get(type);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Active ou suspend les mesures (les histogrammes sont conservés)
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public TimingHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, TimingHistogram::new);
+    }
+
+    /**
+     * Enveloppe un Runnable (tâche lambda) pour le mesurer sous ce nom
+     */
+    public Runnable wrap(String name, Runnable runnable) {
+        TimingHistogram histogram = histogram("task:" + name);
+        return () -> {
+            if (!enabled) {
+                runnable.run();
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                runnable.run();
+            } finally {
+                histogram.record(System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * Équivalent de PluginManager#registerEvents dont chaque @EventHandler est mesuré
+     */
+    public void registerEvents(Listener listener) {
+        Set<Method> methods = new LinkedHashSet<>();
+        methods.addAll(List.of(listener.getClass().getMethods()));
+        methods.addAll(List.of(listener.getClass().getDeclaredMethods()));
+
+        for (Method method : methods) {
+            EventHandler handler = method.getAnnotation(EventHandler.class);
+            if (handler == null || method.isBridge() || method.isSynthetic()) continue;
+            if (method.getParameterCount() != 1 || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                plugin.getLogger().warning("Handler invalide ignoré: " + listener.getClass().getName() + "#" + method.getName());
+                continue;
+            }
+
+            Class<? extends Event> eventClass = method.getParameterTypes()[0].asSubclass(Event.class);
+            EventExecutor delegate = EventExecutor.create(method, eventClass);
+            TimingHistogram histogram = histogram("listener:" + listener.getClass().getSimpleName() + "#" + method.getName());
+            EventExecutor executor = (target, event) -> {
+                if (!enabled) {
+                    delegate.execute(target, event);
+                    return;
+                }
+                long start = System.nanoTime();
+                try {
+                    delegate.execute(target, event);
+                } finally {
+                    histogram.record(System.nanoTime() - start);
+                }
+            };
+            Bukkit.getPluginManager().registerEvent(eventClass, listener, handler.priority(), executor, plugin,
+                    handler.ignoreCancelled());
+        }
+    }
+
+    /**
+     * Mesures triées par temps total décroissant
+     */
+    public List<TimingHistogram.Snapshot> getSnapshots() {
+        List<TimingHistogram.Snapshot> snapshots = new ArrayList<>(histograms.size());
+        for (TimingHistogram histogram : histograms.values()) {
+            TimingHistogram.Snapshot snapshot = histogram.snapshot();
+            if (snapshot.count() > 0) {
+                snapshots.add(snapshot);
+            }
+        }
+        snapshots.sort(Comparator.comparingLong(TimingHistogram.Snapshot::totalNanos).reversed());
+        return snapshots;
+    }
+
+    public void reset() {
+        histograms.values().forEach(TimingHistogram::reset);
+        startedAt = System.currentTimeMillis();
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Écrit le rapport complet dans profiler-report.txt (hors du thread principal)
+     */
+    public CompletableFuture<Void> dump() {
+        String report = buildReport();
+        return plugin.getConfigPersistence().save(new File(plugin.getDataFolder(), REPORT_FILE), () -> report);
+    }
+
+    private String buildReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("CustomMobs - profil du ").append(LocalDateTime.now().format(DATE_FORMAT))
+                .append(" (mesures depuis ").append((System.currentTimeMillis() - startedAt) / 1000).append("s")
+                .append(enabled ? "" : ", profileur suspendu").append(")\n\n");
+        report.append(String.format("%-60s %10s %12s %10s %10s %10s %10s%n",
+                "nom", "appels", "total ms", "moy µs", "p50 µs", "p99 µs", "max µs"));
+
+        for (TimingHistogram.Snapshot snapshot : getSnapshots()) {
+            report.append(String.format("%-60s %10d %12.2f %10.1f %10.1f %10.1f %10.1f%n",
+                    snapshot.name(), snapshot.count(), snapshot.totalNanos() / 1_000_000.0,
+                    snapshot.getMeanNanos() / 1000.0, snapshot.getPercentileNanos(50) / 1000.0,
+                    snapshot.getPercentileNanos(99) / 1000.0, snapshot.maxNanos() / 1000.0));
+        }
+        return report.toString();
+    }
+
+    private void startDumpTask() {
+        long intervalTicks = plugin.getConfig().getLong("profiler.dump-interval-minutes", 5) * 60L * 20L;
+        if (intervalTicks <= 0) return;
+
+        dumpTask = new ProfiledRunnable() {
+            @Override
+            protected void tick() {
+                if (enabled) {
+                    dump();
+                }
+            }
+        }.runTaskTimer(plugin, intervalTicks, intervalTicks);
+    }
+
+    /**
+     * Arrête l'écriture périodique ; un dernier rapport est demandé si le profileur est actif
+     */
+    public void shutdown() {
+        if (dumpTask != null) {
+            dumpTask.cancel();
+            dumpTask = null;
+        }
+        if (enabled) {
+            dump();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package fr.custommobs.managers;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramme de durées (nanosecondes) sans verrou, à précision relative constante (type HDR) :
+ * chaque puissance de 2 est découpée en 8 tranches, soit environ 12 % d'erreur au pire sur un percentile.
+ * Enregistrable depuis n'importe quel thread ; les lectures passent par un {@link Snapshot}.
+ */
+public final class TimingHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public TimingHistogram(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        count.increment();
+        total.add(value);
+
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // Un autre thread a enregistré un maximum entre-temps : on recommence
+        }
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0L);
+        }
+        count.reset();
+        total.reset();
+        max.set(0L);
+    }
+
+    /**
+     * Copie de l'état courant (les enregistrements concurrents peuvent y être partiellement visibles)
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(name, count.sum(), total.sum(), max.get(), copy);
+    }
+
+    /**
+     * Tranche d'une valeur : les 8 premières valeurs ont chacune la leur, puis 8 tranches par puissance de 2
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Plus grande valeur rangée dans une tranche
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    public record Snapshot(String name, long count, long totalNanos, long maxNanos, long[] counts) {
+
+        public double getMeanNanos() {
+            return count > 0 ? (double) totalNanos / count : 0.0;
+        }
+
+        /**
+         * Percentile (0 à 100) en nanosecondes, borne haute de la tranche concernée
+         */
+        public long getPercentileNanos(double percentile) {
+            long recorded = 0;
+            for (long bucketCount : counts) {
+                recorded += bucketCount;
+            }
+            if (recorded == 0) return 0L;
+
+            long rank = Math.max(1L, (long) Math.ceil(recorded * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(upperBoundOf(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+    }
+}
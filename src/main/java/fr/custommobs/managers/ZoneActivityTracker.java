@@ -0,0 +1,183 @@
+package fr.custommobs.managers;
+
+import fr.custommobs.CustomMobsPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.util.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Niveau d'activité des zones de spawn selon la proximité des joueurs.
+ * Chaque joueur contribue aux zones proches ; la contribution n'est recalculée que lorsqu'il change de bloc,
+ * et la liste des zones candidates (via l'index spatial) seulement lorsqu'il change de chunk.
+ * Doit être utilisé uniquement depuis le thread principal.
+ */
+public class ZoneActivityTracker {
+
+    /**
+     * Niveau d'activité d'une zone et son effet sur le spawn
+     */
+    public enum ActivityTier {
+        HOT(0.5, 1.5, 0),   // Joueur dans ou tout près de la zone : la zone se remplit plus vite
+        WARM(1.0, 1.0, 0),  // Joueur à proximité : comportement configuré
+        COLD(0.0, 0.0, 4);  // Personne autour : aucun spawn, la zone se vide progressivement
+
+        private final double intervalMultiplier;
+        private final double groupSizeMultiplier;
+        private final int cleanupPerCycle;
+
+        ActivityTier(double intervalMultiplier, double groupSizeMultiplier, int cleanupPerCycle) {
+            this.intervalMultiplier = intervalMultiplier;
+            this.groupSizeMultiplier = groupSizeMultiplier;
+            this.cleanupPerCycle = cleanupPerCycle;
+        }
+
+        public long scaleInterval(long ticks) {
+            return Math.max(1L, Math.round(ticks * intervalMultiplier));
+        }
+
+        public int scaleGroupSize(int groupSize) {
+            return (int) Math.ceil(groupSize * groupSizeMultiplier);
+        }
+
+        public int getCleanupPerCycle() {
+            return cleanupPerCycle;
+        }
+    }
+
+    private final CustomMobsPlugin plugin;
+    private final Map<String, BoundingBox> zoneBounds;
+    private final Map<UUID, PlayerState> players = new HashMap<>();
+    private final Map<String, int[]> zoneCounts = new HashMap<>(); // [chauds, tièdes]
+
+    private final double hotDistanceSquared;
+    private final double warmDistance;
+    private final double warmDistanceSquared;
+
+    public ZoneActivityTracker(CustomMobsPlugin plugin, Map<String, BoundingBox> zoneBounds) {
+        this.plugin = plugin;
+        this.zoneBounds = zoneBounds;
+
+        double hotDistance = plugin.getConfig().getDouble("spawn-activity.hot-distance", 32);
+        this.warmDistance = Math.max(hotDistance, plugin.getConfig().getDouble("spawn-activity.warm-distance", 96));
+        this.hotDistanceSquared = hotDistance * hotDistance;
+        this.warmDistanceSquared = warmDistance * warmDistance;
+
+        for (String zoneId : zoneBounds.keySet()) {
+            zoneCounts.put(zoneId, new int[2]);
+        }
+        // Joueurs déjà connectés (rechargement du plugin)
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            update(player, player.getLocation());
+        }
+    }
+
+    /**
+     * Met à jour la contribution d'un joueur. Sans effet s'il n'a pas changé de bloc.
+     */
+    public void update(Player player, Location location) {
+        World world = location.getWorld();
+        if (world == null) return;
+
+        int blockX = location.getBlockX(), blockY = location.getBlockY(), blockZ = location.getBlockZ();
+        PlayerState state = players.computeIfAbsent(player.getUniqueId(), k -> new PlayerState());
+        boolean sameWorld = world.getName().equals(state.worldName);
+        if (sameWorld && blockX == state.blockX && blockY == state.blockY && blockZ == state.blockZ) {
+            return;
+        }
+
+        if (!sameWorld || blockX >> 4 != state.blockX >> 4 || blockZ >> 4 != state.blockZ >> 4) {
+            state.worldName = world.getName();
+            state.candidates = findCandidates(world, blockX >> 4, blockZ >> 4);
+        }
+        state.blockX = blockX;
+        state.blockY = blockY;
+        state.blockZ = blockZ;
+
+        Map<String, ActivityTier> contributions = new HashMap<>(4);
+        for (String zoneId : state.candidates) {
+            double distanceSquared = distanceSquared(zoneBounds.get(zoneId), blockX + 0.5, blockY + 0.5, blockZ + 0.5);
+            if (distanceSquared <= hotDistanceSquared) {
+                contributions.put(zoneId, ActivityTier.HOT);
+            } else if (distanceSquared <= warmDistanceSquared) {
+                contributions.put(zoneId, ActivityTier.WARM);
+            }
+        }
+        apply(state.contributions, contributions);
+        state.contributions = contributions;
+    }
+
+    /**
+     * Retire un joueur (déconnexion)
+     */
+    public void remove(Player player) {
+        PlayerState state = players.remove(player.getUniqueId());
+        if (state != null) {
+            apply(state.contributions, Map.of());
+        }
+    }
+
+    public ActivityTier getTier(String zoneId) {
+        int[] counts = zoneCounts.get(zoneId);
+        if (counts == null) return ActivityTier.COLD;
+        if (counts[0] > 0) return ActivityTier.HOT;
+        return counts[1] > 0 ? ActivityTier.WARM : ActivityTier.COLD;
+    }
+
+    public void clear() {
+        players.clear();
+        zoneCounts.values().forEach(counts -> {
+            counts[0] = 0;
+            counts[1] = 0;
+        });
+    }
+
+    /**
+     * Zones de spawn à portée "tiède" d'un chunk, quelle que soit la position du joueur dans ce chunk
+     */
+    private List<String> findCandidates(World world, int chunkX, int chunkZ) {
+        BoundingBox reach = new BoundingBox(
+                (chunkX << 4) - warmDistance, world.getMinHeight() - warmDistance, (chunkZ << 4) - warmDistance,
+                (chunkX << 4) + 16 + warmDistance, world.getMaxHeight() + warmDistance, (chunkZ << 4) + 16 + warmDistance);
+        List<String> candidates = plugin.getZoneIndex().zonesIntersecting(world, reach);
+        candidates.removeIf(zoneId -> !zoneBounds.containsKey(zoneId));
+        return candidates;
+    }
+
+    private void apply(Map<String, ActivityTier> previous, Map<String, ActivityTier> current) {
+        for (Map.Entry<String, ActivityTier> entry : previous.entrySet()) {
+            if (entry.getValue() != current.get(entry.getKey())) {
+                zoneCounts.get(entry.getKey())[entry.getValue() == ActivityTier.HOT ? 0 : 1]--;
+            }
+        }
+        for (Map.Entry<String, ActivityTier> entry : current.entrySet()) {
+            if (entry.getValue() != previous.get(entry.getKey())) {
+                zoneCounts.get(entry.getKey())[entry.getValue() == ActivityTier.HOT ? 0 : 1]++;
+            }
+        }
+    }
+
+    private static double distanceSquared(BoundingBox box, double x, double y, double z) {
+        double dx = Math.max(0, Math.max(box.getMinX() - x, x - box.getMaxX()));
+        double dy = Math.max(0, Math.max(box.getMinY() - y, y - box.getMaxY()));
+        double dz = Math.max(0, Math.max(box.getMinZ() - z, z - box.getMaxZ()));
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Dernière position connue d'un joueur et zones auxquelles il contribue
+     */
+    private static class PlayerState {
+        private String worldName;
+        private int blockX, blockY, blockZ;
+        private List<String> candidates = new ArrayList<>();
+        private Map<String, ActivityTier> contributions = Map.of();
+    }
+}
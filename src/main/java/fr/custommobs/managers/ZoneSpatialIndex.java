@@ -0,0 +1,185 @@
+package fr.custommobs.managers;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.util.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index spatial des zones (zones de spawn, zone de l'événement en cours) par monde et par chunk.
+ * Chaque chunk recoupé par une zone référence un petit tableau d'identifiants : savoir quelles zones
+ * recoupent une position ne dépend plus du nombre de zones configurées.
+ * Doit être utilisé uniquement depuis le thread principal.
+ */
+public class ZoneSpatialIndex {
+
+    private static final byte BOX = 0;
+    private static final byte SPHERE = 1;
+
+    private static final String[] NO_ZONES = new String[0];
+
+    private final Map<String, Area> areas = new HashMap<>();
+    private final Map<String, Map<Long, String[]>> chunksByWorld = new HashMap<>();
+
+    // =================================
+    // ENREGISTREMENT
+    // =================================
+
+    /**
+     * Enregistre une zone rectangulaire (remplace une zone existante de même ID)
+     */
+    public void addBox(String id, String worldName, BoundingBox box) {
+        add(new Area(id, worldName, BOX, box.clone(), box.getCenterX(), box.getCenterY(), box.getCenterZ(), 0));
+    }
+
+    /**
+     * Enregistre une sphère (zone d'un événement en cours)
+     */
+    public void addSphere(String id, Location center, double radius) {
+        BoundingBox bounds = BoundingBox.of(center, radius, radius, radius);
+        add(new Area(id, center.getWorld().getName(), SPHERE, bounds,
+                center.getX(), center.getY(), center.getZ(), radius));
+    }
+
+    public void remove(String id) {
+        Area area = areas.remove(id);
+        if (area == null) return;
+
+        Map<Long, String[]> chunks = chunksByWorld.get(area.worldName());
+        if (chunks == null) return;
+
+        forEachChunk(area.bounds(), key -> {
+            String[] ids = chunks.get(key);
+            if (ids == null) return;
+            int index = indexOf(ids, id);
+            if (index < 0) return;
+            if (ids.length == 1) {
+                chunks.remove(key);
+                return;
+            }
+            String[] shrunk = new String[ids.length - 1];
+            System.arraycopy(ids, 0, shrunk, 0, index);
+            System.arraycopy(ids, index + 1, shrunk, index, ids.length - index - 1);
+            chunks.put(key, shrunk);
+        });
+        if (chunks.isEmpty()) {
+            chunksByWorld.remove(area.worldName());
+        }
+    }
+
+    public void clear() {
+        areas.clear();
+        chunksByWorld.clear();
+    }
+
+    private void add(Area area) {
+        remove(area.id());
+        areas.put(area.id(), area);
+
+        Map<Long, String[]> chunks = chunksByWorld.computeIfAbsent(area.worldName(), k -> new HashMap<>());
+        forEachChunk(area.bounds(), key -> {
+            String[] ids = chunks.getOrDefault(key, NO_ZONES);
+            String[] grown = Arrays.copyOf(ids, ids.length + 1);
+            grown[ids.length] = area.id();
+            chunks.put(key, grown);
+        });
+    }
+
+    // =================================
+    // REQUÊTES
+    // =================================
+
+    /**
+     * Vérifie si une position se trouve dans une zone donnée (une seule consultation de chunk)
+     */
+    public boolean isInside(String id, Location location) {
+        Area area = areas.get(id);
+        World world = location.getWorld();
+        if (area == null || world == null || !area.worldName().equals(world.getName())) return false;
+
+        double x = location.getX(), y = location.getY(), z = location.getZ();
+        return indexOf(idsAt(area.worldName(), x, z), id) >= 0 && area.contains(x, y, z);
+    }
+
+    /**
+     * Zones dont l'emprise recoupe la boîte donnée (liste modifiable par l'appelant)
+     */
+    public List<String> zonesIntersecting(World world, BoundingBox box) {
+        List<String> result = new ArrayList<>(2);
+        Map<Long, String[]> chunks = chunksByWorld.get(world.getName());
+        if (chunks == null) return result;
+
+        forEachChunk(box, key -> {
+            String[] ids = chunks.get(key);
+            if (ids == null) return;
+            for (String id : ids) {
+                if (!result.contains(id) && areas.get(id).bounds().overlaps(box)) {
+                    result.add(id);
+                }
+            }
+        });
+        return result;
+    }
+
+    public int size() {
+        return areas.size();
+    }
+
+    private String[] idsAt(String worldName, double x, double z) {
+        Map<Long, String[]> chunks = chunksByWorld.get(worldName);
+        if (chunks == null) return NO_ZONES;
+        String[] ids = chunks.get(chunkKey(floor(x) >> 4, floor(z) >> 4));
+        return ids != null ? ids : NO_ZONES;
+    }
+
+    private static void forEachChunk(BoundingBox box, ChunkKeyConsumer consumer) {
+        int minChunkX = floor(box.getMinX()) >> 4, maxChunkX = floor(box.getMaxX()) >> 4;
+        int minChunkZ = floor(box.getMinZ()) >> 4, maxChunkZ = floor(box.getMaxZ()) >> 4;
+        for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+            for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                consumer.accept(chunkKey(cx, cz));
+            }
+        }
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static int floor(double value) {
+        int i = (int) value;
+        return value < i ? i - 1 : i;
+    }
+
+    private static int indexOf(String[] ids, String id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i].equals(id)) return i;
+        }
+        return -1;
+    }
+
+    @FunctionalInterface
+    private interface ChunkKeyConsumer {
+        void accept(long key);
+    }
+
+    /**
+     * Zone indexée : boîte englobante + forme exacte
+     */
+    private record Area(String id, String worldName, byte shape, BoundingBox bounds,
+                        double centerX, double centerY, double centerZ, double radius) {
+
+        private boolean contains(double x, double y, double z) {
+            if (!bounds.contains(x, y, z)) return false;
+            if (shape != SPHERE) return true;
+
+            double dx = x - centerX, dy = y - centerY, dz = z - centerZ;
+            return dx * dx + dy * dy + dz * dz <= radius * radius;
+        }
+    }
+}
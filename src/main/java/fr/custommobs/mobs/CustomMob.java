@@ -1,17 +1,31 @@
 package fr.custommobs.mobs;
 
-import org.bukkit.GameMode;
 import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Particle;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.persistence.PersistentDataType;
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.LoadGovernor;
+import fr.custommobs.managers.MobBehaviorScheduler;
+import fr.custommobs.managers.MobDescriptor;
+import fr.custommobs.managers.MobTask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class CustomMob {
 
+    // Identité persistante (PDC) : survit au déchargement des chunks et aux redémarrages
+    private static final NamespacedKey MOB_ID_KEY = new NamespacedKey("custommobs", "mob_id");
+    private static final NamespacedKey SPAWN_ZONE_KEY = new NamespacedKey("custommobs", "spawn_zone");
+    private static final Map<String, String> INTERNED_IDS = new ConcurrentHashMap<>();
+
     protected final CustomMobsPlugin plugin;
     protected LivingEntity entity;
     protected String mobId;
@@ -54,8 +68,10 @@ public abstract class CustomMob {
         this.entity = entity;
 
         // Marque l'entité comme monstre custom
-        entity.setMetadata("custom_mob", new FixedMetadataValue(plugin, mobId));
-        entity.setMetadata("custom_mob_id", new FixedMetadataValue(plugin, mobId));
+        mobId = internMobId(mobId);
+        entity.getPersistentDataContainer().set(MOB_ID_KEY, PersistentDataType.STRING, mobId);
+        tagRoles(entity);
+        plugin.getMobRegistry().register(entity, mobId, null);
 
         // Configure les attributs
         if (entity.getAttribute(Attribute.MAX_HEALTH) != null) {
@@ -76,15 +92,51 @@ public abstract class CustomMob {
 
         // Lance les comportements périodiques
         startBehaviors();
-        if (isBoss(mobId)) {
+        if (getDescriptor().isBoss()) {
             // NOUVEAU: Notifie les managers que l'entité est prête
             notifyManagers();
         }
     }
 
-    public boolean isBoss(String mobId) {
-        if (mobId == null) return false;
-        return mobId.contains("boss");
+    /**
+     * Rattache ce monstre à une entité existante qui porte déjà son identité
+     * (chunk rechargé, redémarrage du serveur). La vie et l'équipement sont conservés par l'entité.
+     */
+    public void restore(LivingEntity entity) {
+        this.entity = entity;
+        tagRoles(entity); // Entités créées avant l'introduction des rôles
+        plugin.getMobRegistry().register(entity, mobId, getSpawnZone(entity));
+
+        startBehaviors();
+        if (getDescriptor().isBoss()) {
+            notifyManagers();
+        }
+        onRestore();
+    }
+
+    /**
+     * Relance les effets propres au monstre après une restauration (optionnel)
+     */
+    protected void onRestore() {
+        // Implémentation par défaut vide
+    }
+
+    /**
+     * Pose les rôles PDC lus par le dispatcher de mort
+     */
+    private void tagRoles(LivingEntity entity) {
+        if (getDescriptor().isBoss()) {
+            EntityRole.tag(entity, EntityRole.CUSTOM_MOB, EntityRole.BOSS);
+        } else {
+            EntityRole.tag(entity, EntityRole.CUSTOM_MOB);
+        }
+    }
+
+    /**
+     * Descripteur du type de ce monstre (catégorie, XP, barre de boss...)
+     */
+    public MobDescriptor getDescriptor() {
+        return plugin.getMobManager().getDescriptor(mobId);
     }
 
     /**
@@ -101,10 +153,10 @@ public abstract class CustomMob {
     }
 
     /**
-     * Lance les comportements périodiques du monstre
+     * Lance les comportements périodiques du monstre (ordonnanceur central, une exécution par seconde)
      */
     protected void startBehaviors() {
-        new BukkitRunnable() {
+        new MobTask() {
             @Override
             public void run() {
                 if (entity == null || entity.isDead()) {
@@ -114,11 +166,11 @@ public abstract class CustomMob {
 
                 // Trouve le joueur le plus proche
                 Player nearestPlayer = findNearestPlayer(16);
-                if (nearestPlayer != null && nearestPlayer.getLocation().distance(entity.getLocation()) <= 16) {
+                if (nearestPlayer != null) {
                     onPlayerNear(nearestPlayer);
                 }
             }
-        }.runTaskTimer(plugin, 20L, 20L); // Toutes les secondes
+        }.runTimer(plugin, entity, MobBehaviorScheduler.spreadDelay(entity, 20L), 20L); // Toutes les secondes
     }
 
     /**
@@ -137,43 +189,84 @@ public abstract class CustomMob {
     }
 
     /**
-     * Trouve le joueur le plus proche
+     * Trouve le joueur ciblable (survie/aventure) le plus proche dans un rayon donné
      */
     protected Player findNearestPlayer(double radius) {
-        Player nearest = null;
-        double minDistanceSq = Double.MAX_VALUE; // On compare la distance au carré pour éviter les calculs de racine carrée
+        return plugin.getPlayerIndex().getNearest(entity.getLocation(), radius);
+    }
 
-        for (Entity entity : entity.getNearbyEntities(radius, radius, radius)) {
-            if (entity instanceof Player player) {
-                if (player.getGameMode() != GameMode.SURVIVAL && player.getGameMode() != GameMode.ADVENTURE) {
-                    continue;
-                }
+    /**
+     * Joueurs ciblables dans le cube de demi-côté "radius" autour du monstre
+     */
+    protected List<Player> getNearbyPlayers(double radius) {
+        if (entity == null) return new ArrayList<>();
+        return getNearbyPlayersAt(entity.getLocation(), radius);
+    }
 
-                double distanceSq = player.getLocation().distanceSquared(this.entity.getLocation());
-                if (distanceSq < minDistanceSq) {
-                    minDistanceSq = distanceSq;
-                    nearest = player;
-                }
-            }
+    /**
+     * Joueurs ciblables dans le cube de demi-côté "radius" autour d'une position
+     */
+    protected List<Player> getNearbyPlayersAt(Location location, double radius) {
+        return plugin.getPlayerIndex().getPlayersInBox(location, radius);
+    }
+
+    /**
+     * Effet de particules purement visuel : réduit, voire supprimé, quand le serveur est chargé (voir LoadGovernor)
+     */
+    protected void spawnEffect(Particle particle, Location location, int count, double offsetX, double offsetY, double offsetZ, double extra) {
+        spawnEffect(particle, location, count, offsetX, offsetY, offsetZ, extra, null);
+    }
+
+    protected <T> void spawnEffect(Particle particle, Location location, int count, double offsetX, double offsetY, double offsetZ, double extra, T data) {
+        int allowed = plugin.getLoadGovernor().particles(count);
+        if (allowed > 0) {
+            location.getWorld().spawnParticle(particle, location, allowed, offsetX, offsetY, offsetZ, extra, data);
         }
-        return nearest;
+    }
+
+    /**
+     * Autorise ou non une attaque secondaire, une invocation ou un effet coûteux selon la charge du serveur
+     */
+    protected boolean allowUnderLoad(LoadGovernor.Work work) {
+        return plugin.getLoadGovernor().allow(work);
     }
 
     /**
      * Vérifie si une entité est un monstre custom
      */
     public static boolean isCustomMob(Entity entity) {
-        return entity.hasMetadata("custom_mob");
+        return getCustomMobId(entity) != null;
     }
 
     /**
-     * Récupère l'ID du monstre custom
+     * Récupère l'ID du monstre custom.
+     * Le registre sert de cache par entité ; le PDC n'est lu que pour les entités qui n'y figurent pas.
      */
     public static String getCustomMobId(Entity entity) {
-        if (entity.hasMetadata("custom_mob_id")) {
-            return entity.getMetadata("custom_mob_id").getFirst().asString();
+        String mobId = CustomMobsPlugin.getInstance().getMobRegistry().getMobId(entity.getUniqueId());
+        if (mobId != null) {
+            return mobId;
         }
-        return null;
+        String stored = entity.getPersistentDataContainer().get(MOB_ID_KEY, PersistentDataType.STRING);
+        return stored != null ? internMobId(stored) : null;
+    }
+
+    /**
+     * Marque la zone de spawn d'un monstre custom
+     */
+    public static void setSpawnZone(Entity entity, String zoneId) {
+        entity.getPersistentDataContainer().set(SPAWN_ZONE_KEY, PersistentDataType.STRING, zoneId);
+    }
+
+    public static String getSpawnZone(Entity entity) {
+        return entity.getPersistentDataContainer().get(SPAWN_ZONE_KEY, PersistentDataType.STRING);
+    }
+
+    /**
+     * Une seule instance de chaîne par type de monstre, quelle que soit la source de l'ID
+     */
+    private static String internMobId(String mobId) {
+        return INTERNED_IDS.computeIfAbsent(mobId, id -> id);
     }
 
     // Getters
@@ -0,0 +1,54 @@
+package fr.custommobs.mobs;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Entity;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+/**
+ * Rôles d'une entité pour le plugin, stockés ensemble dans un seul entier (un bit par rôle) dans le PDC.
+ * Posés au spawn par les monstres et les événements, ils permettent de savoir en une seule lecture
+ * ce qu'est une entité (voir EntityDeathDispatcher) au lieu d'enchaîner les hasMetadata.
+ */
+public enum EntityRole {
+    CUSTOM_MOB,     // Monstre custom (mob_id présent)
+    BOSS,           // Monstre custom de catégorie boss
+    BOSS_MINION,    // Sbire invoqué par un boss
+    BREACH_MOB,     // Monstre (ou boss) de l'événement Brèche
+    TREASURE_LUTIN, // Lutin de l'événement Chasseur de Trésor
+    DAILY_BOSS;     // Boss de l'événement Boss Quotidien
+
+    private static final NamespacedKey ROLES_KEY = new NamespacedKey("custommobs", "roles");
+
+    private final int mask = 1 << ordinal();
+
+    public int mask() {
+        return mask;
+    }
+
+    /**
+     * Vrai si ce rôle fait partie du masque
+     */
+    public boolean in(int roles) {
+        return (roles & mask) != 0;
+    }
+
+    /**
+     * Ajoute des rôles à l'entité (les rôles déjà posés sont conservés)
+     */
+    public static void tag(Entity entity, EntityRole... roles) {
+        PersistentDataContainer container = entity.getPersistentDataContainer();
+        int current = container.getOrDefault(ROLES_KEY, PersistentDataType.INTEGER, 0);
+        for (EntityRole role : roles) {
+            current |= role.mask;
+        }
+        container.set(ROLES_KEY, PersistentDataType.INTEGER, current);
+    }
+
+    /**
+     * Masque des rôles de l'entité, 0 pour une entité sans rôle
+     */
+    public static int getRoles(Entity entity) {
+        return entity.getPersistentDataContainer().getOrDefault(ROLES_KEY, PersistentDataType.INTEGER, 0);
+    }
+}
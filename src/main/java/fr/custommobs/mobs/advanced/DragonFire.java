@@ -1,16 +1,16 @@
 package fr.custommobs.mobs.advanced;
 
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.MobTask;
+import fr.custommobs.managers.ProfiledRunnable;
 import fr.custommobs.mobs.CustomMob;
 import org.bukkit.*;
 import org.bukkit.entity.*;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.stream.Collectors;
 
 public class DragonFire extends CustomMob {
 
@@ -49,6 +49,11 @@ public class DragonFire extends CustomMob {
         return blaze;
     }
 
+    @Override
+    protected void onRestore() {
+        startVisualEffects();
+    }
+
     @Override
     protected void onPlayerNear(Player target) {
         ((Blaze) entity).setTarget(target);
@@ -101,7 +106,7 @@ public class DragonFire extends CustomMob {
                 .map(v -> v.multiply(1.0 / targets.size()))
                 .orElse(targets.getFirst().getLocation().toVector());
 
-        new BukkitRunnable() {
+        new MobTask() {
             int waves = 0;
             @Override
             public void run() {
@@ -121,9 +126,9 @@ public class DragonFire extends CustomMob {
 
                     // Fait tomber le météore après un délai
                     Location meteorSpawn = targetLoc.clone().add(0, 20, 0);
-                    new BukkitRunnable() {
+                    new ProfiledRunnable() {
                         @Override
-                        public void run() {
+                        protected void tick() {
                             SmallFireball meteor = meteorSpawn.getWorld().spawn(meteorSpawn, SmallFireball.class);
                             meteor.setDirection(new Vector(0, -1, 0));
                             meteor.setShooter(entity);
@@ -133,7 +138,7 @@ public class DragonFire extends CustomMob {
                 }
                 waves++;
             }
-        }.runTaskTimer(plugin, 20L, 30L);
+        }.runTimer(plugin, entity, 20L, 30L);
     }
 
     /**
@@ -149,7 +154,7 @@ public class DragonFire extends CustomMob {
 
         entity.getWorld().playSound(start, Sound.ENTITY_GHAST_WARN, 2.0f, 1.2f);
 
-        new BukkitRunnable() {
+        new MobTask() {
             int ticks = 0;
             @Override
             public void run() {
@@ -170,7 +175,7 @@ public class DragonFire extends CustomMob {
 
                 ticks++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTimer(plugin, entity, 0L, 1L);
     }
 
     /**
@@ -181,7 +186,7 @@ public class DragonFire extends CustomMob {
         lastBreath = System.currentTimeMillis();
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_BLAZE_SHOOT, 2.0f, 0.8f);
 
-        new BukkitRunnable() {
+        new MobTask() {
             int ticks = 0;
             @Override
             public void run() {
@@ -203,31 +208,24 @@ public class DragonFire extends CustomMob {
                 }
                 ticks += 2;
             }
-        }.runTaskTimer(plugin, 0L, 2L);
+        }.runTimer(plugin, entity, 0L, 2L);
     }
 
     private void startVisualEffects() {
-        new BukkitRunnable() {
+        new MobTask() {
             @Override
             public void run() {
                 if (entity == null || entity.isDead()) { cancel(); return; }
                 entity.getWorld().spawnParticle(Particle.LAVA, entity.getLocation(), 2, 0.5, 0.5, 0.5, 0);
             }
-        }.runTaskTimer(plugin, 0L, 10L);
+        }.runTimer(plugin, entity, 0L, 10L);
     }
 
     // --- Fonctions Utilitaires ---
-    protected List<Player> getNearbyPlayers(double radius) {
-        return entity.getNearbyEntities(radius, radius, radius).stream()
-                .filter(e -> e instanceof Player && (((Player)e).getGameMode() == GameMode.SURVIVAL || ((Player)e).getGameMode() == GameMode.ADVENTURE))
-                .map(e -> (Player) e)
-                .collect(Collectors.toList());
-    }
 
     private List<Player> getPlayersInCone(Location start, Vector direction, double maxDistance, double spread) {
         List<Player> players = new ArrayList<>();
-        for(Player p : start.getWorld().getPlayers()) {
-            if (p.getLocation().distance(start) > maxDistance) continue;
+        for(Player p : plugin.getPlayerIndex().getPlayersInRadius(start, maxDistance)) {
             Vector toPlayer = p.getEyeLocation().toVector().subtract(start.toVector()).normalize();
             if(toPlayer.dot(direction) > Math.cos(Math.toRadians(spread * 10))) {
                 players.add(p);
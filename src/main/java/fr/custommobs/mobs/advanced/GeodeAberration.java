@@ -1,19 +1,19 @@
 package fr.custommobs.mobs.advanced;
 
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.MobTask;
+import fr.custommobs.managers.ProfiledRunnable;
 import fr.custommobs.mobs.CustomMob;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.entity.*;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.stream.Collectors;
 
 public class GeodeAberration extends CustomMob {
 
@@ -53,6 +53,11 @@ public class GeodeAberration extends CustomMob {
         return shulker;
     }
 
+    @Override
+    protected void onRestore() {
+        startAura();
+    }
+
     @Override
     protected void onPlayerNear(Player target) {
         ((Shulker) entity).setTarget(target);
@@ -84,7 +89,7 @@ public class GeodeAberration extends CustomMob {
     }
 
     private void shardVolley(Player target) {
-        new BukkitRunnable() {
+        new MobTask() {
             int shots = 0;
             @Override
             public void run() {
@@ -102,7 +107,7 @@ public class GeodeAberration extends CustomMob {
                 entity.getWorld().playSound(start, Sound.BLOCK_AMETHYST_CLUSTER_BREAK, 1.0f, 1.5f);
                 shots++;
             }
-        }.runTaskTimer(plugin, 0L, 4L);
+        }.runTimer(plugin, entity, 0L, 4L);
     }
 
     private void gravityFluxMissile(Player target) {
@@ -143,9 +148,9 @@ public class GeodeAberration extends CustomMob {
             p.setVelocity(p.getLocation().toVector().subtract(center.toVector()).normalize().multiply(1.5).setY(0.3));
         }
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 for (Block b : crystalBlocks) {
                     if (b.getType() == Material.AMETHYST_CLUSTER) {
                         b.setType(Material.AIR);
@@ -163,7 +168,7 @@ public class GeodeAberration extends CustomMob {
     }
 
     private void startAura() {
-        new BukkitRunnable() {
+        new MobTask() {
             @Override
             public void run() {
                 if (entity == null || entity.isDead()) {
@@ -174,11 +179,11 @@ public class GeodeAberration extends CustomMob {
                     entity.getWorld().spawnParticle(Particle.SPORE_BLOSSOM_AIR, entity.getLocation().add(0, 1, 0), 2, 0.5, 0.5, 0.5, 0);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 20L);
+        }.runTimer(plugin, entity, 0L, 20L);
     }
 
     private void drawProjectilePath(Location start, Vector direction, Particle particle) {
-        new BukkitRunnable() {
+        new MobTask() {
             double i = 0;
             @Override
             public void run() {
@@ -189,20 +194,11 @@ public class GeodeAberration extends CustomMob {
                 start.getWorld().spawnParticle(particle, start.clone().add(direction.clone().multiply(i)), 1, 0, 0, 0, 0);
                 i += 1.5;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTimer(plugin, entity, 0L, 1L);
     }
 
     @Override
     public void specialAbility(Player target) {
         // Géré par l'IA cyclique
     }
-
-    private List<Player> getNearbyPlayers(double radius) {
-        if (entity == null) return new ArrayList<>();
-
-        return entity.getNearbyEntities(radius, radius, radius).stream()
-                .filter(e -> e instanceof Player && (((Player)e).getGameMode() == GameMode.SURVIVAL || ((Player)e).getGameMode() == GameMode.ADVENTURE))
-                .map(e -> (Player) e)
-                .collect(Collectors.toList());
-    }
 }
\ No newline at end of file
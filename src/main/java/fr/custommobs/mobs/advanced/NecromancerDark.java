@@ -1,14 +1,17 @@
 package fr.custommobs.mobs.advanced;
 
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.LoadGovernor;
+import fr.custommobs.managers.MobTask;
+import fr.custommobs.managers.ProfiledRunnable;
 import fr.custommobs.mobs.CustomMob;
+import fr.custommobs.mobs.EntityRole;
 import org.bukkit.*;
 import org.bukkit.entity.*;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
@@ -60,6 +63,11 @@ public class NecromancerDark extends CustomMob {
         return evoker;
     }
 
+    @Override
+    protected void onRestore() {
+        startDarkAura();
+    }
+
     @Override
     protected void onPlayerNear(Player target) {
         ((Evoker) entity).setTarget(target);
@@ -107,7 +115,7 @@ public class NecromancerDark extends CustomMob {
         lastSummon = System.currentTimeMillis();
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_WITHER_SPAWN, 2.0f, 0.7f);
 
-        new BukkitRunnable() {
+        new MobTask() {
             int summonedCount = 0;
             @Override
             public void run() {
@@ -117,8 +125,11 @@ public class NecromancerDark extends CustomMob {
                     return;
                 }
 
+                summonedCount++;
+                if (!allowUnderLoad(LoadGovernor.Work.SUMMON)) return;
+
                 Location spawnLoc = entity.getLocation().add((Math.random() - 0.5) * 4, 1, (Math.random() - 0.5) * 4);
-                spawnLoc.getWorld().spawnParticle(Particle.SOUL, spawnLoc, 20, 0.5, 1, 0.5, 0.1);
+                spawnEffect(Particle.SOUL, spawnLoc, 20, 0.5, 1, 0.5, 0.1);
 
                 Vex vex = entity.getWorld().spawn(spawnLoc, Vex.class);
                 vex.setCustomName("§8Âme Tourmentée");
@@ -128,23 +139,22 @@ public class NecromancerDark extends CustomMob {
                 vex.setMetadata("boss_minion", new FixedMetadataValue(plugin, true));
                 vex.setMetadata("summoned_by_boss", new FixedMetadataValue(plugin, entity.getUniqueId().toString()));
                 vex.setMetadata("boss_type", new FixedMetadataValue(plugin, "necromancer_dark"));
+                EntityRole.tag(vex, EntityRole.BOSS_MINION);
 
                 summonedVexes.add(vex);
 
                 // Les Vexes ont une durée de vie limitée
-                new BukkitRunnable() {
+                new ProfiledRunnable() {
                     @Override
-                    public void run() {
+                    protected void tick() {
                         if (!vex.isDead()) {
                             vex.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, vex.getLocation(), 10);
                             vex.damage(500);
                         }
                     }
                 }.runTaskLater(plugin, 400L); // 20 secondes de vie
-
-                summonedCount++;
             }
-        }.runTaskTimer(plugin, 10L, 20L);
+        }.runTimer(plugin, entity, 10L, 20L);
     }
 
     /**
@@ -155,7 +165,7 @@ public class NecromancerDark extends CustomMob {
         lastSoulHarvest = System.currentTimeMillis();
         entity.getWorld().playSound(entity.getLocation(), Sound.BLOCK_CONDUIT_AMBIENT, 2.0f, 1.5f);
 
-        new BukkitRunnable() {
+        new MobTask() {
             int ticks = 0;
             @Override
             public void run() {
@@ -178,7 +188,7 @@ public class NecromancerDark extends CustomMob {
 
                 ticks++;
             }
-        }.runTaskTimer(plugin, 0L, 2L);
+        }.runTimer(plugin, entity, 0L, 2L);
     }
 
     /**
@@ -204,7 +214,7 @@ public class NecromancerDark extends CustomMob {
         destination.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, destination, 50, 1, 1, 1, 0.1);
         destination.getWorld().playSound(destination, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.2f);
 
-        new BukkitRunnable() { @Override public void run() { isCasting = false; } }.runTaskLater(plugin, 10L);
+        new ProfiledRunnable() { @Override protected void tick() { isCasting = false; } }.runTaskLater(plugin, 10L);
     }
 
     /**
@@ -218,11 +228,11 @@ public class NecromancerDark extends CustomMob {
         skull.setDirection(target.getEyeLocation().subtract(entity.getEyeLocation()).toVector().normalize().multiply(1.2));
         skull.setShooter(entity);
 
-        new BukkitRunnable() { @Override public void run() { isCasting = false; } }.runTaskLater(plugin, 30L);
+        new ProfiledRunnable() { @Override protected void tick() { isCasting = false; } }.runTaskLater(plugin, 30L);
     }
 
     private void startDarkAura() {
-        new BukkitRunnable() {
+        new MobTask() {
             @Override
             public void run() {
                 if (entity == null || entity.isDead()) {
@@ -231,7 +241,7 @@ public class NecromancerDark extends CustomMob {
                 }
                 entity.getWorld().spawnParticle(Particle.SOUL, entity.getLocation().add(0, 1, 0), 2, 0.5, 1, 0.5, 0.02);
             }
-        }.runTaskTimer(plugin, 0L, 8L);
+        }.runTimer(plugin, entity, 0L, 8L);
     }
 
     @Override
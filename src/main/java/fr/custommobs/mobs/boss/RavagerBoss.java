@@ -1,17 +1,17 @@
 package fr.custommobs.mobs.boss;
 
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.LoadGovernor;
+import fr.custommobs.managers.ProfiledRunnable;
 import fr.custommobs.mobs.CustomMob;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.entity.*;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class RavagerBoss extends CustomMob {
 
@@ -70,6 +70,11 @@ public class RavagerBoss extends CustomMob {
         return ravager;
     }
 
+    @Override
+    protected void onRestore() {
+        startBossEffects();
+    }
+
     @Override
     protected void onPlayerNear(Player target) {
         if (entity.isDead() || isPerformingSpecialAttack) return;
@@ -105,7 +110,7 @@ public class RavagerBoss extends CustomMob {
         }
 
         // Attaque secondaire sur un autre joueur (20% de chance)
-        if (nearbyPlayers.size() > 1 && Math.random() < 0.2) {
+        if (nearbyPlayers.size() > 1 && Math.random() < 0.2 && allowUnderLoad(LoadGovernor.Work.SECONDARY_ATTACK)) {
             Player finalPrimaryTarget = primaryTarget;
             Player secondaryTarget = nearbyPlayers.stream()
                     .filter(p -> !p.equals(finalPrimaryTarget))
@@ -286,11 +291,11 @@ public class RavagerBoss extends CustomMob {
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_RAVAGER_ROAR, 3.0f, 0.8f);
         Bukkit.broadcastMessage("§c§l[BOSS] §4Le Dévastateur prépare une attaque rotative !");
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int angle = 0;
             int rotations = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (rotations >= 2 || entity.isDead()) {
                     isPerformingSpecialAttack = false;
                     cancel();
@@ -325,10 +330,10 @@ public class RavagerBoss extends CustomMob {
 
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_RAVAGER_STUNNED, 2.0f, 0.7f);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int playerIndex = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (playerIndex >= players.size() || entity.isDead()) {
                     isPerformingSpecialAttack = false;
                     cancel();
@@ -342,9 +347,9 @@ public class RavagerBoss extends CustomMob {
                     // Avertissement visuel
                     drawTargetingCircle(slamLoc, 4);
 
-                    new BukkitRunnable() {
+                    new ProfiledRunnable() {
                         @Override
-                        public void run() {
+                        protected void tick() {
                             createMassiveExplosion(slamLoc);
                         }
                     }.runTaskLater(plugin, 15L); // 0.75s de délai
@@ -362,10 +367,10 @@ public class RavagerBoss extends CustomMob {
         Bukkit.broadcastMessage("§4§l[BOSS] §cCHARGE BERSERKER ! Dispersez-vous !");
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_RAVAGER_ROAR, 3.0f, 0.5f);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int chargeCount = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (chargeCount >= Math.min(players.size(), 3) || entity.isDead()) {
                     isPerformingSpecialAttack = false;
                     entity.setVelocity(new Vector(0, 0, 0));
@@ -397,10 +402,10 @@ public class RavagerBoss extends CustomMob {
 
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 3.0f, 0.3f);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int wave = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (wave >= 6 || entity.isDead()) {
                     isPerformingSpecialAttack = false;
                     cancel();
@@ -444,10 +449,10 @@ public class RavagerBoss extends CustomMob {
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_RAVAGER_ROAR, 2.5f, 0.6f);
         Bukkit.broadcastMessage("§c§l[BOSS] §4Séisme dévastateur imminent !");
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int wave = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (wave >= 4 || entity.isDead()) {
                     isPerformingSpecialAttack = false;
                     cancel();
@@ -488,9 +493,11 @@ public class RavagerBoss extends CustomMob {
         int minionsToSummon = Math.min(playerCount + 1, 5);
 
         for (int i = 0; i < minionsToSummon; i++) {
-            new BukkitRunnable() {
+            new ProfiledRunnable() {
                 @Override
-                public void run() {
+                protected void tick() {
+                    if (!allowUnderLoad(LoadGovernor.Work.SUMMON)) return;
+
                     Location spawnLoc = entity.getLocation().add(
                             (random.nextDouble() - 0.5) * 10,
                             0,
@@ -516,16 +523,16 @@ public class RavagerBoss extends CustomMob {
                             minion.addPotionEffect(new PotionEffect(PotionEffectType.STRENGTH, Integer.MAX_VALUE, 0));
                         }
 
-                        spawnLoc.getWorld().spawnParticle(Particle.FLAME, spawnLoc, 30, 1, 2, 1, 0.1);
+                        spawnEffect(Particle.FLAME, spawnLoc, 30, 1, 2, 1, 0.1);
                         spawnLoc.getWorld().playSound(spawnLoc, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 1.0f, 1.5f);
                     }
                 }
             }.runTaskLater(plugin, i * 15L);
         }
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 isPerformingSpecialAttack = false;
             }
         }.runTaskLater(plugin, minionsToSummon * 15L + 20L);
@@ -579,10 +586,10 @@ public class RavagerBoss extends CustomMob {
     }
 
     private void createDirectionalShockwave(Location start, Vector direction, int length) {
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int distance = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (distance >= length) {
                     cancel();
                     return;
@@ -655,9 +662,9 @@ public class RavagerBoss extends CustomMob {
 
         Location loc = entity.getLocation();
         for (int i = 0; i < 50; i++) {
-            new BukkitRunnable() {
+            new ProfiledRunnable() {
                 @Override
-                public void run() {
+                protected void tick() {
                     loc.getWorld().spawnParticle(Particle.FLAME, loc.clone().add(0, 2, 0), 20, 2, 2, 2, 0.5);
                     loc.getWorld().spawnParticle(Particle.LAVA, loc.clone().add(0, 1, 0), 10, 1, 1, 1, 0);
                 }
@@ -677,9 +684,9 @@ public class RavagerBoss extends CustomMob {
 
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_RAVAGER_STUNNED, 2.0f, 0.5f);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (entity.isDead()) {
                     isPerformingSpecialAttack = false;
                     return;
@@ -691,9 +698,9 @@ public class RavagerBoss extends CustomMob {
 
                 for (int radius = 1; radius <= 8; radius++) {
                     final int r = radius;
-                    new BukkitRunnable() {
+                    new ProfiledRunnable() {
                         @Override
-                        public void run() {
+                        protected void tick() {
                             createShockwaveRing(center, r);
                         }
                     }.runTaskLater(plugin, radius * 3L);
@@ -714,13 +721,13 @@ public class RavagerBoss extends CustomMob {
 
         entity.getWorld().playSound(start, Sound.ENTITY_RAVAGER_ROAR, 3.0f, 0.7f);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int ticks = 0;
             double traveledDistance = 0;
             double currentSpeed = 1.5;
 
             @Override
-            public void run() {
+            protected void tick() {
                 if (ticks > 80 || entity.isDead() || traveledDistance >= maxDistance) {
                     isPerformingSpecialAttack = false;
                     entity.setVelocity(new Vector(0, 0, 0));
@@ -817,9 +824,9 @@ public class RavagerBoss extends CustomMob {
             Material originalType = block.getType();
             block.breakNaturally();
 
-            new BukkitRunnable() {
+            new ProfiledRunnable() {
                 @Override
-                public void run() {
+                protected void tick() {
                     if (block.getType().isAir()) {
                         block.setType(originalType);
                     }
@@ -833,9 +840,9 @@ public class RavagerBoss extends CustomMob {
     }
 
     private void startBossEffects() {
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (entity == null || entity.isDead()) {
                     cancel();
                     return;
@@ -864,20 +871,6 @@ public class RavagerBoss extends CustomMob {
         }
     }
 
-    protected List<Player> getNearbyPlayers(double radius) {
-        return entity.getNearbyEntities(radius, radius, radius).stream()
-                .filter(e -> e instanceof Player && (((Player)e).getGameMode() == GameMode.SURVIVAL || ((Player)e).getGameMode() == GameMode.ADVENTURE))
-                .map(e -> (Player) e)
-                .collect(Collectors.toList());
-    }
-
-    protected List<Player> getNearbyPlayersAt(Location location, double radius) {
-        return location.getWorld().getNearbyEntities(location, radius, radius, radius).stream()
-                .filter(e -> e instanceof Player && (((Player)e).getGameMode() == GameMode.SURVIVAL || ((Player)e).getGameMode() == GameMode.ADVENTURE))
-                .map(e -> (Player) e)
-                .collect(Collectors.toList());
-    }
-
     @Override
     public void specialAbility(Player target) {
         // Géré par l'IA de phases
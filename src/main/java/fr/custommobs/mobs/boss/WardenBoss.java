@@ -1,13 +1,14 @@
 package fr.custommobs.mobs.boss;
 
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.LoadGovernor;
+import fr.custommobs.managers.ProfiledRunnable;
 import fr.custommobs.mobs.CustomMob;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.entity.*;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.*;
@@ -116,7 +117,8 @@ public class WardenBoss extends CustomMob {
         }
 
         // Attaques secondaires sur d'autres joueurs (30% de chance)
-        if (nearbyPlayers.size() > 1 && Math.random() < 0.3 && !isPerformingGroupAttack) {
+        if (nearbyPlayers.size() > 1 && Math.random() < 0.3 && !isPerformingGroupAttack
+                && allowUnderLoad(LoadGovernor.Work.SECONDARY_ATTACK)) {
             executeSecondaryAbyssalAttacks(nearbyPlayers, primaryTarget);
         }
     }
@@ -315,10 +317,10 @@ public class WardenBoss extends CustomMob {
         // Nombre de créatures adaptatif
         int swarmSize = Math.min(players.size() + 2, 8);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int spawned = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (spawned >= swarmSize || entity.isDead()) {
                     isPerformingGroupAttack = false;
                     cancel();
@@ -328,6 +330,10 @@ public class WardenBoss extends CustomMob {
                 // Spawn near each player
                 for (Player player : players) {
                     if (spawned >= swarmSize) break;
+                    if (!allowUnderLoad(LoadGovernor.Work.SUMMON)) {
+                        spawned++; // Serveur chargé : ce sbire n'est pas invoqué
+                        continue;
+                    }
 
                     Location spawnLoc = player.getLocation().add(
                             (random.nextDouble() - 0.5) * 8,
@@ -353,7 +359,7 @@ public class WardenBoss extends CustomMob {
                             minion.addPotionEffect(new PotionEffect(PotionEffectType.STRENGTH, Integer.MAX_VALUE, 0));
                         }
 
-                        spawnLoc.getWorld().spawnParticle(Particle.SCULK_SOUL, spawnLoc, 25, 1, 2, 1, 0.1);
+                        spawnEffect(Particle.SCULK_SOUL, spawnLoc, 25, 1, 2, 1, 0.1);
                         spawnLoc.getWorld().playSound(spawnLoc, Sound.BLOCK_SCULK_SPREAD, 1.0f, 1.4f);
                     }
                     spawned++;
@@ -368,9 +374,9 @@ public class WardenBoss extends CustomMob {
 
         Bukkit.broadcastMessage("§8§l[BOSS] §0Boom sonique omnidirectionnel !");
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (entity.isDead()) return;
 
                 Location center = entity.getLocation();
@@ -410,10 +416,10 @@ public class WardenBoss extends CustomMob {
         lastSonicBoom = System.currentTimeMillis();
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_WARDEN_SONIC_CHARGE, 2.5f, 0.8f);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int playerIndex = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (playerIndex >= players.size() || entity.isDead()) {
                     cancel();
                     return;
@@ -461,9 +467,9 @@ public class WardenBoss extends CustomMob {
 
         entity.setVelocity(jumpVector);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (entity.isOnGround() || entity.isDead()) {
                     seismicImpactMultiplayer(entity.getLocation(), players);
                     cancel();
@@ -481,10 +487,10 @@ public class WardenBoss extends CustomMob {
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_WARDEN_DIG, 3.0f, 0.3f);
 
         // Saute vers chaque joueur en séquence
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int jumpCount = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (jumpCount >= Math.min(players.size(), 4) || entity.isDead()) {
                     cancel();
                     return;
@@ -498,9 +504,9 @@ public class WardenBoss extends CustomMob {
 
                     entity.setVelocity(jumpVector);
 
-                    new BukkitRunnable() {
+                    new ProfiledRunnable() {
                         @Override
-                        public void run() {
+                        protected void tick() {
                             if (entity.isOnGround() || entity.isDead()) {
                                 seismicImpactMassive(entity.getLocation());
                                 cancel();
@@ -526,18 +532,18 @@ public class WardenBoss extends CustomMob {
 
         Location loc = entity.getLocation();
         for (int i = 0; i < 40; i++) {
-            loc.getWorld().spawnParticle(Particle.BLOCK_CRUMBLE, loc.clone().add(
+            spawnEffect(Particle.BLOCK_CRUMBLE, loc.clone().add(
                     (random.nextDouble() - 0.5) * 6,
                     random.nextDouble() * 3,
                     (random.nextDouble() - 0.5) * 6
             ), 8, 0.5, 0.5, 0.5, 0.1, Material.DEEPSLATE.createBlockData());
         }
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int huntTime = 0;
             int targetIndex = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (huntTime >= 250 || entity.isDead()) {
                     emergenceAttackMultiplayer(players);
                     cancel();
@@ -552,7 +558,7 @@ public class WardenBoss extends CustomMob {
                         entity.teleport(underground);
 
                         // Effets de traque
-                        currentTarget.getWorld().spawnParticle(Particle.BLOCK_CRUMBLE, currentTarget.getLocation(), 15, 3, 0.1, 3, 0.1, Material.SCULK.createBlockData());
+                        spawnEffect(Particle.BLOCK_CRUMBLE, currentTarget.getLocation(), 15, 3, 0.1, 3, 0.1, Material.SCULK.createBlockData());
                         currentTarget.getWorld().playSound(currentTarget.getLocation(), Sound.ENTITY_WARDEN_HEARTBEAT, 1.5f, 0.6f);
 
                         // Crée des capteurs sculk temporaires
@@ -560,9 +566,9 @@ public class WardenBoss extends CustomMob {
                     targetIndex++;
                 }
 
-                huntTime++;
+                huntTime += 10;
             }
-        }.runTaskTimer(plugin, 30L, 1L);
+        }.runTaskTimer(plugin, 30L, 10L); // Rien ne se passe entre deux multiples de 10 ticks
     }
 
     private void burrowAttackMultiplayer(List<Player> players) {
@@ -619,10 +625,10 @@ public class WardenBoss extends CustomMob {
 
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_WARDEN_ROAR, 3.0f, 0.1f);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int cataclysmWave = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (cataclysmWave >= 12 || entity.isDead()) {
                     cancel();
                     return;
@@ -676,9 +682,9 @@ public class WardenBoss extends CustomMob {
         lastSonicBoom = System.currentTimeMillis();
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_WARDEN_SONIC_CHARGE, 3.0f, 0.2f);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (entity.isDead()) return;
 
                 Location center = entity.getLocation();
@@ -686,9 +692,9 @@ public class WardenBoss extends CustomMob {
                 // Onde de choc globale
                 for (int radius = 5; radius <= 35; radius += 5) {
                     final int r = radius;
-                    new BukkitRunnable() {
+                    new ProfiledRunnable() {
                         @Override
-                        public void run() {
+                        protected void tick() {
                             createApocalypticSonicWave(center, r);
                         }
                     }.runTaskLater(plugin, radius / 5 * 3L);
@@ -697,9 +703,9 @@ public class WardenBoss extends CustomMob {
                 // Attaque ciblée sur chaque joueur
                 for (Player player : players) {
                     if (!player.isDead()) {
-                        new BukkitRunnable() {
+                        new ProfiledRunnable() {
                             @Override
-                            public void run() {
+                            protected void tick() {
                                 drawSonicBeam(entity.getEyeLocation(), player.getEyeLocation());
                                 player.damage(damage * 1.8, entity);
                                 player.addPotionEffect(new PotionEffect(PotionEffectType.DARKNESS, 500, 0));
@@ -738,10 +744,10 @@ public class WardenBoss extends CustomMob {
         // Piège de ténèbres persistant
         location.getWorld().playSound(location, Sound.ENTITY_WARDEN_LISTENING, 1.0f, 0.6f);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int duration = 100;
             @Override
-            public void run() {
+            protected void tick() {
                 if (duration <= 0) {
                     cancel();
                     return;
@@ -803,10 +809,10 @@ public class WardenBoss extends CustomMob {
     }
 
     private void createSonicBeamLine(Location start, Vector direction, double length) {
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             double distance = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (distance >= length) {
                     cancel();
                     return;
@@ -835,9 +841,9 @@ public class WardenBoss extends CustomMob {
         int maxRings = 6 + players.size();
         for (int radius = 1; radius <= maxRings; radius++) {
             final int r = radius;
-            new BukkitRunnable() {
+            new ProfiledRunnable() {
                 @Override
-                public void run() {
+                protected void tick() {
                     createAbyssalShockwave(impact, r * 2);
                 }
             }.runTaskLater(plugin, radius * 3L);
@@ -901,9 +907,9 @@ public class WardenBoss extends CustomMob {
         }
 
         // Restauration retardée
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 for (Block block : destroyedBlocks) {
                     Material originalType = originalTypes.get(block);
                     if (originalType != null && block.getType().isAir()) {
@@ -1007,9 +1013,9 @@ public class WardenBoss extends CustomMob {
 
         Location loc = entity.getLocation();
         for (int i = 0; i < 25; i++) {
-            new BukkitRunnable() {
+            new ProfiledRunnable() {
                 @Override
-                public void run() {
+                protected void tick() {
                     loc.getWorld().spawnParticle(Particle.SCULK_SOUL, loc.clone().add(0, 2, 0), 25, 4, 4, 4, 0.5);
                     loc.getWorld().createExplosion(loc, 0, false, false);
                 }
@@ -1037,9 +1043,9 @@ public class WardenBoss extends CustomMob {
 
         Location loc = entity.getLocation();
         for (int i = 0; i < 100; i++) {
-            new BukkitRunnable() {
+            new ProfiledRunnable() {
                 @Override
-                public void run() {
+                protected void tick() {
                     if (currentPhase != BossPhase.DORMANT || entity.isDead()) {
                         cancel();
                         return;
@@ -1090,9 +1096,9 @@ public class WardenBoss extends CustomMob {
         lastSonicBoom = System.currentTimeMillis();
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_WARDEN_SONIC_CHARGE, 2.0f, 0.8f);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (entity.isDead() || target.isDead()) return;
 
                 Location from = entity.getEyeLocation();
@@ -1149,10 +1155,10 @@ public class WardenBoss extends CustomMob {
         lastSculkSpread = System.currentTimeMillis();
         entity.getWorld().playSound(entity.getLocation(), Sound.BLOCK_SCULK_SPREAD, 2.0f, 0.8f);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int wave = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (wave >= 4 || entity.isDead()) {
                     cancel();
                     return;
@@ -1176,6 +1182,8 @@ public class WardenBoss extends CustomMob {
             );
             spawnLoc = spawnLoc.getWorld().getHighestBlockAt(spawnLoc).getLocation().add(0, 1, 0);
 
+            if (!allowUnderLoad(LoadGovernor.Work.SUMMON)) continue;
+
             String minionType = i % 2 == 0 ? "enderman_shadow" : "spider_venomous";
             LivingEntity minion = plugin.getMobManager().spawnCustomMob(minionType, spawnLoc);
 
@@ -1184,7 +1192,7 @@ public class WardenBoss extends CustomMob {
                 minion.addPotionEffect(new PotionEffect(PotionEffectType.SPEED, Integer.MAX_VALUE, 1));
                 minion.addPotionEffect(new PotionEffect(PotionEffectType.RESISTANCE, Integer.MAX_VALUE, 0));
 
-                spawnLoc.getWorld().spawnParticle(Particle.SCULK_SOUL, spawnLoc, 30, 1, 2, 1, 0.1);
+                spawnEffect(Particle.SCULK_SOUL, spawnLoc, 30, 1, 2, 1, 0.1);
                 spawnLoc.getWorld().playSound(spawnLoc, Sound.BLOCK_SCULK_SPREAD, 1.0f, 1.2f);
             }
         }
@@ -1208,20 +1216,6 @@ public class WardenBoss extends CustomMob {
         }
     }
 
-    protected List<Player> getNearbyPlayers(double radius) {
-        return entity.getNearbyEntities(radius, radius, radius).stream()
-                .filter(e -> e instanceof Player && (((Player)e).getGameMode() == GameMode.SURVIVAL || ((Player)e).getGameMode() == GameMode.ADVENTURE))
-                .map(e -> (Player) e)
-                .collect(Collectors.toList());
-    }
-
-    protected List<Player> getNearbyPlayersAt(Location location, double radius) {
-        return location.getWorld().getNearbyEntities(location, radius, radius, radius).stream()
-                .filter(e -> e instanceof Player && (((Player)e).getGameMode() == GameMode.SURVIVAL || ((Player)e).getGameMode() == GameMode.ADVENTURE))
-                .map(e -> (Player) e)
-                .collect(Collectors.toList());
-    }
-
     @Override
     public void specialAbility(Player target) {
         // Géré par l'IA de phases complexe
@@ -1,12 +1,13 @@
 package fr.custommobs.mobs.boss;
 
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.LoadGovernor;
+import fr.custommobs.managers.ProfiledRunnable;
 import fr.custommobs.mobs.CustomMob;
 import org.bukkit.*;
 import org.bukkit.entity.*;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.*;
@@ -75,6 +76,12 @@ public class WitherBoss extends CustomMob {
         return wither;
     }
 
+    @Override
+    protected void onRestore() {
+        // Déjà éveillé : la phase sera recalculée d'après la vie restante
+        currentPhase = BossPhase.PHASE_1;
+    }
+
     @Override
     protected void onPlayerNear(Player target) {
         if (entity.isDead()) return;
@@ -116,7 +123,7 @@ public class WitherBoss extends CustomMob {
         }
 
         // Attaques secondaires sur d'autres joueurs (25% de chance)
-        if (nearbyPlayers.size() > 1 && Math.random() < 0.25) {
+        if (nearbyPlayers.size() > 1 && Math.random() < 0.25 && allowUnderLoad(LoadGovernor.Work.SECONDARY_ATTACK)) {
             executeSecondaryAttacks(nearbyPlayers, primaryTarget);
         }
     }
@@ -319,10 +326,10 @@ public class WitherBoss extends CustomMob {
         Bukkit.broadcastMessage("§5§l[BOSS] §dL'Archliche déchaîne une tempête de malédictions !");
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_ELDER_GUARDIAN_CURSE, 3.0f, 0.5f);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int wave = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (wave >= 5 || entity.isDead()) {
                     isChanneling = false;
                     cancel();
@@ -334,9 +341,9 @@ public class WitherBoss extends CustomMob {
                     Player player = players.get(i);
                     if (player.isDead()) continue;
 
-                    new BukkitRunnable() {
+                    new ProfiledRunnable() {
                         @Override
-                        public void run() {
+                        protected void tick() {
                             createCurseVortex(player.getLocation());
                             applyCurseToPlayer(player);
                         }
@@ -360,10 +367,10 @@ public class WitherBoss extends CustomMob {
             drawTargetingBeam(entity.getEyeLocation(), player.getEyeLocation());
         }
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int salvo = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (salvo >= 6 || entity.isDead()) {
                     isChanneling = false;
                     cancel();
@@ -376,9 +383,9 @@ public class WitherBoss extends CustomMob {
                     if (target.isDead()) continue;
 
                     // Délai progressif pour chaque joueur
-                    new BukkitRunnable() {
+                    new ProfiledRunnable() {
                         @Override
-                        public void run() {
+                        protected void tick() {
                             fireTrackingSkull(target, salvo % 2 == 0); // Alterne têtes bleues/noires
                         }
                     }.runTaskLater(plugin, i * 3L);
@@ -395,10 +402,10 @@ public class WitherBoss extends CustomMob {
 
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 2.5f, 0.4f);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int burst = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (burst >= 8 || entity.isDead()) {
                     isChanneling = false;
                     cancel();
@@ -438,10 +445,10 @@ public class WitherBoss extends CustomMob {
         Bukkit.broadcastMessage("§5§l⚠ BARRAGE FINAL IMMINENT ! ⚠");
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_WITHER_HURT, 3.0f, 0.2f);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int intensity = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (intensity >= 12 || entity.isDead()) {
                     isChanneling = false;
                     cancel();
@@ -455,9 +462,9 @@ public class WitherBoss extends CustomMob {
                     if (player.isDead()) continue;
 
                     for (int i = 0; i < skullsPerPlayer; i++) {
-                        new BukkitRunnable() {
+                        new ProfiledRunnable() {
                             @Override
-                            public void run() {
+                            protected void tick() {
                                 fireTrackingSkull(player, true); // Toutes les têtes sont chargées
                             }
                         }.runTaskLater(plugin, i * 2L);
@@ -476,10 +483,10 @@ public class WitherBoss extends CustomMob {
         entity.getWorld().playSound(entity.getLocation(), Sound.BLOCK_CONDUIT_AMBIENT, 3.0f, 0.3f);
         Bukkit.broadcastMessage("§5§l[BOSS] §dDrain d'âmes omnipresent !");
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int duration = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (duration > 100 || entity.isDead()) {
                     isChanneling = false;
                     cancel();
@@ -495,8 +502,8 @@ public class WitherBoss extends CustomMob {
                     player.addPotionEffect(new PotionEffect(PotionEffectType.WITHER, 60, 1));
                     player.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 40, 1));
 
-                    // Crée des orbes d'âme flottantes
-                    if (Math.random() < 0.15) {
+                    // Crée des orbes d'âme flottantes (décoratives : supprimées en premier sous charge)
+                    if (Math.random() < 0.15 && allowUnderLoad(LoadGovernor.Work.COSMETIC)) {
                         createSoulOrb(player.getLocation().add(0, 2, 0));
                     }
                 }
@@ -518,10 +525,10 @@ public class WitherBoss extends CustomMob {
         // Nombre de sbires adaptatif
         int minionsToSummon = Math.min(players.size() + 3, 10);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int summoned = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (summoned >= minionsToSummon || entity.isDead()) {
                     isChanneling = false;
                     cancel();
@@ -553,7 +560,8 @@ public class WitherBoss extends CustomMob {
                     };
                 }
 
-                LivingEntity minion = plugin.getMobManager().spawnCustomMob(minionType, spawnLoc);
+                LivingEntity minion = allowUnderLoad(LoadGovernor.Work.SUMMON)
+                        ? plugin.getMobManager().spawnCustomMob(minionType, spawnLoc) : null;
                 if (minion != null) {
                     summonedUndead.add(minion);
 
@@ -563,7 +571,7 @@ public class WitherBoss extends CustomMob {
                         minion.addPotionEffect(new PotionEffect(PotionEffectType.STRENGTH, Integer.MAX_VALUE, 0));
                     }
 
-                    spawnLoc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, spawnLoc, 50, 1, 2, 1, 0.1);
+                    spawnEffect(Particle.SOUL_FIRE_FLAME, spawnLoc, 50, 1, 2, 1, 0.1);
                     spawnLoc.getWorld().playSound(spawnLoc, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 1.0f, 0.8f);
                     spawnLoc.getWorld().strikeLightningEffect(spawnLoc);
                 }
@@ -583,10 +591,10 @@ public class WitherBoss extends CustomMob {
 
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_ENDER_DRAGON_DEATH, 3.0f, 0.3f);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int apocalypseWave = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (apocalypseWave >= 10 || entity.isDead()) {
                     isChanneling = false;
                     cancel();
@@ -606,9 +614,9 @@ public class WitherBoss extends CustomMob {
                                 (random.nextDouble() - 0.5) * 15
                         );
 
-                        new BukkitRunnable() {
+                        new ProfiledRunnable() {
                             @Override
-                            public void run() {
+                            protected void tick() {
                                 createApocalypticExplosion(explosionLoc);
                             }
                         }.runTaskLater(plugin, i * 5L);
@@ -634,10 +642,10 @@ public class WitherBoss extends CustomMob {
         // Countdown adaptatif selon le nombre de joueurs
         int countdownTime = Math.max(5, 12 - players.size());
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int countdown = countdownTime;
             @Override
-            public void run() {
+            protected void tick() {
                 if (entity.isDead() || countdown <= 0) {
                     // EXPLOSIONS FINALES MULTIPLES
                     executeMultiPlayerFinale(players);
@@ -676,9 +684,9 @@ public class WitherBoss extends CustomMob {
             if (player.isDead()) continue;
 
             for (int i = 0; i < 5; i++) {
-                new BukkitRunnable() {
+                new ProfiledRunnable() {
                     @Override
-                    public void run() {
+                    protected void tick() {
                         Location explosionLoc = player.getLocation().add(
                                 (random.nextDouble() - 0.5) * 12,
                                 random.nextDouble() * 6,
@@ -691,9 +699,9 @@ public class WitherBoss extends CustomMob {
         }
 
         // Explosion finale retardée
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 Bukkit.broadcastMessage("§d§l[BOSS] §5L'Archliche Nécrosis a été vaincu !");
                 for (int i = 0; i < 20; i++) {
                     Location randomLoc = bossLoc.clone().add(
@@ -717,10 +725,10 @@ public class WitherBoss extends CustomMob {
 
         if (activePlayerCount > 2) {
             // Têtes à tête chercheuse pour plus de joueurs
-            new BukkitRunnable() {
+            new ProfiledRunnable() {
                 int lifetime = 0;
                 @Override
-                public void run() {
+                protected void tick() {
                     if (skull.isDead() || lifetime > 80 || target.isDead()) {
                         cancel();
                         return;
@@ -761,10 +769,10 @@ public class WitherBoss extends CustomMob {
     }
 
     private void createCurseVortex(Location location) {
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int ticks = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (ticks >= 60) {
                     cancel();
                     return;
@@ -811,11 +819,11 @@ public class WitherBoss extends CustomMob {
     }
 
     private void createRotatingApocalypse(Location center, int wave) {
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int angle = wave * 45;
             int rotations = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (rotations >= 3) {
                     cancel();
                     return;
@@ -855,10 +863,10 @@ public class WitherBoss extends CustomMob {
         Bukkit.broadcastMessage("§5§l§k=====================================");
         Bukkit.broadcastMessage("");
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int ticks = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (ticks >= 300 || entity.isDead()) {
                     currentPhase = BossPhase.PHASE_1;
                     Bukkit.broadcastMessage("§d§l[BOSS] §5L'Archliche est maintenant éveillé ! Le combat commence !");
@@ -953,7 +961,7 @@ public class WitherBoss extends CustomMob {
 
         for (double i = 0; i < distance; i += 0.5) {
             Location particleLoc = from.clone().add(direction.clone().multiply(i));
-            from.getWorld().spawnParticle(Particle.SOUL, particleLoc, 1, 0.1, 0.1, 0.1, 0);
+            spawnEffect(Particle.SOUL, particleLoc, 1, 0.1, 0.1, 0.1, 0);
         }
     }
 
@@ -966,10 +974,10 @@ public class WitherBoss extends CustomMob {
 
         soulOrbs.add(orb);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int lifetime = 200;
             @Override
-            public void run() {
+            protected void tick() {
                 if (lifetime <= 0 || orb.isDead()) {
                     soulOrbs.remove(orb);
                     if (!orb.isDead()) orb.remove();
@@ -1010,10 +1018,10 @@ public class WitherBoss extends CustomMob {
 
         Bukkit.broadcastMessage("§d§l[BOSS] §5L'Archliche s'entoure d'un bouclier nécrotique !");
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int duration = 200;
             @Override
-            public void run() {
+            protected void tick() {
                 if (duration <= 0 || entity.isDead()) {
                     isShielded = false;
                     cancel();
@@ -1067,20 +1075,6 @@ public class WitherBoss extends CustomMob {
         }
     }
 
-    protected List<Player> getNearbyPlayers(double radius) {
-        return entity.getNearbyEntities(radius, radius, radius).stream()
-                .filter(e -> e instanceof Player && (((Player)e).getGameMode() == GameMode.SURVIVAL || ((Player)e).getGameMode() == GameMode.ADVENTURE))
-                .map(e -> (Player) e)
-                .collect(Collectors.toList());
-    }
-
-    protected List<Player> getNearbyPlayersAt(Location location, double radius) {
-        return location.getWorld().getNearbyEntities(location, radius, radius, radius).stream()
-                .filter(e -> e instanceof Player && (((Player)e).getGameMode() == GameMode.SURVIVAL || ((Player)e).getGameMode() == GameMode.ADVENTURE))
-                .map(e -> (Player) e)
-                .collect(Collectors.toList());
-    }
-
     @Override
     public void specialAbility(Player target) {
         // Géré par l'IA de phases
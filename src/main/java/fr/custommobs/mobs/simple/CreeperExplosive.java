@@ -1,6 +1,8 @@
 package fr.custommobs.mobs.simple;
 
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.MobTask;
+import fr.custommobs.managers.ProfiledRunnable;
 import fr.custommobs.mobs.CustomMob;
 import org.bukkit.Location;
 import org.bukkit.Particle;
@@ -8,7 +10,6 @@ import org.bukkit.Sound;
 import org.bukkit.entity.Creeper;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 public class CreeperExplosive extends CustomMob {
@@ -85,9 +86,9 @@ public class CreeperExplosive extends CustomMob {
             ((Creeper) entity).setIgnited(true); // Effet visuel du creeper qui s'apprête à exploser
         }
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (entity.isDead()) {
                     isExploding = false;
                     return;
@@ -124,7 +125,7 @@ public class CreeperExplosive extends CustomMob {
 
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_SLIME_JUMP, 1.2f, 0.8f);
 
-        new BukkitRunnable() {
+        new MobTask() {
             int ticks = 0;
             @Override
             public void run() {
@@ -150,7 +151,7 @@ public class CreeperExplosive extends CustomMob {
                 entity.getWorld().spawnParticle(Particle.CRIT, entity.getLocation(), 5, 0.3, 0.3, 0.3, 0);
                 ticks++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTimer(plugin, entity, 0L, 1L);
     }
 
     @Override
@@ -1,7 +1,10 @@
 package fr.custommobs.mobs.simple;
 
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.MobTask;
+import fr.custommobs.managers.ProfiledRunnable;
 import fr.custommobs.mobs.CustomMob;
+import fr.custommobs.mobs.EntityRole;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Enderman;
@@ -10,7 +13,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
@@ -57,6 +59,11 @@ public class EndermanShadow extends CustomMob {
         return enderman;
     }
 
+    @Override
+    protected void onRestore() {
+        startShadowAura();
+    }
+
     @Override
     protected void onPlayerNear(Player target) {
 
@@ -118,13 +125,14 @@ public class EndermanShadow extends CustomMob {
         clone.setCustomNameVisible(true);
         // Marque l'entité comme un clone pour la gérer dans un listener
         clone.setMetadata("shadow_clone", new FixedMetadataValue(plugin, true));
+        EntityRole.tag(clone, EntityRole.BOSS_MINION);
         clone.setTarget(target);
         this.shadowClone = clone;
 
         // Le clone disparaît après 8 secondes ou s'il est touché
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (!clone.isDead()) {
                     clone.getWorld().spawnParticle(Particle.SMOKE, clone.getLocation(), 20);
                     clone.remove();
@@ -171,9 +179,9 @@ public class EndermanShadow extends CustomMob {
         entity.getWorld().playSound(safeLoc, Sound.ENTITY_ENDERMAN_SCREAM, 1.2f, 1.2f);
 
         // Attaque rapide après la téléportation
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (!entity.isDead() && entity.getLocation().distanceSquared(target.getLocation()) < 16) {
                     target.damage(damage, entity);
                     attack(target); // Applique aussi la cécité
@@ -236,7 +244,7 @@ public class EndermanShadow extends CustomMob {
     }
 
     private void startShadowAura() {
-        new BukkitRunnable() {
+        new MobTask() {
             @Override
             public void run() {
                 if (entity == null || entity.isDead()) {
@@ -245,7 +253,7 @@ public class EndermanShadow extends CustomMob {
                 }
                 entity.getWorld().spawnParticle(Particle.PORTAL, entity.getLocation().add(0, 1.5, 0), 5, 0.5, 1, 0.5, 0.1);
             }
-        }.runTaskTimer(plugin, 0L, 10L);
+        }.runTimer(plugin, entity, 0L, 10L);
     }
 
     @Override
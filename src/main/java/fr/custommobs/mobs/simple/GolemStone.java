@@ -1,6 +1,7 @@
 package fr.custommobs.mobs.simple;
 
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.ProfiledRunnable;
 import fr.custommobs.mobs.CustomMob;
 import org.bukkit.*;
 import org.bukkit.block.Block;
@@ -9,12 +10,10 @@ import org.bukkit.entity.FallingBlock;
 import org.bukkit.entity.IronGolem;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class GolemStone extends CustomMob {
 
@@ -102,9 +101,9 @@ public class GolemStone extends CustomMob {
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_IRON_GOLEM_ATTACK, 2.0f, 0.5f);
 
         // Animation de préparation (lève les bras) - simulé par un délai
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (entity.isDead()) {
                     isPerformingAbility = false;
                     cancel();
@@ -135,9 +134,9 @@ public class GolemStone extends CustomMob {
 
         entity.getWorld().playSound(entity.getLocation(), Sound.BLOCK_GRASS_STEP, 1.5f, 0.5f);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if(entity.isDead()) { isPerformingAbility = false; return; }
 
                 FallingBlock rock = entity.getWorld().spawnFallingBlock(
@@ -174,9 +173,9 @@ public class GolemStone extends CustomMob {
             p.setVelocity(pull.multiply(2.0).setY(0.4));
         }
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 isPerformingAbility = false;
             }
         }.runTaskLater(plugin, 30L);
@@ -210,16 +209,16 @@ public class GolemStone extends CustomMob {
         }
 
         // Fait disparaître le mur après 6 secondes
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 for(Block b : wallBlocks) {
                     if (b.getType() == Material.COBBLESTONE) b.setType(Material.AIR);
                 }
             }
         }.runTaskLater(plugin, 120L);
 
-        new BukkitRunnable() { @Override public void run() { isPerformingAbility = false; } }.runTaskLater(plugin, 20L);
+        new ProfiledRunnable() { @Override protected void tick() { isPerformingAbility = false; } }.runTaskLater(plugin, 20L);
     }
 
     @Override
@@ -227,11 +226,4 @@ public class GolemStone extends CustomMob {
         // Utilise la nouvelle capacité de muraille
         createEarthenBulwark(target);
     }
-
-    protected List<Player> getNearbyPlayers(double radius) {
-        return entity.getNearbyEntities(radius, radius, radius).stream()
-                .filter(e -> e instanceof Player && (((Player)e).getGameMode() == GameMode.SURVIVAL || ((Player)e).getGameMode() == GameMode.ADVENTURE))
-                .map(e -> (Player) e)
-                .collect(Collectors.toList());
-    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package fr.custommobs.mobs.simple;
 
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.ProfiledRunnable;
 import fr.custommobs.mobs.CustomMob;
 import org.bukkit.*;
 import org.bukkit.attribute.Attribute;
@@ -10,11 +11,9 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class LutinTreasure extends CustomMob {
 
@@ -145,6 +144,12 @@ public class LutinTreasure extends CustomMob {
         return lutin;
     }
 
+    @Override
+    protected void onRestore() {
+        // Le lutin n'existe que pendant son événement, qui ne survit pas à un redémarrage
+        entity.remove();
+    }
+
     /**
      * Comportement principal amélioré avec phases
      */
@@ -255,9 +260,9 @@ public class LutinTreasure extends CustomMob {
         performPanicFlee(target);
 
         // Redevient non-combattant après 5 secondes
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 isInCombat = false;
             }
         }.runTaskLater(plugin, 100L);
@@ -288,9 +293,9 @@ public class LutinTreasure extends CustomMob {
      * Crée une pièce temporaire qui disparaît
      */
     private void createTemporaryCoin(Location center, long delay) {
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 // Position aléatoire autour du lutin
                 Location coinLoc = center.clone().add(
                         (random.nextDouble() - 0.5) * 3,
@@ -312,10 +317,10 @@ public class LutinTreasure extends CustomMob {
                 ));
 
                 // Effets visuels sur la pièce
-                new BukkitRunnable() {
+                new ProfiledRunnable() {
                     int ticks = 0;
                     @Override
-                    public void run() {
+                    protected void tick() {
                         if (droppedCoin.isDead() || ticks >= 40) { // 2 secondes
                             if (!droppedCoin.isDead()) {
                                 // Animation de disparition
@@ -340,9 +345,9 @@ public class LutinTreasure extends CustomMob {
      * Mouvement constant amélioré
      */
     private void startConstantMovement() {
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (entity == null || entity.isDead()) {
                     cancel();
                     return;
@@ -522,9 +527,9 @@ public class LutinTreasure extends CustomMob {
         startIllusionBehavior(illusion);
 
         // Auto-destruction après 20 secondes
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (!illusion.isDead()) {
                     illusion.getWorld().spawnParticle(Particle.CLOUD, illusion.getLocation(), 15, 1, 1, 1, 0.1);
                     illusion.getWorld().playSound(illusion.getLocation(), Sound.ENTITY_ILLUSIONER_HURT, 1.0f, 1.5f);
@@ -539,10 +544,10 @@ public class LutinTreasure extends CustomMob {
      * Donne un comportement réaliste aux illusions
      */
     private void startIllusionBehavior(Zombie illusion) {
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             int ticks = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (illusion.isDead()) {
                     cancel();
                     return;
@@ -588,9 +593,9 @@ public class LutinTreasure extends CustomMob {
      * Invoque un gardien individuel
      */
     private void summonSingleGuardian(int index) {
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 Location guardianLoc = entity.getLocation().add(
                         (random.nextDouble() - 0.5) * 6,
                         0,
@@ -632,9 +637,9 @@ public class LutinTreasure extends CustomMob {
                 guardianLoc.getWorld().playSound(guardianLoc, Sound.ENTITY_VEX_AMBIENT, 1.0f, 1.2f);
 
                 // Auto-destruction après 30 secondes
-                new BukkitRunnable() {
+                new ProfiledRunnable() {
                     @Override
-                    public void run() {
+                    protected void tick() {
                         if (!guardian.isDead()) {
                             guardian.getWorld().spawnParticle(Particle.SMOKE, guardian.getLocation(), 10, 0.5, 0.5, 0.5, 0.1);
                             guardian.remove();
@@ -778,9 +783,9 @@ public class LutinTreasure extends CustomMob {
      * Démarre le système de mise à jour des phases
      */
     private void startPhaseUpdater() {
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (entity == null || entity.isDead()) {
                     cancel();
                     return;
@@ -856,9 +861,9 @@ public class LutinTreasure extends CustomMob {
         sendMessageToNearby("§c§l« Téléportations en chaîne ! »", players);
 
         for (int i = 0; i < 3; i++) {
-            new BukkitRunnable() {
+            new ProfiledRunnable() {
                 @Override
-                public void run() {
+                protected void tick() {
                     Location teleportLoc = findOptimalTeleportLocation(players);
                     if (teleportLoc != null && !entity.isDead()) {
                         entity.getWorld().spawnParticle(Particle.PORTAL, entity.getLocation(), 20, 1, 1, 1, 0.5);
@@ -902,9 +907,9 @@ public class LutinTreasure extends CustomMob {
 
         // Invoque des gardiens plus puissants
         for (int i = 0; i < 3; i++) {
-            new BukkitRunnable() {
+            new ProfiledRunnable() {
                 @Override
-                public void run() {
+                protected void tick() {
                     Location guardianLoc = entity.getLocation().add(
                             (random.nextDouble() - 0.5) * 8,
                             0,
@@ -980,9 +985,9 @@ public class LutinTreasure extends CustomMob {
         }
 
         // Puis téléportation
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 performTeleportEscape(players);
             }
         }.runTaskLater(plugin, 20L);
@@ -1105,9 +1110,9 @@ public class LutinTreasure extends CustomMob {
     }
 
     private void startThreatDetection() {
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (entity == null || entity.isDead()) {
                     cancel();
                     return;
@@ -1120,9 +1125,9 @@ public class LutinTreasure extends CustomMob {
     }
 
     private void startLifetimeManagement() {
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (entity == null || entity.isDead()) {
                     cancel();
                     return;
@@ -1143,9 +1148,9 @@ public class LutinTreasure extends CustomMob {
     }
 
     private void startTreasureAura() {
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 if (entity == null || entity.isDead()) {
                     cancel();
                     return;
@@ -1244,13 +1249,6 @@ public class LutinTreasure extends CustomMob {
         return item;
     }
 
-    protected List<Player> getNearbyPlayers(double radius) {
-        return entity.getNearbyEntities(radius, radius, radius).stream()
-                .filter(e -> e instanceof Player && (((Player)e).getGameMode() == GameMode.SURVIVAL || ((Player)e).getGameMode() == GameMode.ADVENTURE))
-                .map(e -> (Player) e)
-                .collect(Collectors.toList());
-    }
-
     @Override
     public void specialAbility(Player target) {
         switch (currentPhase) {
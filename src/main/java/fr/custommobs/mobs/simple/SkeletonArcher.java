@@ -1,13 +1,14 @@
 package fr.custommobs.mobs.simple;
 
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.LoadGovernor;
+import fr.custommobs.managers.MobTask;
 import fr.custommobs.mobs.CustomMob;
 import org.bukkit.*;
 import org.bukkit.entity.*;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.Random;
@@ -126,7 +127,7 @@ public class SkeletonArcher extends CustomMob {
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_GHAST_WARN, 1.5f, 1.0f);
         Location targetLocation = target.getLocation();
 
-        new BukkitRunnable() {
+        new MobTask() {
             int arrowsFired = 0;
             @Override
             public void run() {
@@ -147,7 +148,7 @@ public class SkeletonArcher extends CustomMob {
 
                 arrowsFired++;
             }
-        }.runTaskTimer(plugin, 20L, 3L); // Délai initial de 1s, puis une flèche toutes les 0.15s
+        }.runTimer(plugin, entity, 20L, 3L); // Délai initial de 1s, puis une flèche toutes les 0.15s
     }
 
     /**
@@ -250,23 +251,25 @@ public class SkeletonArcher extends CustomMob {
      * Ajoute un effet de particule qui suit la flèche.
      */
     private void addParticleTrail(Arrow arrow, Particle particle) {
-        new BukkitRunnable() {
+        if (!allowUnderLoad(LoadGovernor.Work.COSMETIC)) return; // Serveur chargé : pas de traînée du tout
+
+        new MobTask() {
             @Override
             public void run() {
                 if (arrow.isDead() || arrow.isOnGround() || !arrow.isValid()) {
                     cancel();
                     return;
                 }
-                arrow.getWorld().spawnParticle(particle, arrow.getLocation(), 1, 0, 0, 0, 0);
+                spawnEffect(particle, arrow.getLocation(), 1, 0, 0, 0, 0);
             }
-        }.runTaskTimer(plugin, 0L, 1L); // Particule à chaque tick
+        }.runTimer(plugin, arrow, 0L, 1L); // Particule à chaque tick
     }
 
     /**
      * Gère l'impact d'une flèche explosive.
      */
     private void handleExplosiveImpact(Arrow arrow) {
-        new BukkitRunnable() {
+        new MobTask() {
             @Override
             public void run() {
                 if (arrow.isDead() || arrow.isOnGround() || !arrow.isValid()) {
@@ -275,7 +278,7 @@ public class SkeletonArcher extends CustomMob {
                     cancel();
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L); // Vérifie l'état de la flèche à chaque tick
+        }.runTimer(plugin, arrow, 0L, 1L); // Vérifie l'état de la flèche à chaque tick
     }
 
     @Override
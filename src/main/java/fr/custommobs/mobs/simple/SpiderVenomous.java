@@ -1,6 +1,8 @@
 package fr.custommobs.mobs.simple;
 
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.MobTask;
+import fr.custommobs.managers.ProfiledRunnable;
 import fr.custommobs.mobs.CustomMob;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -12,7 +14,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.entity.Spider;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
@@ -113,9 +114,9 @@ public class SpiderVenomous extends CustomMob {
 
         entity.setVelocity(jumpVector);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 isPerformingAbility = false;
             }
         }.runTaskLater(plugin, 20L);
@@ -131,7 +132,7 @@ public class SpiderVenomous extends CustomMob {
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_LLAMA_SPIT, 1.0f, 1.0f);
 
         // Simule un projectile de toile
-        new BukkitRunnable() {
+        new MobTask() {
             Location current = entity.getEyeLocation();
             Vector direction = target.getEyeLocation().subtract(current).toVector().normalize();
             double distanceTraveled = 0;
@@ -145,7 +146,7 @@ public class SpiderVenomous extends CustomMob {
                 }
 
                 current.add(direction);
-                current.getWorld().spawnParticle(Particle.ITEM_SNOWBALL, current, 1, 0, 0, 0, 0);
+                spawnEffect(Particle.ITEM_SNOWBALL, current, 1, 0, 0, 0, 0);
 
                 // Si le projectile touche un joueur ou est proche d'un bloc
                 if (!current.getBlock().isPassable() || current.distanceSquared(target.getLocation()) < 4) {
@@ -156,7 +157,7 @@ public class SpiderVenomous extends CustomMob {
                 }
                 distanceTraveled++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTimer(plugin, entity, 0L, 1L);
     }
 
     /**
@@ -178,9 +179,9 @@ public class SpiderVenomous extends CustomMob {
         }
 
         // Fait disparaître les toiles après 7 secondes
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 for(Block b : webBlocks) {
                     if (b.getType() == Material.COBWEB) {
                         b.setType(Material.AIR);
@@ -1,18 +1,18 @@
 package fr.custommobs.mobs.simple;
 
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.MobTask;
+import fr.custommobs.managers.ProfiledRunnable;
 import fr.custommobs.mobs.CustomMob;
 import org.bukkit.*;
 import org.bukkit.entity.*;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
-import java.util.stream.Collectors;
 
 public class WitchCursed extends CustomMob {
 
@@ -61,6 +61,11 @@ public class WitchCursed extends CustomMob {
         return witch;
     }
 
+    @Override
+    protected void onRestore() {
+        startCurseAura();
+    }
+
     @Override
     protected void onPlayerNear(Player target) {
         ((Witch) entity).setTarget(target);
@@ -108,7 +113,7 @@ public class WitchCursed extends CustomMob {
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_WITCH_THROW, 1.0f, 1.2f);
 
         // Simule un projectile rapide
-        new BukkitRunnable() {
+        new MobTask() {
             Location current = entity.getEyeLocation();
             Vector direction = target.getEyeLocation().subtract(current).toVector().normalize();
             double distanceTraveled = 0;
@@ -134,7 +139,7 @@ public class WitchCursed extends CustomMob {
                 }
                 distanceTraveled += 1.5;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTimer(plugin, entity, 0L, 1L);
     }
 
     /**
@@ -153,9 +158,9 @@ public class WitchCursed extends CustomMob {
         cloud.addCustomEffect(new PotionEffect(PotionEffectType.WITHER, 100, 0), true);
         cloud.addCustomEffect(new PotionEffect(PotionEffectType.SLOWNESS, 100, 1), true);
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 isCasting = false;
             }
         }.runTaskLater(plugin, 20L);
@@ -180,9 +185,9 @@ public class WitchCursed extends CustomMob {
             p.setVelocity(knockback.multiply(2.0));
         }
 
-        new BukkitRunnable() {
+        new ProfiledRunnable() {
             @Override
-            public void run() {
+            protected void tick() {
                 isCasting = false;
             }
         }.runTaskLater(plugin, 15L);
@@ -204,7 +209,7 @@ public class WitchCursed extends CustomMob {
 
         center.getWorld().playSound(center, Sound.ENTITY_ELDER_GUARDIAN_CURSE, 1.8f, 1.2f);
 
-        new BukkitRunnable() {
+        new MobTask() {
             int duration = 120; // 6 secondes
             @Override
             public void run() {
@@ -231,29 +236,17 @@ public class WitchCursed extends CustomMob {
                     }
                 }
             }
-        }.runTaskTimer(plugin, 0L, 5L);
+        }.runTimer(plugin, entity, 0L, 5L);
     }
 
     private void startCurseAura() {
-        new BukkitRunnable() {
+        new MobTask() {
             @Override
             public void run() {
                 if (entity == null || entity.isDead()) { cancel(); return; }
                 entity.getWorld().spawnParticle(Particle.WITCH, entity.getLocation().add(0, 1, 0), 3, 0.5, 0.5, 0.5, 0.01);
             }
-        }.runTaskTimer(plugin, 0L, 10L);
-    }
-
-    // --- Fonctions utilitaires ---
-    protected List<Player> getNearbyPlayers(double radius) {
-        return getNearbyPlayersAt(entity.getLocation(), radius);
-    }
-
-    protected List<Player> getNearbyPlayersAt(Location location, double radius) {
-        return location.getWorld().getNearbyEntities(location, radius, radius, radius).stream()
-                .filter(e -> e instanceof Player && ( ((Player)e).getGameMode() == GameMode.SURVIVAL || ((Player)e).getGameMode() == GameMode.ADVENTURE ) )
-                .map(e -> (Player) e)
-                .collect(Collectors.toList());
+        }.runTimer(plugin, entity, 0L, 10L);
     }
 
     @Override
@@ -1,6 +1,8 @@
 package fr.custommobs.mobs.simple;
 
 import fr.custommobs.CustomMobsPlugin;
+import fr.custommobs.managers.MobBehaviorScheduler;
+import fr.custommobs.managers.MobTask;
 import fr.custommobs.mobs.CustomMob;
 import org.bukkit.*;
 import org.bukkit.attribute.Attribute;
@@ -10,12 +12,9 @@ import org.bukkit.entity.Zombie;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class ZombieWarrior extends CustomMob {
 
@@ -69,7 +68,7 @@ public class ZombieWarrior extends CustomMob {
      */
     @Override
     protected void startBehaviors() {
-        new BukkitRunnable() {
+        new MobTask() {
             @Override
             public void run() {
                 if (entity == null || entity.isDead()) {
@@ -83,7 +82,7 @@ public class ZombieWarrior extends CustomMob {
                     onPlayerNear(target);
                 }
             }
-        }.runTaskTimer(plugin, 20L, 20L); // S'exécute chaque seconde
+        }.runTimer(plugin, entity, MobBehaviorScheduler.spreadDelay(entity, 20L), 20L); // S'exécute chaque seconde
     }
 
     /**
@@ -147,7 +146,7 @@ public class ZombieWarrior extends CustomMob {
         entity.getWorld().playSound(entity.getLocation(), Sound.ENTITY_ZOMBIE_ATTACK_IRON_DOOR, 1.5f, 1.2f);
         final double originalSpeed = entity.getAttribute(Attribute.MOVEMENT_SPEED).getBaseValue();
 
-        new BukkitRunnable() {
+        new MobTask() {
             int ticks = 0;
 
             @Override
@@ -184,7 +183,7 @@ public class ZombieWarrior extends CustomMob {
 
                 ticks++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTimer(plugin, entity, 0L, 1L);
     }
 
     /**
@@ -222,26 +221,13 @@ public class ZombieWarrior extends CustomMob {
      * @return Le joueur le plus proche, ou null si aucun n'est trouvé.
      */
     protected Player findNearestPlayerOptimized(double radius) {
-        // Trouve les joueurs dans un rayon carré, puis filtre par distance et ligne de vue
-        return entity.getWorld().getPlayers().stream()
-                .filter(p -> (p.getGameMode() == GameMode.SURVIVAL || p.getGameMode() == GameMode.ADVENTURE)
-                        && p.getLocation().distanceSquared(entity.getLocation()) < radius * radius
-                        && p.hasLineOfSight(entity))
-                .min(Comparator.comparingDouble(p -> p.getLocation().distanceSquared(entity.getLocation())))
-                .orElse(null);
-    }
-
-    /**
-     * Récupère une liste des joueurs proches.
-     * @param radius Le rayon de recherche.
-     * @return Une liste de joueurs.
-     */
-    protected List<Player> getNearbyPlayers(double radius) {
-        return entity.getNearbyEntities(radius, radius, radius).stream()
-                .filter(e -> e instanceof Player)
-                .map(e -> (Player) e)
-                .filter(p -> p.getGameMode() == GameMode.SURVIVAL || p.getGameMode() == GameMode.ADVENTURE)
-                .collect(Collectors.toList());
+        // Les plus proches d'abord : la ligne de vue (coûteuse) n'est testée que jusqu'au premier visible
+        for (Player player : plugin.getPlayerIndex().getNearest(entity.getLocation(), 8, radius)) {
+            if (player.hasLineOfSight(entity)) {
+                return player;
+            }
+        }
+        return null;
     }
 
     @Override
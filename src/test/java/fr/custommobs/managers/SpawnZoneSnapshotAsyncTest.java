@@ -0,0 +1,220 @@
+package fr.custommobs.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Garantit que la recherche asynchrone de SpawnManager (SpawnZoneSnapshot.findCell) ne lit jamais le monde :
+ * une fois la capture faite, tout appel au serveur, au monde ou à un joueur hors du thread principal
+ * est relevé comme une violation. Vérifie aussi qu'une capture reste cohérente pendant que l'index change.
+ */
+class SpawnZoneSnapshotAsyncTest {
+
+    private static final int ZONE_SIZE = 48;
+    private static final double MIN_PLAYER_DISTANCE_SQUARED = 12 * 12;
+
+    /**
+     * Sol plat à y=64
+     */
+    private static final SpawnSurfaceIndex.BlockView TERRAIN = (x, y, z) ->
+            y < 64 ? SpawnSurfaceIndex.SOLID_SAFE : SpawnSurfaceIndex.CLEAR;
+
+    private final List<String> violations = Collections.synchronizedList(new ArrayList<>());
+    private volatile boolean armed;
+    private Thread mainThread;
+    private Object previousServer;
+
+    @BeforeEach
+    void installServer() throws ReflectiveOperationException {
+        mainThread = Thread.currentThread();
+        Field field = Bukkit.class.getDeclaredField("server");
+        field.setAccessible(true);
+        previousServer = field.get(null);
+        field.set(null, guarded(Server.class, "Server", (method, args) -> null));
+    }
+
+    @AfterEach
+    void restoreServer() throws ReflectiveOperationException {
+        Field field = Bukkit.class.getDeclaredField("server");
+        field.setAccessible(true);
+        field.set(null, previousServer);
+    }
+
+    @Test
+    void findCellNeverTouchesTheWorld() throws Exception {
+        World[] world = new World[1];
+        Player player = guarded(Player.class, "Player", (method, args) -> switch (method) {
+            case "getLocation" -> new Location(world[0], 24, 64, 24);
+            case "getUniqueId" -> UUID.nameUUIDFromBytes("player".getBytes());
+            default -> null;
+        });
+        world[0] = guarded(World.class, "World", (method, args) -> switch (method) {
+            case "getPlayers" -> List.of(player);
+            case "getMinHeight" -> -64;
+            case "getMaxHeight" -> 320;
+            default -> null;
+        });
+
+        // Capture sur le "thread principal" : les accès au monde sont permis
+        SpawnSurfaceIndex index = new SpawnSurfaceIndex(0, 40, 0, ZONE_SIZE - 1, 90, ZONE_SIZE - 1);
+        index.updateRegion(TERRAIN, 0, 0, ZONE_SIZE - 1, ZONE_SIZE - 1);
+        SpawnZoneSnapshot snapshot = SpawnZoneSnapshot.capture("test", index, world[0]);
+        byte mask = SpawnSurfaceIndex.maskFor(2);
+
+        // Étape asynchrone : plus aucun accès autorisé
+        armed = true;
+        List<Integer> cells = CompletableFuture.supplyAsync(() -> {
+            Random random = new Random(42);
+            List<Integer> found = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                int cell = snapshot.findCell(mask, 10, MIN_PLAYER_DISTANCE_SQUARED, random);
+                if (cell >= 0) found.add(cell);
+            }
+            return found;
+        }).get(10, TimeUnit.SECONDS);
+        armed = false;
+
+        assertEquals(List.of(), violations, "Accès au monde depuis la recherche asynchrone");
+        assertTrue(cells.size() > 900, "La recherche devrait trouver des cellules: " + cells.size());
+        for (int cell : cells) {
+            double dx = snapshot.cellX(cell) + 0.5 - 24;
+            double dy = snapshot.cellY(cell) - 64;
+            double dz = snapshot.cellZ(cell) + 0.5 - 24;
+            assertTrue(dx * dx + dy * dy + dz * dz >= MIN_PLAYER_DISTANCE_SQUARED, "Cellule trop proche du joueur");
+        }
+    }
+
+    @Test
+    void findCellStaysConsistentWhileTheIndexChanges() throws Exception {
+        World world = guarded(World.class, "World", (method, args) -> switch (method) {
+            case "getPlayers" -> List.of();
+            case "getMinHeight" -> -64;
+            case "getMaxHeight" -> 320;
+            default -> null;
+        });
+        SpawnSurfaceIndex index = new SpawnSurfaceIndex(0, 40, 0, ZONE_SIZE - 1, 90, ZONE_SIZE - 1);
+        index.updateRegion(TERRAIN, 0, 0, ZONE_SIZE - 1, ZONE_SIZE - 1);
+        byte mask = SpawnSurfaceIndex.maskFor(2);
+
+        // Capture publiée par le "thread principal", avec l'état de l'index au moment de la copie
+        record Published(SpawnZoneSnapshot snapshot, boolean halfUnloaded) {
+        }
+        AtomicReference<Published> published = new AtomicReference<>(
+                new Published(SpawnZoneSnapshot.capture("test", index, world), false));
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+        armed = true;
+        List<CompletableFuture<Integer>> readers = new ArrayList<>();
+        for (int reader = 0; reader < 4; reader++) {
+            long seed = reader;
+            readers.add(CompletableFuture.supplyAsync(() -> {
+                Random random = new Random(seed);
+                long lastGeneration = Long.MIN_VALUE;
+                int found = 0;
+                while (running.get() && errors.size() < 10) {
+                    Published current = published.get();
+                    SpawnZoneSnapshot snapshot = current.snapshot();
+                    if (snapshot.getGeneration() < lastGeneration) {
+                        errors.add("Génération en recul: " + snapshot.getGeneration() + " < " + lastGeneration);
+                    }
+                    lastGeneration = snapshot.getGeneration();
+
+                    for (int i = 0; i < 50; i++) {
+                        int cell = snapshot.findCell(mask, 10, 0, random);
+                        if (cell < 0) continue;
+                        found++;
+                        // Chunk x < 16 déchargé : ses cellules et celles de la colonne voisine x = 16 sont retirées
+                        if (snapshot.cellY(cell) != 64 || current.halfUnloaded() && snapshot.cellX(cell) <= 16) {
+                            errors.add("Cellule invalide pour cette capture: " + snapshot.cellX(cell) + ","
+                                    + snapshot.cellY(cell) + "," + snapshot.cellZ(cell));
+                        }
+                    }
+                }
+                return found;
+            }));
+        }
+
+        // Déchargements et rechargements successifs de la moitié de la zone pendant les lectures
+        for (int swap = 0; swap < 500; swap++) {
+            boolean unload = swap % 2 == 0;
+            if (unload) {
+                index.removeRegion(0, 0, 15, ZONE_SIZE - 1);
+            } else {
+                index.updateRegion(TERRAIN, 0, 0, 16, ZONE_SIZE - 1);
+            }
+            published.set(new Published(SpawnZoneSnapshot.capture("test", index, world), unload));
+        }
+        running.set(false);
+
+        int found = 0;
+        for (CompletableFuture<Integer> reader : readers) {
+            found += reader.get(10, TimeUnit.SECONDS);
+        }
+        armed = false;
+
+        assertEquals(List.of(), violations, "Accès au monde depuis la recherche asynchrone");
+        assertEquals(List.of(), errors);
+        assertTrue(found > 0, "Les lecteurs devraient trouver des cellules");
+    }
+
+    @FunctionalInterface
+    private interface Answer {
+        Object answer(String method, Object[] args);
+    }
+
+    /**
+     * Proxy qui répond normalement avant armement et relève chaque appel après
+     */
+    private <T> T guarded(Class<T> type, String name, Answer answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> self == args[0];
+                    case "hashCode" -> System.identityHashCode(self);
+                    default -> name;
+                };
+            }
+            if (armed && Thread.currentThread() != mainThread) {
+                violations.add(name + "#" + method.getName() + " (" + Thread.currentThread().getName() + ")");
+            }
+            Object result = answer.answer(method.getName(), args);
+            return result != null ? result : defaultValue(method);
+        }));
+    }
+
+    private static Object defaultValue(Method method) {
+        Class<?> type = method.getReturnType();
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0f;
+        return 0d;
+    }
+}